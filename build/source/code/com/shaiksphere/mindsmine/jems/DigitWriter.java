@@ -0,0 +1,389 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+
+package com.shaiksphere.mindsmine.jems;
+
+import java.util.Arrays;
+
+/**
+ * Writes the digits of unsigned 64-bit and 128-bit values in a radix, backward from the end of a character array,
+ * for the formatting, conversion and encoding methods of the library.
+ * <br><br>
+ * Decimal values are written two digits at a time from a lookup table, and in <code>int</code> arithmetic once they
+ * fit. To a radix that is a power of two, the digits are shifted and masked. Otherwise, the value is split into chunks
+ * of as many digits as fit in an <code>int</code>, hence a single <code>long</code> division per chunk, and the digits
+ * of each chunk are split off with a precomputed reciprocal of the radix instead of a division; a 128-bit value is
+ * reduced to 64 bits by dividing its high and low halves by the chunk power in turn. The exact number of digits is
+ * found from the bit length of the value and a single comparison with a precomputed power of the radix.
+ * <br><br>
+ * Writers are immutable, hence thread-safe. Callers writing into something other than a character array format into
+ * the scratch array of the current thread, and copy the digits from there.
+ *
+ * @author Mohammed Shaik Hussain Ali
+ *
+ * @since 4.9.0
+ *
+ */
+final class DigitWriter {
+    // Digits of the largest 128-bit value in binary
+    static final int MAX_DIGITS = Long.SIZE * 2;
+
+    private static final DigitWriter[] WRITERS = new DigitWriter[Character.MAX_RADIX + 1];
+
+    private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[MAX_DIGITS]);
+
+    static {
+        for (int radix = Character.MIN_RADIX; radix <= Character.MAX_RADIX; radix++) {
+            WRITERS[radix] = new DigitWriter(NumeralSystemHelper.DIGITS, radix);
+        }
+    }
+
+    private final int radix;
+
+    private final char[] digits;
+
+    // Tens and ones digits of the numbers from 0 to 99 when the radix is 10, or null
+    private final char[] tens;
+    private final char[] ones;
+
+    // Bits per digit if the radix is a power of two, or 0
+    private final int shift;
+
+    // Digits of a chunk, i.e. the most that always fit in an int, and the radix raised to that many
+    private final int chunk;
+    private final long chunkPower;
+
+    // Multiplier and shift dividing any non-negative int by the radix, i.e. n / radix is
+    // (n * reciprocal) >>> reciprocalShift, where reciprocal is 2^reciprocalShift / radix rounded up
+    private final long reciprocal;
+    private final int reciprocalShift;
+
+    // The radix raised to each count of digits, as long as the power fits in 128 bits, split into high and low bits
+    private final long[] powerHighs;
+    private final long[] powerLows;
+
+    // Digits of the smallest value of each bit length, which those of the other values of the length exceed by at most
+    // one when the radix is not a power of two
+    private final byte[] lengths;
+
+    DigitWriter(char[] digits, int radix) {
+        this.radix = radix;
+        this.digits = digits;
+
+        if (radix == 10) {
+            this.tens = new char[100];
+            this.ones = new char[100];
+
+            for (int i = 0; i < 100; i++) {
+                tens[i] = digits[i / 10];
+                ones[i] = digits[i % 10];
+            }
+        } else {
+            this.tens = null;
+            this.ones = null;
+        }
+
+        this.shift = isPowerOfTwo(radix) ? Integer.numberOfTrailingZeros(radix) : 0;
+
+        int count = 0;
+        long power = 1L;
+
+        while (power * radix <= Integer.MAX_VALUE) {
+            power *= radix;
+            count++;
+        }
+
+        this.chunk = count;
+        this.chunkPower = power;
+
+        this.reciprocalShift = Integer.SIZE - 1 + (Integer.SIZE - Integer.numberOfLeadingZeros(radix - 1));
+        this.reciprocal = ((1L << reciprocalShift) + radix - 1) / radix;
+
+        // Powers up to 2^128 - 1, by multiplying 128-bit values by the radix
+        long[] highs = new long[MAX_DIGITS];
+        long[] lows = new long[MAX_DIGITS];
+
+        lows[0] = 1L;
+
+        for (count = 1; ; count++) {
+            long high = highs[count - 1];
+            long low = lows[count - 1];
+
+            long product = high * radix + multiplyHigh(low, radix);
+
+            if (multiplyHigh(high, radix) != 0 || Long.compareUnsigned(product, high * radix) < 0) {
+                break;
+            }
+
+            highs[count] = product;
+            lows[count] = low * radix;
+        }
+
+        this.powerHighs = Arrays.copyOf(highs, count);
+        this.powerLows = Arrays.copyOf(lows, count);
+
+        this.lengths = new byte[MAX_DIGITS + 1];
+
+        lengths[0] = 1;
+
+        for (int bits = 1, length = 1; bits <= MAX_DIGITS; bits++) {
+            long high = (bits > Long.SIZE) ? 1L << (bits - Long.SIZE - 1) : 0L;
+            long low = (bits > Long.SIZE) ? 0L : 1L << (bits - 1);
+
+            while (getExactLength(high, low, length) > length) {
+                length++;
+            }
+
+            lengths[bits] = (byte) length;
+        }
+    }
+
+    /*
+     * The writer of the specified radix, between Character#MIN_RADIX and Character#MAX_RADIX, with the digits of
+     * Long#toString(long, int).
+     */
+    static DigitWriter get(int radix) {
+        return WRITERS[radix];
+    }
+
+    /*
+     * An array of at least MAX_DIGITS characters, reused by all the calls made by the current thread.
+     */
+    static char[] getScratch() {
+        return SCRATCH.get();
+    }
+
+    static boolean isPowerOfTwo(int radix) {
+        return (radix & (radix - 1)) == 0;
+    }
+
+    /*
+     * The high 64 bits of the unsigned product of a long and a small positive int, from those of the signed product.
+     */
+    static long multiplyHigh(long value, int factor) {
+        return Math.multiplyHigh(value, factor) + ((value >> (Long.SIZE - 1)) & factor);
+    }
+
+    /*
+     * The number of digits of the unsigned value.
+     */
+    int getLength(long value) {
+        int bits = Long.SIZE - Long.numberOfLeadingZeros(value);
+
+        if (shift != 0) {
+            return Math.max((bits + shift - 1) / shift, 1);
+        }
+
+        int length = lengths[bits];
+
+        if (length < powerLows.length && powerHighs[length] == 0
+                && Long.compareUnsigned(value, powerLows[length]) >= 0) {
+            length++;
+        }
+
+        return length;
+    }
+
+    /*
+     * The number of digits of the unsigned 128-bit value.
+     */
+    int getLength(long high, long low) {
+        if (high == 0) {
+            return getLength(low);
+        }
+
+        int bits = Long.SIZE * 2 - Long.numberOfLeadingZeros(high);
+
+        if (shift != 0) {
+            return (bits + shift - 1) / shift;
+        }
+
+        return getExactLength(high, low, lengths[bits]);
+    }
+
+    /*
+     * Writes the digits of the unsigned value backward, ending before the specified index, and returns the index of
+     * the first digit.
+     */
+    int write(long value, char[] chars, int end) {
+        int position = end;
+
+        if (shift != 0) {
+            int mask = radix - 1;
+
+            do {
+                chars[--position] = digits[(int) value & mask];
+
+                value >>>= shift;
+            } while (value != 0);
+
+            return position;
+        }
+
+        if (tens != null) {
+            return writeDecimal(value, chars, position);
+        }
+
+        if (value < 0) {
+            long quotient = Long.divideUnsigned(value, chunkPower);
+
+            position = writeChunk((int) (value - quotient * chunkPower), chars, position, chunk);
+
+            value = quotient;
+        }
+
+        while (value >= chunkPower) {
+            long quotient = value / chunkPower;
+
+            position = writeChunk((int) (value - quotient * chunkPower), chars, position, chunk);
+
+            value = quotient;
+        }
+
+        return writeChunk((int) value, chars, position, 1);
+    }
+
+    /*
+     * Writes the digits of the unsigned 128-bit value backward, ending before the specified index, and returns the
+     * index of the first digit.
+     */
+    int write(long high, long low, char[] chars, int end) {
+        if (high == 0) {
+            return write(low, chars, end);
+        }
+
+        int position = end;
+
+        if (shift != 0) {
+            for (int bit = 0, count = getLength(high, low); count > 0; bit += shift, count--) {
+                chars[--position] = digits[getBits(high, low, bit)];
+            }
+
+            return position;
+        }
+
+        while (high != 0) {
+            long quotient = Long.divideUnsigned(high, chunkPower);
+            long remainder = high - quotient * chunkPower;
+
+            high = quotient;
+
+            long upper = (remainder << Integer.SIZE) | (low >>> Integer.SIZE);
+
+            quotient = upper / chunkPower;
+            remainder = upper - quotient * chunkPower;
+
+            long lower = (remainder << Integer.SIZE) | (low & 0xFFFFFFFFL);
+
+            long lowerQuotient = lower / chunkPower;
+
+            low = (quotient << Integer.SIZE) | lowerQuotient;
+
+            position = writeChunk((int) (lower - lowerQuotient * chunkPower), chars, position, chunk);
+        }
+
+        return write(low, chars, position);
+    }
+
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+
+    // Returns the length of the value, from a length it has at least, and exceeds by at most one
+    private int getExactLength(long high, long low, int length) {
+        if (length < powerHighs.length) {
+            long powerHigh = powerHighs[length];
+
+            if (high != powerHigh ? Long.compareUnsigned(high, powerHigh) > 0
+                    : Long.compareUnsigned(low, powerLows[length]) >= 0) {
+                return length + 1;
+            }
+        }
+
+        return length;
+    }
+
+    // Returns the digit of a radix that is a power of two, at the specified bit of the 128-bit value
+    private int getBits(long high, long low, int bit) {
+        long bits;
+
+        if (bit >= Long.SIZE) {
+            bits = high >>> (bit - Long.SIZE);
+        } else if (bit + shift <= Long.SIZE) {
+            bits = low >>> bit;
+        } else {
+            bits = (low >>> bit) | (high << (Long.SIZE - bit));
+        }
+
+        return (int) bits & (radix - 1);
+    }
+
+    private int writeDecimal(long value, char[] chars, int position) {
+        if (value < 0) {
+            long quotient = Long.divideUnsigned(value, 100);
+            int pair = (int) (value - quotient * 100);
+
+            chars[--position] = ones[pair];
+            chars[--position] = tens[pair];
+
+            value = quotient;
+        }
+
+        while (value > Integer.MAX_VALUE) {
+            long quotient = value / 100;
+            int pair = (int) (value - quotient * 100);
+
+            chars[--position] = ones[pair];
+            chars[--position] = tens[pair];
+
+            value = quotient;
+        }
+
+        int small = (int) value;
+
+        while (small >= 100) {
+            int quotient = small / 100;
+            int pair = small - quotient * 100;
+
+            chars[--position] = ones[pair];
+            chars[--position] = tens[pair];
+
+            small = quotient;
+        }
+
+        chars[--position] = ones[small];
+
+        if (small >= 10) {
+            chars[--position] = tens[small];
+        }
+
+        return position;
+    }
+
+    // Writes the digits of a chunk backward, at least the specified count, and returns the position of the first
+    private int writeChunk(int value, char[] chars, int position, int count) {
+        do {
+            int quotient = (int) ((value * reciprocal) >>> reciprocalShift);
+
+            chars[--position] = digits[value - quotient * radix];
+
+            value = quotient;
+        } while (--count > 0 || value != 0);
+
+        return position;
+    }
+}
@@ -0,0 +1,411 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * An immutable, compiled pattern for approximate string matching, based on the Levenshtein (edit) distance.
+ * <br><br>
+ * The edit distance between two strings is the minimum number of single code point insertions, deletions and
+ * substitutions needed to change one into the other. For patterns of up to 64 code points, the distance is computed
+ * with the bit-parallel algorithm of Myers, as formulated by Hyyr&ouml;, in time linear in the length of the text; the
+ * bit masks of the pattern are computed once, when the pattern is compiled, and reused for every text. Longer patterns
+ * fall back to a banded dynamic programming algorithm, whose cost grows with the distance rather than with the product
+ * of both lengths.
+ * <br><br>
+ * When the matcher is lenient, both the pattern and the texts are compared the same way as
+ * {@link StringHelper#areEqual(CharSequence, CharSequence, boolean)} does: the surrounding whitespace is ignored, the
+ * case is ignored, and a blank (or <code>null</code>) sequence is treated as empty. Hence, a distance of <code>0</code>
+ * means that the text and the pattern are leniently equal.
+ * <br><br>
+ * Instances are thread-safe, and can be shared to match one pattern against many texts.
+ * <br><br>
+ * Example usage:
+ *
+ * <pre>
+ *     FuzzyMatcher matcher = FuzzyMatcher.compile("Jonathan", true);
+ *
+ *     matcher.getDistance(" JONATHAN ");           // 0
+ *     matcher.getDistance("Johnathan");            // 1
+ *     matcher.isWithinDistance("Jon", 2);          // false
+ * </pre>
+ *
+ * @see StringHelper#getEditDistance(CharSequence, CharSequence, boolean)
+ * @see <a href="https://en.wikipedia.org/wiki/Levenshtein_distance">Levenshtein distance (Wikipedia)</a>
+ *
+ * @author Mohammed Shaik Hussain Ali
+ *
+ * @since 4.9.0
+ *
+ */
+public final class FuzzyMatcher {
+    private static final int MAXIMUM_BIT_PARALLEL_LENGTH = Long.SIZE;
+
+    private static final int ASCII_SIZE = 128;
+
+    private final boolean lenient;
+
+    private final int[] pattern;
+
+    // Positions of each code point in the pattern, as bit masks; only for patterns of up to 64 code points
+    private final long[] asciiMasks;
+    private final int[] otherCodePoints;
+    private final long[] otherMasks;
+
+    private FuzzyMatcher(int[] pattern, boolean lenient) {
+        this.lenient = lenient;
+        this.pattern = pattern;
+
+        if (pattern.length > MAXIMUM_BIT_PARALLEL_LENGTH) {
+            this.asciiMasks = null;
+            this.otherCodePoints = null;
+            this.otherMasks = null;
+
+            return;
+        }
+
+        long[] asciiMasks = new long[ASCII_SIZE];
+
+        int[] others = Arrays.stream(pattern).filter(codePoint -> codePoint >= ASCII_SIZE).distinct().sorted()
+                .toArray();
+        long[] otherMasks = new long[others.length];
+
+        for (int i = 0; i < pattern.length; i++) {
+            if (pattern[i] < ASCII_SIZE) {
+                asciiMasks[pattern[i]] |= 1L << i;
+            } else {
+                otherMasks[Arrays.binarySearch(others, pattern[i])] |= 1L << i;
+            }
+        }
+
+        this.asciiMasks = asciiMasks;
+        this.otherCodePoints = others;
+        this.otherMasks = otherMasks;
+    }
+
+    /**
+     * Compiles the passed pattern.
+     *
+     * @param pattern to compile
+     * @param lenient whether to be lenient or not
+     *
+     * @return a matcher for the pattern
+     *
+     * @throws IllegalArgumentException if the pattern is <code>null</code> and lenient is <code>false</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public static FuzzyMatcher compile(CharSequence pattern, boolean lenient) {
+        if (pattern == null && !lenient) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        return new FuzzyMatcher(toCodePoints(pattern, lenient), lenient);
+    }
+
+    /**
+     * Returns the edit distance between the pattern and the passed text.
+     *
+     * @param text to compare with the pattern
+     *
+     * @return the edit distance, in code points
+     *
+     * @throws IllegalArgumentException if the text is <code>null</code> and the matcher is not lenient
+     *
+     * @since 4.9.0
+     *
+     */
+    public int getDistance(CharSequence text) {
+        if (text == null && !lenient) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        return getDistance(text, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns <code>true</code> if the edit distance between the pattern and the passed text is at most the specified
+     * maximum, <code>false</code> otherwise.
+     * <br><br>
+     * The computation stops as soon as the distance is known to exceed the maximum, so this method is usually faster
+     * than comparing the result of {@link FuzzyMatcher#getDistance(CharSequence)}.
+     *
+     * @param text to compare with the pattern
+     * @param maxDistance the largest acceptable edit distance
+     *
+     * @return whether the text is within the maximum edit distance; always <code>false</code> for a <code>null</code>
+     * text, unless the matcher is lenient
+     *
+     * @throws IllegalArgumentException if the maximum distance is negative
+     *
+     * @since 4.9.0
+     *
+     */
+    public boolean isWithinDistance(CharSequence text, int maxDistance) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("Negative number is not allowed as an argument.");
+        }
+
+        if (text == null && !lenient) {
+            return false;
+        }
+
+        return getDistance(text, maxDistance) <= maxDistance;
+    }
+
+    /**
+     * Returns the edit distances between the pattern and each of the passed texts.
+     *
+     * @see FuzzyMatcher#getDistance(CharSequence)
+     *
+     * @param texts to compare with the pattern
+     *
+     * @return the edit distances, in the order of the texts
+     *
+     * @throws IllegalArgumentException if the list is <code>null</code>, or if any text is <code>null</code> and the
+     * matcher is not lenient
+     *
+     * @since 4.9.0
+     *
+     */
+    public int[] getDistances(List<? extends CharSequence> texts) {
+        if (texts == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        int[] distances = new int[texts.size()];
+
+        int index = 0;
+
+        for (CharSequence text : texts) {
+            distances[index++] = getDistance(text);
+        }
+
+        return distances;
+    }
+
+    /**
+     * Returns a bit set where the bit at each index is set if the text at the same index is within the maximum edit
+     * distance of the pattern.
+     *
+     * @see FuzzyMatcher#isWithinDistance(CharSequence, int)
+     *
+     * @param texts to compare with the pattern
+     * @param maxDistance the largest acceptable edit distance
+     *
+     * @return a bit set of the texts within the maximum edit distance
+     *
+     * @throws IllegalArgumentException if the list is <code>null</code>, or if the maximum distance is negative
+     *
+     * @since 4.9.0
+     *
+     */
+    public BitSet getMatches(List<? extends CharSequence> texts, int maxDistance) {
+        if (texts == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        BitSet bitSet = new BitSet(texts.size());
+
+        int index = 0;
+
+        for (CharSequence text : texts) {
+            if (isWithinDistance(text, maxDistance)) {
+                bitSet.set(index);
+            }
+
+            index++;
+        }
+
+        return bitSet;
+    }
+
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+
+    /*
+     * Code points of the region to compare; in lenient mode, the trimmed region, case folded, or nothing if blank.
+     */
+    private static int[] toCodePoints(CharSequence chars, boolean lenient) {
+        if (lenient && StringHelper.isBlank(chars)) {
+            return new int[0];
+        }
+
+        int start = lenient ? StringHelper.getTrimmedStart(chars) : 0;
+        int end = lenient ? StringHelper.getTrimmedEnd(chars, start) : chars.length();
+
+        int[] codePoints = new int[Character.codePointCount(chars, start, end)];
+
+        for (int i = 0, index = start; i < codePoints.length; i++) {
+            int codePoint = Character.codePointAt(chars, index);
+
+            codePoints[i] = lenient ? StringHelper.foldCase(codePoint) : codePoint;
+
+            index += Character.charCount(codePoint);
+        }
+
+        return codePoints;
+    }
+
+    /*
+     * The edit distance, or any value greater than maxDistance once it is known to exceed maxDistance.
+     */
+    private int getDistance(CharSequence text, int maxDistance) {
+        if (asciiMasks == null) {
+            int[] codePoints = toCodePoints(text, lenient);
+
+            return getBandedDistance(codePoints, maxDistance);
+        }
+
+        if (lenient && StringHelper.isBlank(text)) {
+            return pattern.length;
+        }
+
+        int start = lenient ? StringHelper.getTrimmedStart(text) : 0;
+        int end = lenient ? StringHelper.getTrimmedEnd(text, start) : text.length();
+
+        if (pattern.length == 0) {
+            return Character.codePointCount(text, start, end);
+        }
+
+        long last = 1L << (pattern.length - 1);
+
+        long positiveVertical = -1L;
+        long negativeVertical = 0L;
+
+        int distance = pattern.length;
+
+        for (int index = start; index < end; ) {
+            int codePoint = Character.codePointAt(text, index);
+
+            index += Character.charCount(codePoint);
+
+            long equal = getMask(lenient ? StringHelper.foldCase(codePoint) : codePoint);
+
+            long xVertical = equal | negativeVertical;
+            long xHorizontal = (((equal & positiveVertical) + positiveVertical) ^ positiveVertical) | equal;
+
+            long positiveHorizontal = negativeVertical | ~(xHorizontal | positiveVertical);
+            long negativeHorizontal = positiveVertical & xHorizontal;
+
+            if ((positiveHorizontal & last) != 0) {
+                distance++;
+            } else if ((negativeHorizontal & last) != 0) {
+                distance--;
+            }
+
+            // Each remaining char can lower the distance by one at most
+            if (distance - (end - index) > maxDistance) {
+                return distance - (end - index);
+            }
+
+            positiveHorizontal = (positiveHorizontal << 1) | 1L;
+            negativeHorizontal = negativeHorizontal << 1;
+
+            positiveVertical = negativeHorizontal | ~(xVertical | positiveHorizontal);
+            negativeVertical = positiveHorizontal & xVertical;
+        }
+
+        return distance;
+    }
+
+    private long getMask(int codePoint) {
+        if (codePoint < ASCII_SIZE) {
+            return asciiMasks[codePoint];
+        }
+
+        int index = Arrays.binarySearch(otherCodePoints, codePoint);
+
+        return (index < 0) ? 0L : otherMasks[index];
+    }
+
+    /*
+     * Ukkonen's banded algorithm, doubling the band until the distance fits in it.
+     */
+    private int getBandedDistance(int[] text, int maxDistance) {
+        int band = Math.max(Math.abs(pattern.length - text.length), 1);
+
+        while (true) {
+            int limit = (int) Math.min((long) band, maxDistance);
+            int distance = getDistanceWithinBand(text, limit);
+
+            if (distance <= limit || limit == maxDistance) {
+                return distance;
+            }
+
+            band = (band > Integer.MAX_VALUE / 2) ? Integer.MAX_VALUE : band * 2;
+        }
+    }
+
+    /*
+     * The edit distance if at most band, or band + 1 otherwise; only the diagonals within band are computed.
+     */
+    private int getDistanceWithinBand(int[] text, int band) {
+        int m = pattern.length;
+        int n = text.length;
+
+        if (Math.abs(m - n) > band) {
+            return band + 1;
+        }
+
+        int infinity = band + 1;
+
+        int[] previous = new int[n + 1];
+        int[] current = new int[n + 1];
+
+        for (int j = 0; j <= n; j++) {
+            previous[j] = Math.min(j, infinity);
+        }
+
+        for (int i = 1; i <= m; i++) {
+            int low = Math.max(1, i - band);
+            int high = (int) Math.min(n, (long) i + band);
+
+            current[low - 1] = (low == 1) ? Math.min(i, infinity) : infinity;
+
+            int minimum = current[low - 1];
+
+            for (int j = low; j <= high; j++) {
+                int value = previous[j - 1] + ((pattern[i - 1] == text[j - 1]) ? 0 : 1);
+
+                if (j - (i - 1) <= band) {
+                    value = Math.min(value, previous[j] + 1);
+                }
+
+                value = Math.min(Math.min(value, current[j - 1] + 1), infinity);
+
+                current[j] = value;
+                minimum = Math.min(minimum, value);
+            }
+
+            if (minimum >= infinity) {
+                return infinity;
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return previous[n];
+    }
+}
@@ -0,0 +1,541 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+import java.util.Arrays;
+
+/**
+ * Compact, URL-safe encodings of numeric identifiers, i.e. unsigned 64-bit and 128-bit values, such as database keys,
+ * random tokens or UUIDs.
+ * <br><br>
+ * Each encoding writes the value in a single radix with its own alphabet, most significant digit first, without a
+ * sign and without leading zeros unless a minimum width is requested. Fixed width identifiers sort as their values
+ * do, since the alphabets are in ASCII order, except for {@link IdCodec#BASE32}, whose letters precede its digits.
+ * <br><br>
+ * Encoding and decoding do not allocate: identifiers are written backward into the caller's array, with their exact
+ * length found from the bit length of the value, and decoded from any range of a character sequence, with a single
+ * table lookup per character, which validates the character, folds its case and resolves its aliases at once. The
+ * methods returning a <code>String</code> allocate it, and nothing else.
+ * <br><br>
+ * A 128-bit value is passed as its high and low 64 bits, e.g. those of
+ * {@link java.util.UUID#getMostSignificantBits()} and {@link java.util.UUID#getLeastSignificantBits()}, and decoded
+ * into two consecutive elements of an array, high first.
+ * <br><br>
+ * Example usage:
+ *
+ * <pre>
+ *     IdCodec.BASE62.encode(-1L);                               // "LygHa16AHYF"
+ *     IdCodec.CROCKFORD.encode(0xFFFFL);                        // "1ZZZ"
+ *     IdCodec.CROCKFORD.decode("1zz-z");                        // 65535
+ *
+ *     char[] chars = new char[22];
+ *
+ *     IdCodec.BASE62.encode(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), 22, chars, 0);
+ * </pre>
+ *
+ * @see NumeralSystemHelper
+ * @see <a href="https://www.crockford.com/base32.html">Base 32 (Douglas Crockford)</a>
+ * @see <a href="https://en.wikipedia.org/wiki/Base32">Base32 (Wikipedia)</a>
+ *
+ * @author Mohammed Shaik Hussain Ali
+ *
+ * @since 4.9.0
+ *
+ */
+public enum IdCodec {
+    /**
+     * The alphabet of RFC 4648, i.e. <code>A</code> through <code>Z</code> followed by <code>2</code> through
+     * <code>7</code>. Decoding ignores the case.
+     *
+     * @since 4.9.0
+     *
+     */
+    BASE32("ABCDEFGHIJKLMNOPQRSTUVWXYZ234567", "", false),
+
+    /**
+     * The digits of {@link Long#toString(long, int)} in radix 36, i.e. <code>0</code> through <code>9</code> followed
+     * by <code>a</code> through <code>z</code>. Decoding ignores the case.
+     *
+     * @since 4.9.0
+     *
+     */
+    BASE36("0123456789abcdefghijklmnopqrstuvwxyz", "", false),
+
+    /**
+     * The digits <code>0</code> through <code>9</code>, followed by <code>A</code> through <code>Z</code> and
+     * <code>a</code> through <code>z</code>. Decoding is case-sensitive.
+     *
+     * @since 4.9.0
+     *
+     */
+    BASE62("0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz", "", false),
+
+    /**
+     * The alphabet of Douglas Crockford, i.e. the digits and the letters other than <code>I</code>, <code>L</code>,
+     * <code>O</code> and <code>U</code>. Decoding ignores the case and the hyphens, and reads <code>I</code> and
+     * <code>L</code> as <code>1</code>, and <code>O</code> as <code>0</code>.
+     *
+     * @since 4.9.0
+     *
+     */
+    CROCKFORD("0123456789ABCDEFGHJKMNPQRSTVWXYZ", "I1L1O0", true);
+
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+
+    // Values in the decoding table of the characters that are not digits, and of those that are skipped
+    private static final byte INVALID = -1;
+    private static final byte SKIPPED = -2;
+
+    private final int radix;
+
+    private final char[] digits;
+
+    // Value of each ASCII character as a digit, INVALID, or SKIPPED
+    private final byte[] values;
+
+    private final DigitWriter writer;
+
+    // Digits of the largest unsigned long
+    private final int maxLength;
+
+    IdCodec(String alphabet, String aliases, boolean hyphens) {
+        this.radix = alphabet.length();
+        this.digits = alphabet.toCharArray();
+        this.values = new byte[128];
+
+        Arrays.fill(values, INVALID);
+
+        boolean caseSensitive = !alphabet.equals(alphabet.toUpperCase()) && !alphabet.equals(alphabet.toLowerCase());
+
+        for (int digit = 0; digit < radix; digit++) {
+            values[digits[digit]] = (byte) digit;
+
+            if (!caseSensitive) {
+                values[Character.toLowerCase(digits[digit])] = (byte) digit;
+                values[Character.toUpperCase(digits[digit])] = (byte) digit;
+            }
+        }
+
+        for (int i = 0; i < aliases.length(); i += 2) {
+            byte value = values[aliases.charAt(i + 1)];
+
+            values[Character.toLowerCase(aliases.charAt(i))] = value;
+            values[Character.toUpperCase(aliases.charAt(i))] = value;
+        }
+
+        if (hyphens) {
+            values['-'] = SKIPPED;
+        }
+
+        this.writer = new DigitWriter(digits, radix);
+        this.maxLength = getLength(-1L);
+    }
+
+    /**
+     * Returns the radix of the encoding, i.e. the size of its alphabet.
+     *
+     * @return the radix of the encoding
+     *
+     * @since 4.9.0
+     *
+     */
+    public int getRadix() {
+        return radix;
+    }
+
+    /**
+     * Returns the number of characters the passed value is encoded as, without padding. The longest 64-bit values are
+     * those of <code>-1L</code>, i.e. <code>2<sup>64</sup> - 1</code>.
+     *
+     * @param value to measure, as an unsigned long
+     *
+     * @return the length of the encoded value
+     *
+     * @since 4.9.0
+     *
+     */
+    public int getLength(long value) {
+        return getLength(0L, value);
+    }
+
+    /**
+     * Returns the number of characters the passed 128-bit value is encoded as, without padding.
+     *
+     * @param high 64 bits of the value
+     * @param low 64 bits of the value
+     *
+     * @return the length of the encoded value
+     *
+     * @since 4.9.0
+     *
+     */
+    public int getLength(long high, long low) {
+        return writer.getLength(high, low);
+    }
+
+    /**
+     * Returns the passed value, as an unsigned long, encoded.
+     *
+     * @param value to encode
+     *
+     * @return the encoded value
+     *
+     * @since 4.9.0
+     *
+     */
+    public String encode(long value) {
+        return encode(0L, value);
+    }
+
+    /**
+     * Returns the passed 128-bit value encoded.
+     *
+     * @param high 64 bits of the value
+     * @param low 64 bits of the value
+     *
+     * @return the encoded value
+     *
+     * @since 4.9.0
+     *
+     */
+    public String encode(long high, long low) {
+        char[] chars = new char[getLength(high, low)];
+
+        write(high, low, chars, chars.length, 0);
+
+        return new String(chars);
+    }
+
+    /**
+     * Writes the passed value, as an unsigned long, encoded into the passed array at the specified offset, padded
+     * with leading zero digits to the specified width.
+     *
+     * @param value to encode
+     * @param width the minimum number of characters to write, or 0 for as many as the value needs
+     * @param chars to write the encoded value into
+     * @param offset of the first character to write
+     *
+     * @return the offset after the last character written
+     *
+     * @throws IllegalArgumentException if the array is <code>null</code>, or too small to hold the encoded value at
+     * the offset, or if the width is negative
+     *
+     * @since 4.9.0
+     *
+     */
+    public int encode(long value, int width, char[] chars, int offset) {
+        return encode(0L, value, width, chars, offset);
+    }
+
+    /**
+     * Writes the passed 128-bit value encoded into the passed array at the specified offset, padded with leading zero
+     * digits to the specified width.
+     *
+     * @param high 64 bits of the value
+     * @param low 64 bits of the value
+     * @param width the minimum number of characters to write, or 0 for as many as the value needs
+     * @param chars to write the encoded value into
+     * @param offset of the first character to write
+     *
+     * @return the offset after the last character written
+     *
+     * @throws IllegalArgumentException if the array is <code>null</code>, or too small to hold the encoded value at
+     * the offset, or if the width is negative
+     *
+     * @since 4.9.0
+     *
+     */
+    public int encode(long high, long low, int width, char[] chars, int offset) {
+        if (chars == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        int end = getEnd(high, low, width, chars.length, offset);
+
+        write(high, low, chars, end, offset);
+
+        return end;
+    }
+
+    /**
+     * Writes the passed value, as an unsigned long, encoded as ASCII bytes into the passed array at the specified
+     * offset, padded with leading zero digits to the specified width.
+     *
+     * @param value to encode
+     * @param width the minimum number of bytes to write, or 0 for as many as the value needs
+     * @param bytes to write the encoded value into
+     * @param offset of the first byte to write
+     *
+     * @return the offset after the last byte written
+     *
+     * @throws IllegalArgumentException if the array is <code>null</code>, or too small to hold the encoded value at
+     * the offset, or if the width is negative
+     *
+     * @since 4.9.0
+     *
+     */
+    public int encode(long value, int width, byte[] bytes, int offset) {
+        return encode(0L, value, width, bytes, offset);
+    }
+
+    /**
+     * Writes the passed 128-bit value encoded as ASCII bytes into the passed array at the specified offset, padded
+     * with leading zero digits to the specified width.
+     *
+     * @param high 64 bits of the value
+     * @param low 64 bits of the value
+     * @param width the minimum number of bytes to write, or 0 for as many as the value needs
+     * @param bytes to write the encoded value into
+     * @param offset of the first byte to write
+     *
+     * @return the offset after the last byte written
+     *
+     * @throws IllegalArgumentException if the array is <code>null</code>, or too small to hold the encoded value at
+     * the offset, or if the width is negative
+     *
+     * @since 4.9.0
+     *
+     */
+    public int encode(long high, long low, int width, byte[] bytes, int offset) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        int end = getEnd(high, low, width, bytes.length, offset);
+
+        write(high, low, bytes, end, offset);
+
+        return end;
+    }
+
+    /**
+     * Returns the unsigned long value of the passed encoded value.
+     *
+     * @param chars to decode
+     *
+     * @return the value, as an unsigned long
+     *
+     * @throws NumberFormatException if the characters are <code>null</code>, empty, or not a value of the encoding,
+     * or if the value does not fit in an unsigned long
+     *
+     * @since 4.9.0
+     *
+     */
+    public long decode(CharSequence chars) {
+        if (chars == null) {
+            throw new NumberFormatException("Cannot parse null string.");
+        }
+
+        return decode(chars, 0, chars.length());
+    }
+
+    /**
+     * Returns the unsigned long value of the specified range of the passed encoded value.
+     *
+     * @param chars to decode
+     * @param start index (inclusive) of the range
+     * @param end index (exclusive) of the range
+     *
+     * @return the value, as an unsigned long
+     *
+     * @throws IllegalArgumentException if the range is outside the characters
+     *
+     * @throws NumberFormatException if the characters are <code>null</code>, or the range is empty or not a value of
+     * the encoding, or if the value does not fit in an unsigned long
+     *
+     * @since 4.9.0
+     *
+     */
+    public long decode(CharSequence chars, int start, int end) {
+        checkRange(chars, start, end);
+
+        long value = 0L;
+
+        // Any character that is not a digit makes the OR of all the digits negative
+        int invalid = 0;
+        int count = 0;
+
+        boolean overflow = false;
+
+        for (int i = start; i < end; i++) {
+            int digit = getDigit(chars.charAt(i));
+
+            if (digit == SKIPPED) {
+                continue;
+            }
+
+            invalid |= digit;
+
+            if (++count < maxLength || value == 0) {
+                value = value * radix + digit;
+            } else {
+                long low = value * radix;
+
+                overflow |= DigitWriter.multiplyHigh(value, radix) != 0
+                        || Long.compareUnsigned(low + digit, low) < 0;
+
+                value = low + digit;
+            }
+        }
+
+        check(chars, start, end, invalid, count, overflow, "unsigned long");
+
+        return value;
+    }
+
+    /**
+     * Decodes the specified range of the passed encoded 128-bit value into the passed array, the high 64 bits at the
+     * specified offset, and the low 64 bits after them.
+     *
+     * @param chars to decode
+     * @param start index (inclusive) of the range
+     * @param end index (exclusive) of the range
+     * @param values to write the high and low bits of the value into
+     * @param offset of the high bits
+     *
+     * @throws IllegalArgumentException if the array is <code>null</code>, or too small to hold two values at the
+     * offset, or if the range is outside the characters
+     *
+     * @throws NumberFormatException if the characters are <code>null</code>, or the range is empty or not a value of
+     * the encoding, or if the value does not fit in 128 bits
+     *
+     * @since 4.9.0
+     *
+     */
+    public void decode(CharSequence chars, int start, int end, long[] values, int offset) {
+        if (values == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        if (offset < 0 || offset > values.length - 2) {
+            throw new IllegalArgumentException("Range is outside the array.");
+        }
+
+        checkRange(chars, start, end);
+
+        long high = 0L;
+        long low = 0L;
+
+        int invalid = 0;
+        int count = 0;
+
+        boolean overflow = false;
+
+        for (int i = start; i < end; i++) {
+            int digit = getDigit(chars.charAt(i));
+
+            if (digit == SKIPPED) {
+                continue;
+            }
+
+            invalid |= digit;
+
+            // Digits that can never overflow 64 bits, i.e. all but the last of the longest unsigned longs
+            if (++count < maxLength) {
+                low = low * radix + digit;
+
+                continue;
+            }
+
+            long highProduct = high * radix;
+            long lowProduct = low * radix;
+
+            long nextLow = lowProduct + digit;
+            long nextHigh = highProduct + DigitWriter.multiplyHigh(low, radix);
+
+            if (Long.compareUnsigned(nextLow, lowProduct) < 0) {
+                nextHigh++;
+            }
+
+            overflow |= DigitWriter.multiplyHigh(high, radix) != 0
+                    || Long.compareUnsigned(nextHigh, highProduct) < 0;
+
+            high = nextHigh;
+            low = nextLow;
+        }
+
+        check(chars, start, end, invalid, count, overflow, "128 bits");
+
+        values[offset] = high;
+        values[offset + 1] = low;
+    }
+
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+
+    private static void checkRange(CharSequence chars, int start, int end) {
+        if (chars == null) {
+            throw new NumberFormatException("Cannot parse null string.");
+        }
+
+        if (start < 0 || end > chars.length() || start > end) {
+            throw new IllegalArgumentException("Range is outside the characters.");
+        }
+    }
+
+    private static void check(CharSequence chars, int start, int end, int invalid, int count, boolean overflow,
+                              String range) {
+        if (invalid < 0 || count == 0) {
+            throw new NumberFormatException("For input string: \"" + chars.subSequence(start, end) + "\"");
+        }
+
+        if (overflow) {
+            throw new NumberFormatException("String value " + chars.subSequence(start, end) + " exceeds range of "
+                    + range + ".");
+        }
+    }
+
+    private int getDigit(char ch) {
+        return (ch < values.length) ? values[ch] : INVALID;
+    }
+
+    // Validates the width and the room for the encoded value, and returns the offset after it
+    private int getEnd(long high, long low, int width, int capacity, int offset) {
+        if (width < 0) {
+            throw new IllegalArgumentException("Negative number is not allowed as an argument.");
+        }
+
+        int length = Math.max(getLength(high, low), width);
+
+        if (offset < 0 || offset > capacity - length) {
+            throw new IllegalArgumentException("Range is outside the array.");
+        }
+
+        return offset + length;
+    }
+
+    // Writes the digits of the value backward, from the end (exclusive) down to the start, padded with zero digits
+    private void write(long high, long low, char[] chars, int end, int start) {
+        Arrays.fill(chars, start, writer.write(high, low, chars, end), digits[0]);
+    }
+
+    private void write(long high, long low, byte[] bytes, int end, int start) {
+        char[] scratch = DigitWriter.getScratch();
+
+        int first = writer.write(high, low, scratch, scratch.length);
+        int position = end;
+
+        for (int i = scratch.length; i > first; ) {
+            bytes[--position] = (byte) scratch[--i];
+        }
+
+        Arrays.fill(bytes, start, position, (byte) digits[0]);
+    }
+}
@@ -0,0 +1,556 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable, compiled set of patterns, to find all their occurrences in a text in a single pass.
+ * <br><br>
+ * The patterns are compiled into an Aho-Corasick automaton, i.e. a trie of the patterns with failure links between the
+ * states. Scanning a text then takes time linear in the length of the text plus the number of matches, regardless of
+ * how many patterns there are; a loop over {@link String#contains(CharSequence)}, by contrast, rescans the text once
+ * per pattern.
+ * <br><br>
+ * When the matcher is lenient, the patterns are trimmed and the case is ignored, the same way as
+ * {@link StringHelper#areEqual(CharSequence, CharSequence, boolean)} does; a <code>null</code> text is treated as
+ * empty. The text itself is never trimmed, so that the positions of the matches are those in the original text.
+ * <br><br>
+ * All occurrences are reported, including overlapping ones, in order of their end position; the occurrences ending
+ * at the same position are reported longest first. Positions are <code>char</code> indexes, and surrogate pairs are
+ * treated as single code points, and are never split.
+ * <br><br>
+ * Instances are thread-safe, and can be shared to scan many texts concurrently.
+ * <br><br>
+ * Example usage:
+ *
+ * <pre>
+ *     MultiPatternMatcher matcher = MultiPatternMatcher.compile(Arrays.asList("he", "she", "his", "hers"), false);
+ *
+ *     matcher.match("ushers", (pattern, start, end) -&gt; {
+ *         System.out.println(matcher.getPattern(pattern) + " at " + start);     // "she at 1", "he at 2", "hers at 2"
+ *
+ *         return true;
+ *     });
+ * </pre>
+ *
+ * @see StringHelper#containsAny(CharSequence, List, boolean)
+ * @see <a href="https://en.wikipedia.org/wiki/Aho%E2%80%93Corasick_algorithm">Aho-Corasick algorithm (Wikipedia)</a>
+ *
+ * @author Mohammed Shaik Hussain Ali
+ *
+ * @since 4.9.0
+ *
+ */
+public final class MultiPatternMatcher {
+    private static final int ROOT = 0;
+
+    private static final int ASCII_SIZE = 128;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final boolean lenient;
+
+    private final String[] patterns;
+    private final int[] patternLengths;
+
+    // Size of the ring of recent code point offsets, a power of two no smaller than the longest pattern
+    private final int offsetsSize;
+
+    // Edges of each state, sorted by code point; the edges of a state s are at edgeStarts[s] until edgeStarts[s + 1]
+    private final int[] edgeStarts;
+    private final int[] edgeLabels;
+    private final int[] edgeTargets;
+
+    // Edges of the root, for ASCII code points
+    private final int[] rootTargets;
+
+    private final int[] failures;
+
+    // First pattern ending at each state, or -1; the other patterns with the same key follow through nextPatterns
+    private final int[] outputs;
+    private final int[] nextPatterns;
+
+    // Nearest state on the failure path of each state that has an output, or the root
+    private final int[] dictionaryLinks;
+
+    /**
+     * A callback for the occurrences found while scanning a text.
+     *
+     * @see MultiPatternMatcher#match(CharSequence, MatchHandler)
+     * @see MultiPatternMatcher#match(Reader, MatchHandler)
+     *
+     * @since 4.9.0
+     *
+     */
+    @FunctionalInterface
+    public interface MatchHandler {
+
+        /**
+         * Handles an occurrence of a pattern.
+         *
+         * @param pattern index of the pattern, in the list it was compiled from
+         * @param start index (inclusive) of the occurrence in the text
+         * @param end index (exclusive) of the occurrence in the text
+         *
+         * @return <code>true</code> to continue scanning, or <code>false</code> to stop
+         *
+         * @since 4.9.0
+         *
+         */
+        boolean onMatch(int pattern, long start, long end);
+    }
+
+    private MultiPatternMatcher(List<? extends CharSequence> patterns, boolean lenient) {
+        this.lenient = lenient;
+        this.patterns = new String[patterns.size()];
+        this.patternLengths = new int[this.patterns.length];
+
+        Map<Long, Integer> children = new HashMap<>();
+
+        int[] terminals = new int[this.patterns.length];
+
+        int stateCount = 1;
+        int maxLength = 1;
+
+        int index = 0;
+
+        for (CharSequence pattern : patterns) {
+            int[] codePoints = toCodePoints(pattern, lenient);
+
+            int state = ROOT;
+
+            for (int codePoint : codePoints) {
+                Integer child = children.putIfAbsent(((long) state << 32) | codePoint, stateCount);
+
+                state = (child == null) ? stateCount++ : child;
+            }
+
+            this.patterns[index] = pattern.toString();
+            this.patternLengths[index] = codePoints.length;
+
+            terminals[index++] = state;
+
+            maxLength = Math.max(maxLength, codePoints.length);
+        }
+
+        this.offsetsSize = Math.max(Integer.highestOneBit(maxLength - 1) << 1, 1);
+
+        // Flatten the trie, sorted by state and then by code point
+
+        long[] keys = children.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+
+        this.edgeStarts = new int[stateCount + 1];
+        this.edgeLabels = new int[keys.length];
+        this.edgeTargets = new int[keys.length];
+        this.rootTargets = new int[ASCII_SIZE];
+
+        for (int i = 0; i < keys.length; i++) {
+            int state = (int) (keys[i] >>> 32);
+
+            edgeLabels[i] = (int) keys[i];
+            edgeTargets[i] = children.get(keys[i]);
+
+            edgeStarts[state + 1]++;
+
+            if (state == ROOT && edgeLabels[i] < ASCII_SIZE) {
+                rootTargets[edgeLabels[i]] = edgeTargets[i];
+            }
+        }
+
+        for (int state = 0; state < stateCount; state++) {
+            edgeStarts[state + 1] += edgeStarts[state];
+        }
+
+        this.outputs = new int[stateCount];
+        this.nextPatterns = new int[this.patterns.length];
+
+        Arrays.fill(outputs, -1);
+
+        for (int pattern = this.patterns.length - 1; pattern >= 0; pattern--) {
+            nextPatterns[pattern] = outputs[terminals[pattern]];
+            outputs[terminals[pattern]] = pattern;
+        }
+
+        // Failure and dictionary links, breadth first so that the links of shallower states are always known
+
+        this.failures = new int[stateCount];
+        this.dictionaryLinks = new int[stateCount];
+
+        int[] queue = new int[stateCount];
+
+        int head = 0;
+        int tail = 0;
+
+        queue[tail++] = ROOT;
+
+        while (head < tail) {
+            int state = queue[head++];
+
+            for (int edge = edgeStarts[state]; edge < edgeStarts[state + 1]; edge++) {
+                int child = edgeTargets[edge];
+                int failure = (state == ROOT) ? ROOT : getNext(failures[state], edgeLabels[edge]);
+
+                failures[child] = failure;
+                dictionaryLinks[child] = (outputs[failure] >= 0) ? failure : dictionaryLinks[failure];
+
+                queue[tail++] = child;
+            }
+        }
+    }
+
+    /**
+     * Compiles the passed patterns.
+     *
+     * @param patterns to compile; the index of each pattern in the list is the one reported for its occurrences
+     * @param lenient whether to be lenient or not
+     *
+     * @return a matcher for the patterns
+     *
+     * @throws IllegalArgumentException if the list or any pattern is <code>null</code>, or if any pattern is empty
+     * (blank, if lenient)
+     *
+     * @since 4.9.0
+     *
+     */
+    public static MultiPatternMatcher compile(List<? extends CharSequence> patterns, boolean lenient) {
+        if (patterns == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        for (CharSequence pattern : patterns) {
+            if (pattern == null) {
+                throw new IllegalArgumentException("Null is not allowed as an argument.");
+            }
+
+            if (lenient ? StringHelper.isBlank(pattern) : pattern.length() == 0) {
+                throw new IllegalArgumentException("Empty pattern is not allowed as an argument.");
+            }
+        }
+
+        return new MultiPatternMatcher(patterns, lenient);
+    }
+
+    /**
+     * Returns the number of patterns.
+     *
+     * @return the number of patterns
+     *
+     * @since 4.9.0
+     *
+     */
+    public int getPatternCount() {
+        return patterns.length;
+    }
+
+    /**
+     * Returns the pattern at the specified index, as it was passed when compiled.
+     *
+     * @param index of the pattern
+     *
+     * @return the pattern
+     *
+     * @throws IllegalArgumentException if the index is out of range
+     *
+     * @since 4.9.0
+     *
+     */
+    public String getPattern(int index) {
+        if (index < 0 || index >= patterns.length) {
+            throw new IllegalArgumentException("Index is out of range.");
+        }
+
+        return patterns[index];
+    }
+
+    /**
+     * Returns <code>true</code> if the matcher is lenient, <code>false</code> otherwise.
+     *
+     * @return whether the matcher is lenient
+     *
+     * @since 4.9.0
+     *
+     */
+    public boolean isLenient() {
+        return lenient;
+    }
+
+    /**
+     * Returns <code>true</code> if any pattern occurs in the passed text, <code>false</code> otherwise. The scan stops
+     * at the first occurrence.
+     *
+     * @param text to scan
+     *
+     * @return whether any pattern occurs in the text
+     *
+     * @throws IllegalArgumentException if the text is <code>null</code> and the matcher is not lenient
+     *
+     * @since 4.9.0
+     *
+     */
+    public boolean containsAny(CharSequence text) {
+        boolean[] found = new boolean[1];
+
+        match(text, (pattern, start, end) -> {
+            found[0] = true;
+
+            return false;
+        });
+
+        return found[0];
+    }
+
+    /**
+     * Returns a bit set where the bit at each index is set if the pattern at the same index occurs in the passed text.
+     *
+     * @param text to scan
+     *
+     * @return a bit set of the patterns occurring in the text
+     *
+     * @throws IllegalArgumentException if the text is <code>null</code> and the matcher is not lenient
+     *
+     * @since 4.9.0
+     *
+     */
+    public BitSet getMatchedPatterns(CharSequence text) {
+        BitSet bitSet = new BitSet(patterns.length);
+
+        match(text, (pattern, start, end) -> {
+            bitSet.set(pattern);
+
+            return true;
+        });
+
+        return bitSet;
+    }
+
+    /**
+     * Scans the passed text, and reports every occurrence of every pattern to the handler, until the handler asks to
+     * stop.
+     *
+     * @param text to scan
+     * @param handler to report the occurrences to
+     *
+     * @throws IllegalArgumentException if the handler is <code>null</code>, or if the text is <code>null</code> and the
+     * matcher is not lenient
+     *
+     * @since 4.9.0
+     *
+     */
+    public void match(CharSequence text, MatchHandler handler) {
+        if (handler == null || (text == null && !lenient)) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        if (text == null) {
+            return;
+        }
+
+        Scanner scanner = new Scanner(handler);
+
+        for (int index = 0, length = text.length(); index < length; ) {
+            int codePoint = Character.codePointAt(text, index);
+            int next = index + Character.charCount(codePoint);
+
+            if (!scanner.accept(codePoint, index, next)) {
+                return;
+            }
+
+            index = next;
+        }
+    }
+
+    /**
+     * Scans the passed reader until its end, and reports every occurrence of every pattern to the handler, until the
+     * handler asks to stop. The reader is read in chunks, hence texts of any length can be scanned in constant memory.
+     * The reader is not closed.
+     *
+     * @param reader to scan
+     * @param handler to report the occurrences to
+     *
+     * @throws IOException if the reader fails
+     * @throws IllegalArgumentException if the reader or the handler is <code>null</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public void match(Reader reader, MatchHandler handler) throws IOException {
+        if (reader == null || handler == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        Scanner scanner = new Scanner(handler);
+
+        char[] buffer = new char[BUFFER_SIZE];
+
+        // Stream offset of the first char in the buffer, and the number of chars in the buffer
+        long position = 0;
+        int length = 0;
+
+        for (int read; (read = reader.read(buffer, length, buffer.length - length)) >= 0; ) {
+            length += read;
+
+            int index = 0;
+
+            while (index < length) {
+                char ch = buffer[index];
+
+                int codePoint = ch;
+
+                if (Character.isHighSurrogate(ch)) {
+                    // Wait for the next chunk, in case it starts with the low surrogate
+                    if (index + 1 == length) {
+                        break;
+                    }
+
+                    if (Character.isLowSurrogate(buffer[index + 1])) {
+                        codePoint = Character.toCodePoint(ch, buffer[index + 1]);
+                    }
+                }
+
+                int next = index + Character.charCount(codePoint);
+
+                if (!scanner.accept(codePoint, position + index, position + next)) {
+                    return;
+                }
+
+                index = next;
+            }
+
+            if (index < length) {
+                buffer[0] = buffer[index];
+            }
+
+            position += index;
+            length -= index;
+        }
+
+        if (length > 0) {
+            scanner.accept(buffer[0], position, position + 1);
+        }
+    }
+
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+
+    /*
+     * Code points of the pattern; if lenient, of the trimmed pattern, case folded.
+     */
+    private static int[] toCodePoints(CharSequence chars, boolean lenient) {
+        int start = lenient ? StringHelper.getTrimmedStart(chars) : 0;
+        int end = lenient ? StringHelper.getTrimmedEnd(chars, start) : chars.length();
+
+        int[] codePoints = new int[Character.codePointCount(chars, start, end)];
+
+        for (int i = 0, index = start; i < codePoints.length; i++) {
+            int codePoint = Character.codePointAt(chars, index);
+
+            codePoints[i] = lenient ? StringHelper.foldCase(codePoint) : codePoint;
+
+            index += Character.charCount(codePoint);
+        }
+
+        return codePoints;
+    }
+
+    /*
+     * The state reached from the specified state on the specified code point, following the failure links as needed.
+     */
+    private int getNext(int state, int codePoint) {
+        while (state != ROOT) {
+            int edge = findEdge(state, codePoint);
+
+            if (edge >= 0) {
+                return edgeTargets[edge];
+            }
+
+            state = failures[state];
+        }
+
+        if (codePoint < ASCII_SIZE) {
+            return rootTargets[codePoint];
+        }
+
+        int edge = findEdge(ROOT, codePoint);
+
+        return (edge < 0) ? ROOT : edgeTargets[edge];
+    }
+
+    private int findEdge(int state, int codePoint) {
+        int low = edgeStarts[state];
+        int high = edgeStarts[state + 1] - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+
+            if (edgeLabels[middle] < codePoint) {
+                low = middle + 1;
+            } else if (edgeLabels[middle] > codePoint) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+
+        return -1;
+    }
+
+    /*
+     * The state of a single scan, fed one code point at a time.
+     */
+    private final class Scanner {
+        private final MatchHandler handler;
+
+        // Offsets of the most recent code points, to find where the occurrences start
+        private final long[] offsets = new long[offsetsSize];
+
+        private int state = ROOT;
+        private int count = 0;
+
+        private Scanner(MatchHandler handler) {
+            this.handler = handler;
+        }
+
+        private boolean accept(int codePoint, long start, long end) {
+            offsets[count & (offsetsSize - 1)] = start;
+
+            state = getNext(state, lenient ? StringHelper.foldCase(codePoint) : codePoint);
+
+            for (int output = (outputs[state] >= 0) ? state : dictionaryLinks[state]; output != ROOT;
+                 output = dictionaryLinks[output]) {
+                for (int pattern = outputs[output]; pattern >= 0; pattern = nextPatterns[pattern]) {
+                    long first = offsets[(count - patternLengths[pattern] + 1) & (offsetsSize - 1)];
+
+                    if (!handler.onMatch(pattern, first, end)) {
+                        return false;
+                    }
+                }
+            }
+
+            count++;
+
+            return true;
+        }
+    }
+}
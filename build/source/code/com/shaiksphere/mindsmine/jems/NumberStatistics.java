@@ -0,0 +1,530 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A mergeable accumulator of the count, minimum, maximum, mean, variance and quantiles of a stream of numbers, whose
+ * memory does not depend on the number of values.
+ * <br><br>
+ * The mean and variance are updated with Welford's algorithm, which does not lose precision to cancellation as the
+ * sum of squares does. The quantiles are estimated with a sketch that counts the values in logarithmic buckets: any
+ * quantile is within the relative accuracy of a value of the stream of the same rank, e.g. within 1% by default. The
+ * number of buckets is capped, so that a range of magnitudes of about 2<sup>64</sup> keeps that accuracy; beyond it,
+ * the values closest to zero are merged into fewer buckets.
+ * <br><br>
+ * Accumulators over parts of a stream are merged with {@link NumberStatistics#combine(NumberStatistics)}, which makes
+ * them suitable for parallel streams. The quantile sketch merges exactly, i.e. the result does not depend on how the
+ * stream was split; the moments may differ in the last bits.
+ * <br><br>
+ * Instances are not thread-safe.
+ * <br><br>
+ * Example usage:
+ *
+ * <pre>
+ *     NumberStatistics statistics = DoubleStream.of(values).parallel().collect(
+ *             NumberStatistics::new, NumberStatistics::accept, NumberStatistics::combine
+ *     );
+ *
+ *     statistics.getMean();
+ *     statistics.getQuantile(0.99);
+ * </pre>
+ *
+ * @see NumberHelper#getStatistics(double[], boolean)
+ * @see NumberHelper#toStatistics(java.util.function.ToDoubleFunction)
+ * @see <a href="https://en.wikipedia.org/wiki/Algorithms_for_calculating_variance">Algorithms for calculating variance (Wikipedia)</a>
+ *
+ * @author Mohammed Shaik Hussain Ali
+ *
+ * @since 4.9.0
+ *
+ */
+public final class NumberStatistics implements DoubleConsumer, IntConsumer, LongConsumer {
+    private static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+
+    private static final double MIN_RELATIVE_ACCURACY = 0.0001;
+
+    private final double relativeAccuracy;
+
+    // Ratio between the bounds of a bucket, and its logarithm
+    private final double gamma;
+    private final double logGamma;
+
+    private final int maxBuckets;
+
+    private long count = 0L;
+
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+
+    private double mean = 0.0;
+
+    // Sum of the squared differences from the mean
+    private double squaredDifferences = 0.0;
+
+    private long zeroCount = 0L;
+
+    // Buckets of the magnitudes of the positive and of the negative values
+    private final Buckets positives;
+    private final Buckets negatives;
+
+    /**
+     * Creates an empty accumulator, whose quantiles are within 1% of the values of the stream.
+     *
+     * @since 4.9.0
+     *
+     */
+    public NumberStatistics() {
+        this(DEFAULT_RELATIVE_ACCURACY);
+    }
+
+    /**
+     * Creates an empty accumulator, whose quantiles are within the specified relative accuracy of the values of the
+     * stream. The memory of the quantile sketch is inversely proportional to the relative accuracy.
+     *
+     * @param relativeAccuracy of the quantiles, e.g. <code>0.01</code> for 1%
+     *
+     * @throws IllegalArgumentException if the relative accuracy is less than 0.0001 or not less than 1
+     *
+     * @since 4.9.0
+     *
+     */
+    public NumberStatistics(double relativeAccuracy) {
+        if (!(relativeAccuracy >= MIN_RELATIVE_ACCURACY && relativeAccuracy < 1)) {
+            throw new IllegalArgumentException("Relative accuracy must be at least 0.0001 and less than 1.");
+        }
+
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.maxBuckets = (int) Math.ceil(Long.SIZE * Math.log(2) / logGamma);
+        this.positives = new Buckets(maxBuckets);
+        this.negatives = new Buckets(maxBuckets);
+    }
+
+    /**
+     * Records the passed value.
+     *
+     * @param value to record
+     *
+     * @throws IllegalArgumentException if the value is infinite or not a number
+     *
+     * @since 4.9.0
+     *
+     */
+    @Override
+    public void accept(double value) {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException("Only finite numbers are allowed as an argument.");
+        }
+
+        count++;
+
+        if (count == 1) {
+            min = value;
+            max = value;
+        } else {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        double delta = value - mean;
+
+        mean += delta / count;
+        squaredDifferences += delta * (value - mean);
+
+        if (value > 0) {
+            positives.add(getIndex(value), 1L);
+        } else if (value < 0) {
+            negatives.add(getIndex(-value), 1L);
+        } else {
+            zeroCount++;
+        }
+    }
+
+    /**
+     * Records the passed value.
+     *
+     * @param value to record
+     *
+     * @since 4.9.0
+     *
+     */
+    @Override
+    public void accept(int value) {
+        accept((double) value);
+    }
+
+    /**
+     * Records the passed value. Values beyond 2<sup>53</sup> in magnitude are rounded to the nearest
+     * <code>double</code>.
+     *
+     * @param value to record
+     *
+     * @since 4.9.0
+     *
+     */
+    @Override
+    public void accept(long value) {
+        accept((double) value);
+    }
+
+    /**
+     * Merges the values recorded by the passed accumulator into this one, as if they had been recorded by this one.
+     * The passed accumulator is not modified.
+     *
+     * @param other accumulator to merge
+     *
+     * @return this accumulator
+     *
+     * @throws IllegalArgumentException if the other accumulator is <code>null</code>, or has a different relative
+     * accuracy
+     *
+     * @since 4.9.0
+     *
+     */
+    public NumberStatistics combine(NumberStatistics other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Statistics with different relative accuracies cannot be combined.");
+        }
+
+        if (other.count == 0) {
+            return this;
+        }
+
+        if (count == 0) {
+            min = other.min;
+            max = other.max;
+        } else {
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+
+        // Chan et al., in doubles since the product of the counts may overflow a long
+        double total = (double) count + other.count;
+        double delta = other.mean - mean;
+
+        mean += delta * (other.count / total);
+        squaredDifferences += other.squaredDifferences + delta * delta * ((double) count * other.count / total);
+
+        count += other.count;
+        zeroCount += other.zeroCount;
+
+        positives.addAll(other.positives);
+        negatives.addAll(other.negatives);
+
+        return this;
+    }
+
+    /**
+     * Returns the relative accuracy of the quantiles.
+     *
+     * @return the relative accuracy
+     *
+     * @since 4.9.0
+     *
+     */
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    /**
+     * Returns the number of values recorded.
+     *
+     * @return the number of values
+     *
+     * @since 4.9.0
+     *
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the smallest value recorded.
+     *
+     * @return the minimum, or {@link Double#NaN} if no value was recorded
+     *
+     * @since 4.9.0
+     *
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the largest value recorded.
+     *
+     * @return the maximum, or {@link Double#NaN} if no value was recorded
+     *
+     * @since 4.9.0
+     *
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the arithmetic mean of the values recorded.
+     *
+     * @return the mean, or {@link Double#NaN} if no value was recorded
+     *
+     * @since 4.9.0
+     *
+     */
+    public double getMean() {
+        return (count == 0) ? Double.NaN : mean;
+    }
+
+    /**
+     * Returns the population variance of the values recorded, i.e. the mean of the squared differences from the mean.
+     *
+     * @return the population variance, or {@link Double#NaN} if no value was recorded
+     *
+     * @since 4.9.0
+     *
+     */
+    public double getVariance() {
+        return (count == 0) ? Double.NaN : squaredDifferences / count;
+    }
+
+    /**
+     * Returns the sample variance of the values recorded, i.e. the sum of the squared differences from the mean,
+     * divided by one less than the number of values.
+     *
+     * @return the sample variance, or {@link Double#NaN} if fewer than two values were recorded
+     *
+     * @since 4.9.0
+     *
+     */
+    public double getSampleVariance() {
+        return (count < 2) ? Double.NaN : squaredDifferences / (count - 1);
+    }
+
+    /**
+     * Returns the population standard deviation of the values recorded.
+     *
+     * @see NumberStatistics#getVariance()
+     *
+     * @return the population standard deviation, or {@link Double#NaN} if no value was recorded
+     *
+     * @since 4.9.0
+     *
+     */
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * Returns an estimate of the specified quantile of the values recorded, e.g. <code>0.5</code> for the median or
+     * <code>0.99</code> for the 99th percentile.
+     * <br><br>
+     * The estimate is within the relative accuracy of the value of rank <code>floor(quantile * (count - 1))</code>
+     * among the values recorded, in ascending order. The quantiles 0 and 1 are the exact minimum and maximum.
+     *
+     * @param quantile between 0 and 1
+     *
+     * @return the estimated quantile, or {@link Double#NaN} if no value was recorded
+     *
+     * @throws IllegalArgumentException if the quantile is not between 0 and 1
+     *
+     * @since 4.9.0
+     *
+     */
+    public double getQuantile(double quantile) {
+        if (!(quantile >= 0 && quantile <= 1)) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1.");
+        }
+
+        if (count == 0) {
+            return Double.NaN;
+        }
+
+        long rank = (long) (quantile * (count - 1));
+
+        if (rank == 0) {
+            return min;
+        }
+
+        if (rank == count - 1) {
+            return max;
+        }
+
+        double value;
+
+        if (rank < negatives.total) {
+            value = -getValue(negatives.getIndexDescending(rank));
+        } else if (rank < negatives.total + zeroCount) {
+            value = 0.0;
+        } else {
+            value = getValue(positives.getIndexAscending(rank - negatives.total - zeroCount));
+        }
+
+        return Math.max(min, Math.min(max, value));
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "%s{count=%d, min=%f, mean=%f, max=%f, variance=%f}",
+                getClass().getSimpleName(), getCount(), getMin(), getMean(), getMax(), getVariance()
+        );
+    }
+
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+
+    // Bucket k holds the magnitudes in (gamma^(k - 1), gamma^k]
+    private int getIndex(double magnitude) {
+        return (int) Math.ceil(Math.log(magnitude) / logGamma);
+    }
+
+    // Within the relative accuracy of every magnitude of bucket k
+    private double getValue(int index) {
+        return 2 * Math.pow(gamma, index) / (gamma + 1);
+    }
+
+    /*
+     * Counts per bucket index, over a window of at most maxBuckets consecutive indexes, which moves up with the
+     * largest index; the counts of the indexes that fall below the window are merged into its lowest bucket.
+     */
+    private static final class Buckets {
+        private final int maxBuckets;
+
+        private long[] counts = new long[0];
+
+        // Bucket index of counts[0]
+        private int offset = 0;
+
+        // Smallest and largest bucket index with a count, when total is not zero
+        private int minIndex = 0;
+        private int maxIndex = 0;
+
+        private long total = 0L;
+
+        private Buckets(int maxBuckets) {
+            this.maxBuckets = maxBuckets;
+        }
+
+        private void add(int index, long count) {
+            if (total == 0) {
+                minIndex = index;
+                maxIndex = index;
+            } else if (index > maxIndex) {
+                int lowest = index - maxBuckets + 1;
+
+                if (lowest > minIndex) {
+                    collapse(lowest);
+                }
+
+                maxIndex = index;
+            } else if (index < minIndex) {
+                index = Math.max(index, maxIndex - maxBuckets + 1);
+                minIndex = index;
+            }
+
+            ensureCapacity();
+
+            counts[index - offset] += count;
+            total += count;
+        }
+
+        private void addAll(Buckets other) {
+            for (int index = other.minIndex; other.total != 0 && index <= other.maxIndex; index++) {
+                long count = other.counts[index - other.offset];
+
+                if (count != 0) {
+                    add(index, count);
+                }
+            }
+        }
+
+        private int getIndexAscending(long rank) {
+            long cumulative = 0L;
+
+            for (int index = minIndex; index < maxIndex; index++) {
+                cumulative += counts[index - offset];
+
+                if (cumulative > rank) {
+                    return index;
+                }
+            }
+
+            return maxIndex;
+        }
+
+        private int getIndexDescending(long rank) {
+            long cumulative = 0L;
+
+            for (int index = maxIndex; index > minIndex; index--) {
+                cumulative += counts[index - offset];
+
+                if (cumulative > rank) {
+                    return index;
+                }
+            }
+
+            return minIndex;
+        }
+
+        // Merges the counts below the lowest index into it, before the window moves up
+        private void collapse(int lowest) {
+            long merged = 0L;
+
+            for (int index = minIndex, end = Math.min(maxIndex, lowest - 1); index <= end; index++) {
+                merged += counts[index - offset];
+                counts[index - offset] = 0L;
+            }
+
+            minIndex = lowest;
+            maxIndex = Math.max(maxIndex, lowest);
+
+            ensureCapacity();
+
+            counts[lowest - offset] += merged;
+        }
+
+        // Makes room for minIndex to maxIndex, which hold every count
+        private void ensureCapacity() {
+            if (minIndex >= offset && maxIndex < offset + counts.length) {
+                return;
+            }
+
+            int needed = maxIndex - minIndex + 1;
+            int length = Math.min(Math.max(2 * needed, 64), Math.max(needed, maxBuckets));
+
+            long[] resized = new long[length];
+            int resizedOffset = minIndex - (length - needed) / 2;
+
+            for (int index = Math.max(minIndex, offset), end = Math.min(maxIndex, offset + counts.length - 1);
+                 index <= end; index++) {
+                resized[index - resizedOffset] = counts[index - offset];
+            }
+
+            counts = resized;
+            offset = resizedOffset;
+        }
+    }
+}
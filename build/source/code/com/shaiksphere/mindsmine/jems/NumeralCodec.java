@@ -0,0 +1,727 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Codecs between raw bytes and their text in a radix that is a power of two, i.e. binary, octal and hexadecimal dumps.
+ * <br><br>
+ * Each byte is written as a fixed number of ASCII digits, most significant first, e.g. 8 binary digits, 3 octal digits
+ * or 2 hexadecimal digits, in lowercase. Decoding accepts digits of either case, and rejects anything else, including
+ * whitespace, as well as octal groups above <code>377</code>; since the number of digits per byte is fixed, decoding a
+ * text whose length is not a multiple of it fails as well.
+ * <br><br>
+ * Both directions go through lookup tables, and move several digits at a time through a single <code>short</code> or
+ * <code>long</code> access to the array: the digits of a byte are written at once, hexadecimal digits are decoded a
+ * pair at a time, and binary digits eight at a time, validated and gathered with a few arithmetic operations. Both are
+ * streamed in chunks, so that memory use is bounded regardless of the size of the input; payloads of any size are
+ * converted between streams, between buffers, and from files that are memory-mapped a window at a time.
+ * <br><br>
+ * Example usage:
+ *
+ * <pre>
+ *     NumeralCodec.HEXADECIMAL.encodeToString(new byte[] {1, -1});       // "01ff"
+ *     NumeralCodec.OCTAL.decode("001377");                                // {1, -1}
+ *
+ *     NumeralCodec.HEXADECIMAL.encode(inputStream, outputStream);        // hex-dumps the whole stream
+ * </pre>
+ *
+ * @see NumeralSystemHelper
+ * @see <a href="https://en.wikipedia.org/wiki/Hex_dump">Hex dump (Wikipedia)</a>
+ *
+ * @author Mohammed Shaik Hussain Ali
+ *
+ * @since 4.9.0
+ *
+ */
+public enum NumeralCodec {
+    /**
+     * Writes each byte as 8 binary digits, e.g. <code>11111111</code> for <code>0xFF</code>.
+     *
+     * @since 4.9.0
+     *
+     */
+    BINARY(1, 8),
+
+    /**
+     * Writes each byte as 3 octal digits, e.g. <code>377</code> for <code>0xFF</code>.
+     *
+     * @since 4.9.0
+     *
+     */
+    OCTAL(3, 3),
+
+    /**
+     * Writes each byte as 2 hexadecimal digits, e.g. <code>ff</code> for <code>0xFF</code>.
+     *
+     * @since 4.9.0
+     *
+     */
+    HEXADECIMAL(4, 2);
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final VarHandle SHORT = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    // The ASCII digit zero in every byte, and the only bit a binary digit may differ from it by in every byte
+    private static final long ZEROS = 0x3030303030303030L;
+    private static final long ONES = 0x0101010101010101L;
+
+    // Moves the lowest bit of each of the eight bytes, first byte first, to the highest eight bits of the product
+    private static final long GATHER = 0x0102040810204080L;
+
+    // Bytes of a file mapped at a time
+    private static final int MAPPING_SIZE = 1 << 24;
+
+    private final int bits;
+    private final int digits;
+
+    // Digits of each byte value, as ASCII bytes packed in the lowest bytes, first digit first
+    private final long[] encodings;
+
+    // Value of each ASCII digit, in either case, or -1 if it is not a digit of the radix
+    private final int[] values;
+
+    // Value of each pair of ASCII hexadecimal digits, read as a big-endian short, or -1
+    private final short[] pairs;
+
+    NumeralCodec(int bits, int digits) {
+        this.bits = bits;
+        this.digits = digits;
+        this.encodings = new long[256];
+        this.values = new int[256];
+
+        for (int b = 0; b < 256; b++) {
+            for (int k = 0; k < digits; k++) {
+                int digit = (b >>> ((digits - k - 1) * bits)) & ((1 << bits) - 1);
+
+                encodings[b] = (encodings[b] << Byte.SIZE) | Character.forDigit(digit, 1 << bits);
+            }
+        }
+
+        Arrays.fill(values, -1);
+
+        for (int digit = 0; digit < 1 << bits; digit++) {
+            values[Character.forDigit(digit, 1 << bits)] = digit;
+            values[Character.toUpperCase(Character.forDigit(digit, 1 << bits))] = digit;
+        }
+
+        if (digits == 2) {
+            this.pairs = new short[1 << Short.SIZE];
+
+            for (int pair = 0; pair < pairs.length; pair++) {
+                int high = values[pair >>> Byte.SIZE];
+                int low = values[pair & 0xFF];
+
+                pairs[pair] = (short) ((high < 0 || low < 0) ? -1 : (high << bits) | low);
+            }
+        } else {
+            this.pairs = null;
+        }
+    }
+
+    /**
+     * Returns the radix of the digits, i.e. 2, 8 or 16.
+     *
+     * @return the radix of the digits
+     *
+     * @since 4.9.0
+     *
+     */
+    public int getRadix() {
+        return 1 << bits;
+    }
+
+    /**
+     * Returns the number of digits each byte is written as, i.e. 8, 3 or 2.
+     *
+     * @return the number of digits per byte
+     *
+     * @since 4.9.0
+     *
+     */
+    public int getDigitsPerByte() {
+        return digits;
+    }
+
+    /**
+     * Returns the digits of the passed bytes.
+     *
+     * @param bytes to encode
+     *
+     * @return the digits of the bytes
+     *
+     * @throws IllegalArgumentException if the bytes are <code>null</code>, or have too many digits to fit in a string
+     *
+     * @since 4.9.0
+     *
+     */
+    public String encodeToString(byte[] bytes) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        byte[] text = new byte[getEncodedLength(bytes.length)];
+
+        encode(bytes, 0, bytes.length, text, 0);
+
+        return new String(text, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Returns the bytes whose digits are the passed text.
+     *
+     * @param text to decode
+     *
+     * @return the bytes of the text
+     *
+     * @throws IllegalArgumentException if the text is <code>null</code>
+     *
+     * @throws NumberFormatException if the text has a character that is not a digit, a group of digits above the
+     * value of a byte, or a length that is not a multiple of the digits per byte
+     *
+     * @since 4.9.0
+     *
+     */
+    public byte[] decode(CharSequence text) {
+        if (text == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        // Characters beyond ISO-8859-1 are replaced by '?', which is not a digit either
+        byte[] bytes = text.toString().getBytes(StandardCharsets.ISO_8859_1);
+
+        byte[] result = new byte[bytes.length / digits];
+
+        decode(bytes, 0, bytes.length, result, 0);
+
+        return result;
+    }
+
+    /**
+     * Writes the digits of the specified range of bytes into the passed array at the specified offset.
+     *
+     * @param src bytes to encode
+     * @param offset of the first byte to encode
+     * @param length number of bytes to encode
+     * @param dst to write the digits into
+     * @param dstOffset of the first digit to write
+     *
+     * @return the offset after the last digit written
+     *
+     * @throws IllegalArgumentException if either array is <code>null</code>, or if either range is outside its array
+     *
+     * @since 4.9.0
+     *
+     */
+    public int encode(byte[] src, int offset, int length, byte[] dst, int dstOffset) {
+        checkRange(src, offset, length);
+        checkRange(dst, dstOffset, (long) length * digits);
+
+        encodeBytes(src, offset, length, dst, dstOffset);
+
+        return dstOffset + length * digits;
+    }
+
+    /**
+     * Writes the bytes whose digits are the specified range of text into the passed array at the specified offset.
+     *
+     * @param src digits to decode, as ASCII bytes
+     * @param offset of the first digit to decode
+     * @param length number of digits to decode
+     * @param dst to write the bytes into
+     * @param dstOffset of the first byte to write
+     *
+     * @return the offset after the last byte written
+     *
+     * @throws IllegalArgumentException if either array is <code>null</code>, or if either range is outside its array
+     *
+     * @throws NumberFormatException if the range has a character that is not a digit, a group of digits above the
+     * value of a byte, or a length that is not a multiple of the digits per byte; the bytes before the offending group
+     * have then been written
+     *
+     * @since 4.9.0
+     *
+     */
+    public int decode(byte[] src, int offset, int length, byte[] dst, int dstOffset) {
+        checkRange(src, offset, length);
+        checkRange(dst, dstOffset, length / digits);
+
+        int groups = length / digits;
+        int decoded = decodeBytes(src, offset, groups, dst, dstOffset);
+
+        if (decoded < groups) {
+            throw getInvalidDigitsException(offset + (long) decoded * digits);
+        }
+
+        if (length % digits != 0) {
+            throw getIncompleteDigitsException(offset + (long) groups * digits);
+        }
+
+        return dstOffset + groups;
+    }
+
+    /**
+     * Encodes as many of the remaining bytes of the source as there is room for the digits of in the destination.
+     * The positions of both buffers are advanced past the bytes read and the digits written. Both heap and direct
+     * buffers are supported, including memory-mapped ones.
+     *
+     * @param src bytes to encode
+     * @param dst to write the digits into
+     *
+     * @return the number of bytes encoded
+     *
+     * @throws IllegalArgumentException if either buffer is <code>null</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public int encode(ByteBuffer src, ByteBuffer dst) {
+        if (src == null || dst == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        int length = Math.min(src.remaining(), dst.remaining() / digits);
+
+        if (src.hasArray() && dst.hasArray()) {
+            encodeBytes(src.array(), src.arrayOffset() + src.position(), length,
+                    dst.array(), dst.arrayOffset() + dst.position());
+
+            src.position(src.position() + length);
+            dst.position(dst.position() + length * digits);
+
+            return length;
+        }
+
+        byte[] input = new byte[Math.min(length, BUFFER_SIZE)];
+        byte[] output = new byte[input.length * digits];
+
+        for (int done = 0, count; done < length; done += count) {
+            count = Math.min(input.length, length - done);
+
+            src.get(input, 0, count);
+
+            encodeBytes(input, 0, count, output, 0);
+
+            dst.put(output, 0, count * digits);
+        }
+
+        return length;
+    }
+
+    /**
+     * Decodes as many whole groups of digits among the remaining bytes of the source as there is room for in the
+     * destination. The positions of both buffers are advanced past the digits read and the bytes written; an
+     * incomplete group at the end of the source is left unread, to be completed by the next call, e.g. after
+     * {@link ByteBuffer#compact()}. Both heap and direct buffers are supported, including memory-mapped ones.
+     *
+     * @param src digits to decode, as ASCII bytes
+     * @param dst to write the bytes into
+     *
+     * @return the number of bytes decoded
+     *
+     * @throws IllegalArgumentException if either buffer is <code>null</code>
+     *
+     * @throws NumberFormatException if the source has a character that is not a digit, or a group of digits above the
+     * value of a byte; the positions are then advanced up to the offending group
+     *
+     * @since 4.9.0
+     *
+     */
+    public int decode(ByteBuffer src, ByteBuffer dst) {
+        if (src == null || dst == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        int groups = Math.min(src.remaining() / digits, dst.remaining());
+
+        if (src.hasArray() && dst.hasArray()) {
+            int decoded = decodeBytes(src.array(), src.arrayOffset() + src.position(), groups,
+                    dst.array(), dst.arrayOffset() + dst.position());
+
+            src.position(src.position() + decoded * digits);
+            dst.position(dst.position() + decoded);
+
+            if (decoded < groups) {
+                throw getInvalidDigitsException(src.position());
+            }
+
+            return groups;
+        }
+
+        byte[] input = new byte[Math.min(groups, BUFFER_SIZE) * digits];
+        byte[] output = new byte[input.length / digits];
+
+        for (int done = 0, count; done < groups; done += count) {
+            count = Math.min(output.length, groups - done);
+
+            src.get(input, 0, count * digits);
+
+            int decoded = decodeBytes(input, 0, count, output, 0);
+
+            dst.put(output, 0, decoded);
+
+            if (decoded < count) {
+                src.position(src.position() - (count - decoded) * digits);
+
+                throw getInvalidDigitsException(src.position());
+            }
+        }
+
+        return groups;
+    }
+
+    /**
+     * Encodes the passed input stream until its end, and writes the digits to the passed output stream. The input is
+     * read in chunks, hence streams of any length are encoded in constant memory. Neither stream is closed.
+     *
+     * @param in bytes to encode
+     * @param out to write the digits into
+     *
+     * @return the number of bytes encoded
+     *
+     * @throws IOException if either stream fails
+     * @throws IllegalArgumentException if either stream is <code>null</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public long encode(InputStream in, OutputStream out) throws IOException {
+        if (in == null || out == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        byte[] input = new byte[BUFFER_SIZE];
+        byte[] output = new byte[BUFFER_SIZE * digits];
+
+        long count = 0;
+
+        for (int read; (read = in.read(input)) >= 0; ) {
+            encodeBytes(input, 0, read, output, 0);
+
+            out.write(output, 0, read * digits);
+
+            count += read;
+        }
+
+        return count;
+    }
+
+    /**
+     * Decodes the passed input stream until its end, and writes the bytes to the passed output stream. The input is
+     * read in chunks, hence streams of any length are decoded in constant memory. Neither stream is closed.
+     *
+     * @param in digits to decode, as ASCII bytes
+     * @param out to write the bytes into
+     *
+     * @return the number of bytes decoded
+     *
+     * @throws IOException if either stream fails
+     * @throws IllegalArgumentException if either stream is <code>null</code>
+     *
+     * @throws NumberFormatException if the input has a character that is not a digit, a group of digits above the
+     * value of a byte, or a length that is not a multiple of the digits per byte; the bytes before the offending group
+     * have then been written
+     *
+     * @since 4.9.0
+     *
+     */
+    public long decode(InputStream in, OutputStream out) throws IOException {
+        if (in == null || out == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        byte[] input = new byte[BUFFER_SIZE * digits];
+        byte[] output = new byte[BUFFER_SIZE];
+
+        // Stream offset of the first digit in the input, and the number of digits in the input
+        long offset = 0;
+        int length = 0;
+
+        for (int read; (read = in.read(input, length, input.length - length)) >= 0; ) {
+            length += read;
+
+            int groups = length / digits;
+            int decoded = decodeBytes(input, 0, groups, output, 0);
+
+            out.write(output, 0, decoded);
+
+            if (decoded < groups) {
+                throw getInvalidDigitsException(offset + (long) decoded * digits);
+            }
+
+            // Keep the incomplete group, if any, for the next chunk
+            System.arraycopy(input, groups * digits, input, 0, length - groups * digits);
+
+            offset += groups * digits;
+            length -= groups * digits;
+        }
+
+        if (length > 0) {
+            throw getIncompleteDigitsException(offset);
+        }
+
+        return offset / digits;
+    }
+
+    /**
+     * Encodes the specified region of the passed file, and writes the digits to the passed channel. The file is
+     * memory-mapped one window at a time, hence files of any size are encoded in bounded memory, without being read
+     * through the heap in full. The region ends at the end of the file at the latest, and the position of the file
+     * channel is not modified. Neither channel is closed.
+     *
+     * @param in file to encode
+     * @param position in the file of the first byte to encode
+     * @param size of the region to encode
+     * @param out to write the digits into
+     *
+     * @return the number of bytes encoded
+     *
+     * @throws IOException if either channel fails
+     * @throws IllegalArgumentException if either channel is <code>null</code>, or if the position or the size is
+     * negative
+     *
+     * @since 4.9.0
+     *
+     */
+    public long encode(FileChannel in, long position, long size, WritableByteChannel out) throws IOException {
+        size = getRegionSize(in, position, size, out);
+
+        byte[] input = new byte[BUFFER_SIZE];
+        byte[] output = new byte[BUFFER_SIZE * digits];
+
+        for (long done = 0, window; done < size; done += window) {
+            window = Math.min(MAPPING_SIZE, size - done);
+
+            MappedByteBuffer mapped = in.map(FileChannel.MapMode.READ_ONLY, position + done, window);
+
+            while (mapped.hasRemaining()) {
+                int count = Math.min(input.length, mapped.remaining());
+
+                mapped.get(input, 0, count);
+
+                encodeBytes(input, 0, count, output, 0);
+
+                write(output, count * digits, out);
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Decodes the specified region of the passed file, and writes the bytes to the passed channel. The file is
+     * memory-mapped one window at a time, hence files of any size are decoded in bounded memory, without being read
+     * through the heap in full. The region ends at the end of the file at the latest, and the position of the file
+     * channel is not modified. Neither channel is closed.
+     *
+     * @param in file to decode, of digits as ASCII bytes
+     * @param position in the file of the first digit to decode
+     * @param size of the region to decode
+     * @param out to write the bytes into
+     *
+     * @return the number of bytes decoded
+     *
+     * @throws IOException if either channel fails
+     * @throws IllegalArgumentException if either channel is <code>null</code>, or if the position or the size is
+     * negative
+     *
+     * @throws NumberFormatException if the region has a character that is not a digit, a group of digits above the
+     * value of a byte, or a size that is not a multiple of the digits per byte; the bytes before the offending group
+     * have then been written
+     *
+     * @since 4.9.0
+     *
+     */
+    public long decode(FileChannel in, long position, long size, WritableByteChannel out) throws IOException {
+        size = getRegionSize(in, position, size, out);
+
+        byte[] input = new byte[BUFFER_SIZE * digits];
+        byte[] output = new byte[BUFFER_SIZE];
+
+        // Windows and chunks hold whole groups, so that only the last chunk may end with an incomplete group
+        long windowSize = (long) (MAPPING_SIZE / digits) * digits;
+
+        for (long done = 0, window; done < size; done += window) {
+            window = Math.min(windowSize, size - done);
+
+            MappedByteBuffer mapped = in.map(FileChannel.MapMode.READ_ONLY, position + done, window);
+
+            while (mapped.hasRemaining()) {
+                long index = position + done + mapped.position();
+
+                int count = Math.min(input.length, mapped.remaining());
+
+                mapped.get(input, 0, count);
+
+                int groups = count / digits;
+                int decoded = decodeBytes(input, 0, groups, output, 0);
+
+                write(output, decoded, out);
+
+                if (decoded < groups) {
+                    throw getInvalidDigitsException(index + (long) decoded * digits);
+                }
+
+                if (count % digits != 0) {
+                    throw getIncompleteDigitsException(index + (long) groups * digits);
+                }
+            }
+        }
+
+        return size / digits;
+    }
+
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+
+    private static void checkRange(byte[] bytes, int offset, long length) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IllegalArgumentException("Range is outside the array.");
+        }
+    }
+
+    private static NumberFormatException getInvalidDigitsException(long index) {
+        return new NumberFormatException("Invalid digits at index " + index + ".");
+    }
+
+    private static NumberFormatException getIncompleteDigitsException(long index) {
+        return new NumberFormatException("Incomplete digits at index " + index + ".");
+    }
+
+    // Validates the channels and the region, and returns the size of the region, up to the end of the file
+    private static long getRegionSize(FileChannel in, long position, long size, WritableByteChannel out)
+            throws IOException {
+        if (in == null || out == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        if (position < 0 || size < 0) {
+            throw new IllegalArgumentException("Negative number is not allowed as an argument.");
+        }
+
+        return Math.max(Math.min(size, in.size() - position), 0);
+    }
+
+    private static void write(byte[] bytes, int length, WritableByteChannel out) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, length);
+
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    private int getEncodedLength(int length) {
+        if ((long) length * digits > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Representation is too long.");
+        }
+
+        return length * digits;
+    }
+
+    private void encodeBytes(byte[] src, int offset, int length, byte[] dst, int dstOffset) {
+        int end = offset + length;
+
+        if (digits == 2) {
+            for (int i = offset, j = dstOffset; i < end; i++, j += 2) {
+                SHORT.set(dst, j, (short) encodings[src[i] & 0xFF]);
+            }
+        } else if (digits == 8) {
+            for (int i = offset, j = dstOffset; i < end; i++, j += 8) {
+                LONG.set(dst, j, encodings[src[i] & 0xFF]);
+            }
+        } else {
+            for (int i = offset, j = dstOffset; i < end; i++, j += 3) {
+                long encoding = encodings[src[i] & 0xFF];
+
+                SHORT.set(dst, j, (short) (encoding >>> Byte.SIZE));
+                dst[j + 2] = (byte) encoding;
+            }
+        }
+    }
+
+    /*
+     * Decodes the specified number of groups, and returns the number of groups decoded before the first that is
+     * invalid, or all of them.
+     */
+    private int decodeBytes(byte[] src, int offset, int groups, byte[] dst, int dstOffset) {
+        if (digits == 2) {
+            for (int group = 0, i = offset; group < groups; group++, i += 2) {
+                int value = pairs[(short) SHORT.get(src, i) & 0xFFFF];
+
+                if (value < 0) {
+                    return group;
+                }
+
+                dst[dstOffset + group] = (byte) value;
+            }
+
+            return groups;
+        }
+
+        if (digits == 8) {
+            // A byte other than '0' or '1', or a borrow from one below '0', leaves a bit outside the lowest ones
+            for (int group = 0, i = offset; group < groups; group++, i += 8) {
+                long word = (long) LONG.get(src, i) - ZEROS;
+
+                if ((word & ~ONES) != 0) {
+                    return group;
+                }
+
+                dst[dstOffset + group] = (byte) ((word * GATHER) >>> 56);
+            }
+
+            return groups;
+        }
+
+        // An invalid digit has the value -1, which makes the value of its whole group negative, hence a single check
+        // per group catches invalid digits as well as groups above a byte
+        for (int group = 0, i = offset; group < groups; group++) {
+            int value = 0;
+
+            for (int k = 0; k < digits; k++) {
+                value = (value << bits) | values[src[i++] & 0xFF];
+            }
+
+            if ((value & ~0xFF) != 0) {
+                return group;
+            }
+
+            dst[dstOffset + group] = (byte) value;
+        }
+
+        return groups;
+    }
+}
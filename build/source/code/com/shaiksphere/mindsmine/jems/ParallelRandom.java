@@ -0,0 +1,327 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Reproducible, optionally parallel, random fills and shuffles of large arrays.
+ * <br><br>
+ * An array is cut into chunks of a fixed size, and the chunks are the leaves of a fixed binary tree. A task walks the
+ * tree, and splits its generator at every node, in the same order whether the children then run in parallel or one
+ * after the other. Hence, every chunk always receives the same generator for the same seed, and the result does not
+ * depend on the parallelism.
+ * <br><br>
+ * A shuffle first scatters the elements into randomly chosen buckets, then shuffles every bucket independently, with a
+ * Fisher-Yates shuffle; since the buckets are chosen independently and uniformly, the result is a uniformly random
+ * permutation.
+ *
+ * @see SplittableRandom#split()
+ *
+ * @author Mohammed Shaik Hussain Ali
+ *
+ * @since 4.9.0
+ *
+ */
+final class ParallelRandom {
+    static final int CHUNK_SIZE = 1 << 16;
+
+    private static final int MAX_BUCKETS = 1 << 10;
+
+    private ParallelRandom() {}
+
+    /*
+     * An operation on the elements between from (inclusive) and to (exclusive), with its own generator.
+     */
+    @FunctionalInterface
+    interface RangeAction {
+        void accept(int from, int to, SplittableRandom random);
+    }
+
+    /*
+     * The element moves of a shuffle, for one type of array, and a buffer of the same length.
+     */
+    interface Elements {
+        int length();
+
+        void allocateBuffer();
+
+        // Copies an element of the array to the buffer
+        void scatter(int from, int to);
+
+        // Copies a range of the buffer back to the same range of the array
+        void gather(int start, int length);
+
+        // Swaps two elements of the array
+        void swap(int index1, int index2);
+    }
+
+    static void fill(int length, long seed, boolean parallel, RangeAction action) {
+        int chunkCount = (int) ((length + (long) CHUNK_SIZE - 1) / CHUNK_SIZE);
+
+        forEachChunk(chunkCount, new SplittableRandom(seed), parallel, (chunk, random) -> {
+            int from = chunk * CHUNK_SIZE;
+
+            action.accept(from, Math.min(length, from + CHUNK_SIZE), random);
+        });
+    }
+
+    static void shuffle(Elements elements, long seed, boolean parallel) {
+        int length = elements.length();
+
+        SplittableRandom random = new SplittableRandom(seed);
+
+        if (length <= CHUNK_SIZE) {
+            shuffle(elements, 0, length, random);
+
+            return;
+        }
+
+        // At most MAX_BUCKETS chunks, and as many buckets, so that the counts stay small
+        int chunkSize = Math.max(CHUNK_SIZE, (int) ((length + (long) MAX_BUCKETS - 1) / MAX_BUCKETS));
+        int chunkCount = (int) ((length + (long) chunkSize - 1) / chunkSize);
+        int bucketCount = chunkCount;
+
+        long[] chunkSeeds = new long[chunkCount];
+
+        // Number of elements of each chunk in each bucket, then where the next of them goes in the buffer
+        int[] positions = new int[chunkCount * bucketCount];
+
+        forEachChunk(chunkCount, random.split(), parallel, (chunk, chunkRandom) -> {
+            chunkSeeds[chunk] = chunkRandom.nextLong();
+
+            SplittableRandom buckets = new SplittableRandom(chunkSeeds[chunk]);
+
+            for (int i = chunk * chunkSize, end = Math.min(length, i + chunkSize); i < end; i++) {
+                positions[chunk * bucketCount + buckets.nextInt(bucketCount)]++;
+            }
+        });
+
+        int[] bucketStarts = new int[bucketCount + 1];
+
+        for (int bucket = 0, position = 0; bucket < bucketCount; bucket++) {
+            bucketStarts[bucket] = position;
+
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                int count = positions[chunk * bucketCount + bucket];
+
+                positions[chunk * bucketCount + bucket] = position;
+                position += count;
+            }
+        }
+
+        bucketStarts[bucketCount] = length;
+
+        elements.allocateBuffer();
+
+        // Replays the choice of buckets of each chunk, to move its elements
+        forEachChunk(chunkCount, null, parallel, (chunk, unused) -> {
+            SplittableRandom buckets = new SplittableRandom(chunkSeeds[chunk]);
+
+            for (int i = chunk * chunkSize, end = Math.min(length, i + chunkSize); i < end; i++) {
+                elements.scatter(i, positions[chunk * bucketCount + buckets.nextInt(bucketCount)]++);
+            }
+        });
+
+        forEachChunk(bucketCount, random.split(), parallel, (bucket, bucketRandom) -> {
+            int start = bucketStarts[bucket];
+            int end = bucketStarts[bucket + 1];
+
+            elements.gather(start, end - start);
+
+            shuffle(elements, start, end, bucketRandom);
+        });
+    }
+
+    static Elements of(int[] array) {
+        return new Elements() {
+            private int[] buffer;
+
+            @Override
+            public int length() {
+                return array.length;
+            }
+
+            @Override
+            public void allocateBuffer() {
+                buffer = new int[array.length];
+            }
+
+            @Override
+            public void scatter(int from, int to) {
+                buffer[to] = array[from];
+            }
+
+            @Override
+            public void gather(int start, int length) {
+                System.arraycopy(buffer, start, array, start, length);
+            }
+
+            @Override
+            public void swap(int index1, int index2) {
+                int swap = array[index1];
+                array[index1] = array[index2];
+                array[index2] = swap;
+            }
+        };
+    }
+
+    static Elements of(long[] array) {
+        return new Elements() {
+            private long[] buffer;
+
+            @Override
+            public int length() {
+                return array.length;
+            }
+
+            @Override
+            public void allocateBuffer() {
+                buffer = new long[array.length];
+            }
+
+            @Override
+            public void scatter(int from, int to) {
+                buffer[to] = array[from];
+            }
+
+            @Override
+            public void gather(int start, int length) {
+                System.arraycopy(buffer, start, array, start, length);
+            }
+
+            @Override
+            public void swap(int index1, int index2) {
+                long swap = array[index1];
+                array[index1] = array[index2];
+                array[index2] = swap;
+            }
+        };
+    }
+
+    static Elements of(double[] array) {
+        return new Elements() {
+            private double[] buffer;
+
+            @Override
+            public int length() {
+                return array.length;
+            }
+
+            @Override
+            public void allocateBuffer() {
+                buffer = new double[array.length];
+            }
+
+            @Override
+            public void scatter(int from, int to) {
+                buffer[to] = array[from];
+            }
+
+            @Override
+            public void gather(int start, int length) {
+                System.arraycopy(buffer, start, array, start, length);
+            }
+
+            @Override
+            public void swap(int index1, int index2) {
+                double swap = array[index1];
+                array[index1] = array[index2];
+                array[index2] = swap;
+            }
+        };
+    }
+
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+
+    /*
+     * An operation on a single chunk, with its own generator.
+     */
+    @FunctionalInterface
+    private interface ChunkAction {
+        void accept(int chunk, SplittableRandom random);
+    }
+
+    private static void forEachChunk(int chunkCount, SplittableRandom random, boolean parallel, ChunkAction action) {
+        if (chunkCount == 0) {
+            return;
+        }
+
+        ChunkTask task = new ChunkTask(0, chunkCount, random, parallel, action);
+
+        if (parallel && chunkCount > 1) {
+            ForkJoinPool.commonPool().invoke(task);
+        } else {
+            task.compute();
+        }
+    }
+
+    private static void shuffle(Elements elements, int start, int end, SplittableRandom random) {
+        for (int i = end - 1; i > start; i--) {
+            elements.swap(i, start + random.nextInt(i - start + 1));
+        }
+    }
+
+    /*
+     * A node of the tree of chunks; the generator, if any, is split the same way at every node, parallel or not.
+     */
+    private static final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        private final SplittableRandom random;
+
+        private final boolean parallel;
+
+        private final ChunkAction action;
+
+        private ChunkTask(int from, int to, SplittableRandom random, boolean parallel, ChunkAction action) {
+            this.from = from;
+            this.to = to;
+            this.random = random;
+            this.parallel = parallel;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                action.accept(from, random);
+
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+
+            ChunkTask left = new ChunkTask(from, middle, (random == null) ? null : random.split(), parallel, action);
+            ChunkTask right = new ChunkTask(middle, to, random, parallel, action);
+
+            if (parallel) {
+                invokeAll(left, right);
+            } else {
+                left.compute();
+                right.compute();
+            }
+        }
+    }
+}
@@ -0,0 +1,845 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * A collection of useful static methods to deal with strings.
+ *
+ * @see java.lang.String
+ *
+ * @author Mohammed Shaik Hussain Ali
+ *
+ * @since 1.0
+ *
+ */
+public final class StringHelper {
+
+    private StringHelper() {}
+
+    /**
+     * Returns a non-null string, even if the object being passed is a null string.
+     * <br><br>
+     * If the passed-in object is a non-null string, then it is returned as-is.
+     * <br><br>
+     * Example usage:
+     *
+     * <pre>
+     *      String str1 = "Hello";
+     *      String str2 = null;
+     *
+     *      String str3 = StringHelper.getNullSafe(str1);
+     *
+     *      String str4 = StringHelper.getNullSafe(str2);
+     *
+     *      // str3 now contains the string: "Hello"
+     *      // str4 now contains the string: ""
+     * </pre>
+     *
+     * @param string The string to safeguard against <code>null</code>.
+     *
+     * @return If str is <code>null</code> then <code>""</code> (empty string).
+     *
+     * @since 1.0
+     *
+     */
+    public static String getNullSafe(String string) {
+        return (string == null) ? "" : string;
+    }
+
+    /**
+     * Returns <code>true</code> if the passed values are equal, ignoring the case, <code>false</code> otherwise.
+     * <br><br>
+     * Convenience method equivalent to <code>StringHelper.areEqual(string1, string2, true)</code>
+     *
+     * @see StringHelper#areEqual(String, String, boolean)
+     *
+     * @param string1 to compare
+     * @param string2 to compare
+     *
+     * @return whether two strings are equal
+     *
+     * @since 1.0
+     *
+     */
+    public static boolean areEqual(String string1, String string2) {
+        return areEqual(string1, string2, true);
+    }
+
+    /**
+     * Returns <code>true</code> if the passed values are equal, <code>false</code> otherwise.
+     * <br><br>
+     * <ul>
+     *     <li>
+     *         When the lenient flag is set to <code>true</code>, the comparison will ignore the case and trim the
+     *         strings before comparing; the two strings are considered equal if,
+     *         <ul>
+     *             <li>Both strings are blank, as defined by {@link String#isBlank()}.</li>
+     *             <li>Trimmed versions of both strings, as defined by {@link String#trim()}, are equal.</li>
+     *         </ul>
+     *     </li>
+     *     <li>
+     *         When the lenient flag is set to <code>false</code>, the two strings are considered equal if,
+     *         <ul>
+     *             <li>Both strings are not null</li>
+     *             <li>Both strings represent the same sequence of characters</li>
+     *         </ul>
+     *     </li>
+     * </ul>
+     * <br>
+     * Example usage:
+     *
+     * <pre>
+     *     StringHelper.areEqual(null, null, true)       = true
+     *     StringHelper.areEqual(null, "", true)         = true
+     *     StringHelper.areEqual("", null, true)         = true
+     *     StringHelper.areEqual("", "", true)           = true
+     *     StringHelper.areEqual("   ", "", true)        = true
+     *     StringHelper.areEqual(" abc", "abc ", true)   = true
+     *     StringHelper.areEqual("", "abc", true)        = false
+     *     StringHelper.areEqual("ab c", "abc", true)    = false
+     *     StringHelper.areEqual("ABC", "abc", true)     = true
+     *     StringHelper.areEqual("abc", "abc", true)     = true
+     *
+     *     StringHelper.areEqual(null, null, false)      = false
+     *     StringHelper.areEqual(null, "", false)        = false
+     *     StringHelper.areEqual("", null, false)        = false
+     *     StringHelper.areEqual("", "", false)          = true
+     *     StringHelper.areEqual("   ", "", false)       = false
+     *     StringHelper.areEqual(" abc", "abc ", false)  = false
+     *     StringHelper.areEqual("", "abc", false)       = false
+     *     StringHelper.areEqual("ab c", "abc", false)   = false
+     *     StringHelper.areEqual("ABC", "abc", false)    = false
+     *     StringHelper.areEqual("abc", "abc", false)    = true
+     * </pre>
+     *
+     * @see java.lang.String#equalsIgnoreCase(String)
+     * @see java.lang.String#equals(Object)
+     *
+     * @param string1 to compare
+     * @param string2 to compare
+     * @param lenient whether to be lenient or not
+     *
+     * @return whether two strings are equal
+     *
+     * @since 2.1.0
+     */
+    public static boolean areEqual(String string1, String string2, boolean lenient) {
+        if (lenient) {
+            return areEqual((CharSequence) string1, (CharSequence) string2, true);
+        }
+
+        return string1 != null && string1.equals(string2);
+    }
+
+    /**
+     * Returns <code>true</code> if the passed character sequences are equal, ignoring the case, <code>false</code>
+     * otherwise.
+     * <br><br>
+     * Convenience method equivalent to <code>StringHelper.areEqual(chars1, chars2, true)</code>
+     *
+     * @see StringHelper#areEqual(CharSequence, CharSequence, boolean)
+     *
+     * @param chars1 to compare
+     * @param chars2 to compare
+     *
+     * @return whether two character sequences are equal
+     *
+     * @since 4.9.0
+     *
+     */
+    public static boolean areEqual(CharSequence chars1, CharSequence chars2) {
+        return areEqual(chars1, chars2, true);
+    }
+
+    /**
+     * Returns <code>true</code> if the passed character sequences are equal, <code>false</code> otherwise.
+     * <br><br>
+     * The result is identical to {@link StringHelper#areEqual(String, String, boolean)} called with the
+     * <code>String</code> equivalents of both sequences. However, no intermediate strings are created; in lenient mode
+     * the surrounding whitespace is skipped by index and the remaining characters are compared in place, following the
+     * rules of {@link String#equalsIgnoreCase(String)}.
+     * <br><br>
+     * Example usage:
+     *
+     * <pre>
+     *     StringHelper.areEqual(new StringBuilder(" ABC"), "abc ", true)    = true
+     *     StringHelper.areEqual(new StringBuilder("   "), null, true)       = true
+     *     StringHelper.areEqual(new StringBuilder("abc"), "abc", false)     = true
+     *     StringHelper.areEqual(new StringBuilder("ABC"), "abc", false)     = false
+     * </pre>
+     *
+     * @see StringHelper#areEqual(String, String, boolean)
+     *
+     * @param chars1 to compare
+     * @param chars2 to compare
+     * @param lenient whether to be lenient or not
+     *
+     * @return whether two character sequences are equal
+     *
+     * @since 4.9.0
+     *
+     */
+    public static boolean areEqual(CharSequence chars1, CharSequence chars2, boolean lenient) {
+        if (!lenient) {
+            return chars1 != null && chars2 != null && CharSequence.compare(chars1, chars2) == 0;
+        }
+
+        boolean isBlank1 = isBlank(chars1);
+        boolean isBlank2 = isBlank(chars2);
+
+        if (isBlank1 || isBlank2) {
+            return isBlank1 && isBlank2;
+        }
+
+        int start1 = getTrimmedStart(chars1);
+        int end1 = getTrimmedEnd(chars1, start1);
+
+        int start2 = getTrimmedStart(chars2);
+        int end2 = getTrimmedEnd(chars2, start2);
+
+        return (end1 - start1) == (end2 - start2) &&
+                regionMatchesIgnoreCase(chars1, start1, end1, chars2, start2, end2);
+    }
+
+    /**
+     * Returns <code>true</code> if any of the passed patterns occurs in the passed character sequence,
+     * <code>false</code> otherwise.
+     * <br><br>
+     * When the lenient flag is set to <code>true</code>, the patterns are trimmed, the case is ignored, and a
+     * <code>null</code> character sequence is treated as empty.
+     * <br><br>
+     * Example usage:
+     *
+     * <pre>
+     *     StringHelper.containsAny("ushers", Arrays.asList("she", "his"), false)      = true
+     *     StringHelper.containsAny("USHERS", Arrays.asList("she", "his"), false)      = false
+     *     StringHelper.containsAny("USHERS", Arrays.asList(" she ", "his"), true)     = true
+     *     StringHelper.containsAny(null, Arrays.asList("she", "his"), true)           = false
+     * </pre>
+     *
+     * To scan many character sequences for the same patterns, compile them once using
+     * {@link MultiPatternMatcher#compile(List, boolean)} instead.
+     *
+     * @see MultiPatternMatcher
+     *
+     * @param chars to scan
+     * @param patterns to look for
+     * @param lenient whether to be lenient or not
+     *
+     * @return whether any pattern occurs in the character sequence
+     *
+     * @throws IllegalArgumentException if the list or any pattern is <code>null</code>, if any pattern is empty
+     * (blank, if lenient), or if the character sequence is <code>null</code> and lenient is <code>false</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public static boolean containsAny(CharSequence chars, List<? extends CharSequence> patterns, boolean lenient) {
+        return MultiPatternMatcher.compile(patterns, lenient).containsAny(chars);
+    }
+
+    /**
+     * Returns the edit (Levenshtein) distance between the passed character sequences, i.e. the minimum number of single
+     * code point insertions, deletions and substitutions needed to change one into the other.
+     * <br><br>
+     * When the lenient flag is set to <code>true</code>, the sequences are trimmed, blank sequences (including
+     * <code>null</code>) are treated as empty, and the case is ignored; a distance of <code>0</code> then means the
+     * same as {@link StringHelper#areEqual(CharSequence, CharSequence, boolean)}.
+     * <br><br>
+     * Example usage:
+     *
+     * <pre>
+     *     StringHelper.getEditDistance("kitten", "sitting", false)    = 3
+     *     StringHelper.getEditDistance(" ABC", "abd ", true)          = 1
+     *     StringHelper.getEditDistance(null, "abc", true)             = 3
+     * </pre>
+     *
+     * To compare one sequence against many others, compile it once using
+     * {@link FuzzyMatcher#compile(CharSequence, boolean)} instead.
+     *
+     * @see FuzzyMatcher
+     *
+     * @param chars1 to compare
+     * @param chars2 to compare
+     * @param lenient whether to be lenient or not
+     *
+     * @return the edit distance
+     *
+     * @throws IllegalArgumentException if any sequence is <code>null</code> and lenient is <code>false</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public static int getEditDistance(CharSequence chars1, CharSequence chars2, boolean lenient) {
+        return FuzzyMatcher.compile(chars1, lenient).getDistance(chars2);
+    }
+
+    /**
+     * Returns <code>true</code> if the edit (Levenshtein) distance between the passed character sequences is at most
+     * the specified maximum, <code>false</code> otherwise.
+     * <br><br>
+     * Example usage:
+     *
+     * <pre>
+     *     StringHelper.isWithinEditDistance("Jonathan", "Johnathan", 1, true)   = true
+     *     StringHelper.isWithinEditDistance("Jonathan", "Jon", 2, true)         = false
+     *     StringHelper.isWithinEditDistance(null, "", 0, true)                  = true
+     *     StringHelper.isWithinEditDistance(null, "", 0, false)                 = false
+     * </pre>
+     *
+     * @see StringHelper#getEditDistance(CharSequence, CharSequence, boolean)
+     *
+     * @param chars1 to compare
+     * @param chars2 to compare
+     * @param maxDistance the largest acceptable edit distance
+     * @param lenient whether to be lenient or not
+     *
+     * @return whether the sequences are within the maximum edit distance
+     *
+     * @throws IllegalArgumentException if the maximum distance is negative
+     *
+     * @since 4.9.0
+     *
+     */
+    public static boolean isWithinEditDistance(CharSequence chars1, CharSequence chars2, int maxDistance,
+                                               boolean lenient) {
+        if (maxDistance < 0) {
+            throw new IllegalArgumentException("Negative number is not allowed as an argument.");
+        }
+
+        if (!lenient && (chars1 == null || chars2 == null)) {
+            return false;
+        }
+
+        return FuzzyMatcher.compile(chars1, lenient).isWithinDistance(chars2, maxDistance);
+    }
+
+    /**
+     * Returns a hash code for the passed character sequence that is consistent with the lenient equality test, i.e.
+     * whenever <code>StringHelper.areEqual(chars1, chars2, true)</code> is <code>true</code>, both sequences have the
+     * same lenient hash code.
+     * <br><br>
+     * The guarantee holds for well-formed UTF-16 text, and for unpaired surrogates found at the same positions in both
+     * sequences. Like {@link String#equalsIgnoreCase(String)}, lenient equality can also match a surrogate pair in one
+     * sequence against an unpaired surrogate followed by a different pair in the other; such sequences may have
+     * different lenient hash codes, and must not be used together as keys of a hash-based lenient collection.
+     * <br><br>
+     * The hash code is computed over the trimmed, case folded code points of the sequence, without creating trimmed or
+     * lower case copies. All blank sequences, including <code>null</code>, have the hash code <code>0</code>.
+     * <br><br>
+     * Example usage:
+     *
+     * <pre>
+     *     StringHelper.getLenientHashCode(null) == StringHelper.getLenientHashCode("  ")         // true
+     *     StringHelper.getLenientHashCode(" abc") == StringHelper.getLenientHashCode("ABC ")     // true
+     * </pre>
+     *
+     * @see StringHelper#areEqual(CharSequence, CharSequence, boolean)
+     *
+     * @param chars for which to compute the hash code
+     *
+     * @return a hash code consistent with lenient equality
+     *
+     * @since 4.9.0
+     *
+     */
+    public static int getLenientHashCode(CharSequence chars) {
+        if (isBlank(chars)) {
+            return 0;
+        }
+
+        int start = getTrimmedStart(chars);
+        int end = getTrimmedEnd(chars, start);
+
+        int hashCode = 0;
+
+        for (int i = start; i < end; ) {
+            int codePoint = Character.codePointAt(chars, i);
+
+            hashCode = 31 * hashCode + foldCase(codePoint);
+
+            i += Character.charCount(codePoint);
+        }
+
+        return hashCode;
+    }
+
+    /**
+     * Returns <code>true</code> if the passed string contains only digits, false otherwise.
+     * <br><br>
+     * Example usage:
+     *
+     * <pre>
+     *     StringHelper.isOnlyDigits(null)          = false
+     *     StringHelper.isOnlyDigits("")            = false
+     *     StringHelper.isOnlyDigits(" ")           = false
+     *     StringHelper.isOnlyDigits("something ")  = false
+     *     StringHelper.isOnlyDigits("11.67")       = false
+     *     StringHelper.isOnlyDigits("17650")       = true
+     * </pre>
+     *
+     * @see StringHelper#isOnlyDigits(CharSequence)
+     *
+     * @param string to check
+     *
+     * @return whether the string contains only digits
+     *
+     * @since 1.0
+     *
+     */
+    public static boolean isOnlyDigits(String string) {
+        return isOnlyDigits((CharSequence) string);
+    }
+
+    /**
+     * Returns <code>true</code> if the passed character sequence contains only digits, false otherwise.
+     * <br><br>
+     * A digit is one of the ASCII characters '<code>0</code>' through '<code>9</code>', which is what the regular
+     * expression <code>\d+</code> matches. The sequence is scanned once, without compiling a pattern.
+     *
+     * @see StringHelper#isOnlyDigits(String)
+     *
+     * @param chars to check
+     *
+     * @return whether the character sequence contains only digits
+     *
+     * @since 4.9.0
+     *
+     */
+    public static boolean isOnlyDigits(CharSequence chars) {
+        if (chars == null || chars.length() == 0) {
+            return false;
+        }
+
+        for (int i = 0, length = chars.length(); i < length; i++) {
+            if (!isDigit(chars.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns a bit set where the bit at each index is set if the string at the same index contains only digits.
+     * <br><br>
+     * Example usage:
+     *
+     * <pre>
+     *     StringHelper.areOnlyDigits(new String[] {"17650", null, "11.67", "42"})   = {0, 3}
+     * </pre>
+     *
+     * @see StringHelper#isOnlyDigits(CharSequence)
+     *
+     * @param strings to check
+     *
+     * @return a bit set of the strings that contain only digits
+     *
+     * @throws IllegalArgumentException if the array is <code>null</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public static BitSet areOnlyDigits(String[] strings) {
+        if (strings == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        BitSet bitSet = new BitSet(strings.length);
+
+        for (int i = 0; i < strings.length; i++) {
+            if (isOnlyDigits(strings[i])) {
+                bitSet.set(i);
+            }
+        }
+
+        return bitSet;
+    }
+
+    /**
+     * Returns a bit set where the bit at each index is set if the character sequence at the same index contains only
+     * digits.
+     *
+     * @see StringHelper#isOnlyDigits(CharSequence)
+     *
+     * @param list to check
+     *
+     * @return a bit set of the character sequences that contain only digits
+     *
+     * @throws IllegalArgumentException if the list is <code>null</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public static BitSet areOnlyDigits(List<? extends CharSequence> list) {
+        if (list == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        BitSet bitSet = new BitSet(list.size());
+
+        int index = 0;
+
+        for (CharSequence chars : list) {
+            if (isOnlyDigits(chars)) {
+                bitSet.set(index);
+            }
+
+            index++;
+        }
+
+        return bitSet;
+    }
+
+    /**
+     * Returns <code>true</code> if the passed string is a palindrome, ignoring the case, <code>false</code> otherwise.
+     * <br><br>
+     * Convenience method equivalent to <code>StringHelper.isPalindrome(string, true)</code>
+     *
+     * @see StringHelper#isPalindrome(String, boolean)
+     *
+     * @param string to check
+     *
+     * @return if the string is a Palindrome
+     *
+     * @since 2.1.0
+     */
+    public static boolean isPalindrome(String string) {
+        return isPalindrome(string, true);
+    }
+
+    /**
+     * Returns <code>true</code> if the passed string is a palindrome, <code>false</code> otherwise.
+     * <br><br>
+     * A palindrome is a word, phrase, number, or other sequence of characters which reads the same backward or forward,
+     * such as madam or kayak.
+     * <br><br>
+     * The result is equivalent to <code>StringHelper.areEqual(string, string.reverse, flag)</code>, however, the string
+     * is not reversed. Instead, characters are compared pairwise from both ends towards the middle.
+     * <br><br>
+     * Example usage:
+     *
+     * <pre>
+     *     StringHelper.isPalindrome(null, true)      = true
+     *     StringHelper.isPalindrome("", true)        = true
+     *     StringHelper.isPalindrome("   ", true)     = true
+     *     StringHelper.isPalindrome(" aba", true)    = true
+     *     StringHelper.isPalindrome("aba", true)     = true
+     *     StringHelper.isPalindrome("mAdAm", true)   = true
+     *     StringHelper.isPalindrome("madAm", true)   = true
+     *     StringHelper.isPalindrome("madam", true)   = true
+     *     StringHelper.isPalindrome("Madam", true)   = true
+     *     StringHelper.isPalindrome("hello", true)   = false
+     *
+     *     StringHelper.isPalindrome(null, false)     = false
+     *     StringHelper.isPalindrome("", false)       = true
+     *     StringHelper.isPalindrome("   ", false)    = true
+     *     StringHelper.isPalindrome(" aba", false)   = false
+     *     StringHelper.isPalindrome("aba", false)    = true
+     *     StringHelper.isPalindrome("mAdAm", false)  = true
+     *     StringHelper.isPalindrome("madAm", false)  = false
+     *     StringHelper.isPalindrome("madam", false)  = true
+     *     StringHelper.isPalindrome("Madam", false)  = false
+     *     StringHelper.isPalindrome("hello", false)  = false
+     * </pre>
+     *
+     * @see StringHelper#areEqual(String, String, boolean)
+     * @see <a href="https://en.wikipedia.org/wiki/Palindrome">Palindrome (Wikipedia)</a>
+     *
+     * @param string to check
+     * @param lenient whether to be lenient or not
+     *
+     * @return if the string is a Palindrome
+     *
+     * @since 2.1.0
+     */
+    public static boolean isPalindrome(String string, boolean lenient) {
+        return isPalindrome((CharSequence) string, lenient);
+    }
+
+    /**
+     * Returns <code>true</code> if the passed character sequence is a palindrome, ignoring the case, <code>false</code>
+     * otherwise.
+     * <br><br>
+     * Convenience method equivalent to <code>StringHelper.isPalindrome(chars, true)</code>
+     *
+     * @see StringHelper#isPalindrome(CharSequence, boolean)
+     *
+     * @param chars to check
+     *
+     * @return if the character sequence is a Palindrome
+     *
+     * @since 4.9.0
+     *
+     */
+    public static boolean isPalindrome(CharSequence chars) {
+        return isPalindrome(chars, true);
+    }
+
+    /**
+     * Returns <code>true</code> if the passed character sequence is a palindrome, <code>false</code> otherwise.
+     * <br><br>
+     * For well-formed text, the result is identical to {@link StringHelper#isPalindrome(String, boolean)} called with
+     * the <code>String</code> equivalent of the sequence. Surrogate pairs are compared as single code points, and in
+     * lenient mode the surrounding whitespace is skipped and the case is ignored while comparing.
+     * <br><br>
+     * No copy of the sequence is made, and at most half of it is read, so very long inputs can be checked as long as
+     * they are exposed as a <code>CharSequence</code>; for example, a {@link java.nio.CharBuffer} view of a
+     * memory-mapped file.
+     *
+     * @see StringHelper#isPalindrome(String, boolean)
+     *
+     * @param chars to check
+     * @param lenient whether to be lenient or not
+     *
+     * @return if the character sequence is a Palindrome
+     *
+     * @since 4.9.0
+     *
+     */
+    public static boolean isPalindrome(CharSequence chars, boolean lenient) {
+        if (!lenient) {
+            return chars != null && isPalindrome(chars, 0, chars.length(), false);
+        }
+
+        if (isBlank(chars)) {
+            return true;
+        }
+
+        int start = getTrimmedStart(chars);
+
+        return isPalindrome(chars, start, getTrimmedEnd(chars, start), true);
+    }
+
+    /**
+     * Returns the longest palindromic substring of the passed string. When there is more than one, the leftmost is
+     * returned.
+     * <br><br>
+     * Example usage:
+     *
+     * <pre>
+     *     StringHelper.getLongestPalindrome(null, true)             = ""
+     *     StringHelper.getLongestPalindrome(" xAbacaBay ", true)    = "AbacaBa"
+     *     StringHelper.getLongestPalindrome("xAbacaBay", false)     = "aca"
+     *     StringHelper.getLongestPalindrome("abc", false)           = "a"
+     * </pre>
+     *
+     * @see StringHelper#getPalindromeIndex(CharSequence, boolean)
+     *
+     * @param string to search
+     * @param lenient whether to be lenient or not
+     *
+     * @return the longest palindromic substring
+     *
+     * @throws IllegalArgumentException if the string is <code>null</code> and lenient is <code>false</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public static String getLongestPalindrome(String string, boolean lenient) {
+        return getPalindromeIndex(string, lenient).getLongest().toString();
+    }
+
+    /**
+     * Returns an index of all the maximal palindromes in the passed character sequence, built in linear time.
+     * <br><br>
+     * The index follows the same rules as {@link StringHelper#isPalindrome(CharSequence, boolean)}: when the lenient
+     * flag is set to <code>true</code>, the surrounding whitespace of the sequence is excluded from the index, a
+     * <code>null</code> sequence is treated as empty and the case is ignored while comparing.
+     *
+     * @see PalindromeIndex
+     *
+     * @param chars to index
+     * @param lenient whether to be lenient or not
+     *
+     * @return an index of all the maximal palindromes
+     *
+     * @throws IllegalArgumentException if the sequence is <code>null</code> and lenient is <code>false</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public static PalindromeIndex getPalindromeIndex(CharSequence chars, boolean lenient) {
+        if (!lenient) {
+            if (chars == null) {
+                throw new IllegalArgumentException("Null is not allowed as an argument.");
+            }
+
+            return new PalindromeIndex(chars, 0, chars.length(), false);
+        }
+
+        CharSequence safeChars = (chars == null) ? "" : chars;
+
+        int start = getTrimmedStart(safeChars);
+
+        return new PalindromeIndex(safeChars, start, getTrimmedEnd(safeChars, start), true);
+    }
+
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+
+    /*
+     * Same as the regular expression \d, i.e. [0-9]. A single unsigned comparison.
+     */
+    static boolean isDigit(char c) {
+        return (char) (c - '0') <= 9;
+    }
+
+    /*
+     * Same as String#isBlank(), with null treated as blank.
+     */
+    static boolean isBlank(CharSequence chars) {
+        if (chars == null) {
+            return true;
+        }
+
+        for (int i = 0, length = chars.length(); i < length; i++) {
+            if (!Character.isWhitespace(chars.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /*
+     * Index of the first character that String#trim() would keep.
+     */
+    static int getTrimmedStart(CharSequence chars) {
+        if (chars == null) {
+            return 0;
+        }
+
+        int start = 0;
+        int length = chars.length();
+
+        while (start < length && chars.charAt(start) <= ' ') {
+            start++;
+        }
+
+        return start;
+    }
+
+    /*
+     * Index after the last character that String#trim() would keep.
+     */
+    static int getTrimmedEnd(CharSequence chars, int start) {
+        if (chars == null) {
+            return 0;
+        }
+
+        int end = chars.length();
+
+        while (end > start && chars.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        return end;
+    }
+
+    /*
+     * Case insensitive equality of two code points, as used by String#equalsIgnoreCase(String).
+     */
+    static boolean equalsIgnoreCase(int codePoint1, int codePoint2) {
+        return codePoint1 == codePoint2 || foldCase(codePoint1) == foldCase(codePoint2);
+    }
+
+    /*
+     * Maps every code point of a String#equalsIgnoreCase(String) equivalence class to the same value.
+     */
+    static int foldCase(int codePoint) {
+        return Character.toLowerCase(Character.toUpperCase(codePoint));
+    }
+
+    /*
+     * Compares code points from both ends of the region towards the middle. Characters just outside a trimmed region
+     * are never surrogates, so a surrogate pair cannot straddle the region boundaries.
+     */
+    private static boolean isPalindrome(CharSequence chars, int start, int end, boolean ignoreCase) {
+        int front = start;
+        int back = end;
+
+        while (front < back) {
+            int codePoint1 = Character.codePointAt(chars, front);
+            int codePoint2 = Character.codePointBefore(chars, back);
+
+            if (codePoint1 != codePoint2 && !(ignoreCase && equalsIgnoreCase(codePoint1, codePoint2))) {
+                return false;
+            }
+
+            front += Character.charCount(codePoint1);
+            back -= Character.charCount(codePoint2);
+        }
+
+        return true;
+    }
+
+    /*
+     * Mirrors the character-by-character scan of String#regionMatches(boolean, int, String, int, int), including its
+     * fallback to whole code points when a surrogate pair is encountered.
+     */
+    private static boolean regionMatchesIgnoreCase(CharSequence chars1, int start1, int end1,
+                                                   CharSequence chars2, int start2, int end2) {
+        for (int k1 = start1, k2 = start2; k1 < end1 && k2 < end2; k1++, k2++) {
+            char c1 = chars1.charAt(k1);
+            char c2 = chars2.charAt(k2);
+
+            if (equalsIgnoreCase(c1, c2)) {
+                continue;
+            }
+
+            int codePoint1 = c1;
+            int codePoint2 = c2;
+
+            if (Character.isLowSurrogate(c1)) {
+                if (k1 > start1 && Character.isHighSurrogate(chars1.charAt(k1 - 1))) {
+                    codePoint1 = Character.toCodePoint(chars1.charAt(k1 - 1), c1);
+                }
+            } else if (Character.isHighSurrogate(c1) && k1 + 1 < end1) {
+                char next = chars1.charAt(k1 + 1);
+
+                if (Character.isLowSurrogate(next)) {
+                    codePoint1 = Character.toCodePoint(c1, next);
+                    k1++;
+                }
+            }
+
+            if (Character.isLowSurrogate(c2)) {
+                if (k2 > start2 && Character.isHighSurrogate(chars2.charAt(k2 - 1))) {
+                    codePoint2 = Character.toCodePoint(chars2.charAt(k2 - 1), c2);
+                }
+            } else if (Character.isHighSurrogate(c2) && k2 + 1 < end2) {
+                char next = chars2.charAt(k2 + 1);
+
+                if (Character.isLowSurrogate(next)) {
+                    codePoint2 = Character.toCodePoint(c2, next);
+                    k2++;
+                }
+            }
+
+            if (!equalsIgnoreCase(codePoint1, codePoint2)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,323 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread-safe pool of canonical strings, used to deduplicate repeated strings on the heap.
+ * <br><br>
+ * Unlike {@link String#intern()}, the pool has a fixed number of slots, so its memory use is bounded regardless of the
+ * number of distinct strings passing through it. The slots are grouped in buckets of four; when all the slots of a
+ * bucket are taken, one of them is evicted using the CLOCK (second chance) policy. Each hit marks its slot as
+ * referenced, and the search for a victim clears the marks it passes over, evicting the first slot that is not marked.
+ * Strings that are hit again before the clock comes round, such as country codes or status values, therefore stay in
+ * the pool, while strings seen only once are displaced first.
+ * <br><br>
+ * The pool is lock-free. Concurrent callers may occasionally both miss for the same string, in which case either
+ * instance may become the canonical one; the pool never returns a string that is not equal to the one passed in.
+ * <br><br>
+ * When the pool is lenient, strings are compared using <code>StringHelper.areEqual(string1, string2, true)</code>, and
+ * the canonical instance returned is the first of the leniently equal strings seen.
+ * <br><br>
+ * Example usage:
+ *
+ * <pre>
+ *     StringPool pool = new StringPool(4096, false);
+ *
+ *     String code1 = pool.getCanonical(new String("US"));
+ *     String code2 = pool.getCanonical(new String("US"));
+ *
+ *     // code1 == code2
+ * </pre>
+ *
+ * @see String#intern()
+ * @see StringHelper#areEqual(String, String, boolean)
+ *
+ * @author Mohammed Shaik Hussain Ali
+ *
+ * @since 4.9.0
+ *
+ */
+public final class StringPool {
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private static final int WAYS = 4;
+
+    // Each bucket's clock holds one referenced bit per slot in its low bits, followed by the position of the hand
+    private static final int REFERENCED_MASK = (1 << WAYS) - 1;
+
+    // Shallow sizes of a String and of an empty byte[] on a 64-bit JVM with compressed references
+    private static final int STRING_OVERHEAD = 24;
+    private static final int ARRAY_OVERHEAD = 16;
+
+    private final AtomicReferenceArray<String> slots;
+    private final AtomicIntegerArray clocks;
+    private final int mask;
+    private final boolean lenient;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    /**
+     * Creates a pool with (at least) the specified number of slots.
+     *
+     * @param capacity the number of strings the pool can hold, rounded up to a power of two
+     * @param lenient whether to be lenient or not
+     *
+     * @throws IllegalArgumentException if the capacity is less than 4 or greater than 2^30
+     *
+     * @since 4.9.0
+     *
+     */
+    public StringPool(int capacity, boolean lenient) {
+        if (capacity < WAYS || capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 4 and 2^30.");
+        }
+
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+
+        this.slots = new AtomicReferenceArray<>(size);
+        this.clocks = new AtomicIntegerArray(size / WAYS);
+        this.mask = size - 1;
+        this.lenient = lenient;
+    }
+
+    /**
+     * Returns the canonical instance of the passed string.
+     * <br><br>
+     * If an equal string (leniently equal, for a lenient pool) is in the pool, that instance is returned. Otherwise,
+     * the passed string is added to the pool, possibly evicting another string, and is returned as-is.
+     *
+     * @param string to canonicalize
+     *
+     * @return the canonical instance, or <code>null</code> if the string is <code>null</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public String getCanonical(String string) {
+        if (string == null) {
+            return null;
+        }
+
+        int hashCode = lenient ? StringHelper.getLenientHashCode(string) : string.hashCode();
+        int mixed = hashCode * 0x9E3779B9;
+
+        int bucket = (mixed ^ (mixed >>> 16)) & mask & -WAYS;
+        int empty = -1;
+
+        for (int i = bucket; i < bucket + WAYS; i++) {
+            String candidate = slots.get(i);
+
+            if (candidate == null) {
+                if (empty < 0) {
+                    empty = i;
+                }
+            } else if (areEqual(candidate, string)) {
+                return hit(bucket, i - bucket, candidate, string);
+            }
+        }
+
+        missCount.increment();
+
+        if (empty < 0) {
+            evictionCount.increment();
+
+            empty = bucket + evict(bucket);
+        }
+
+        slots.set(empty, string);
+
+        return string;
+    }
+
+    /**
+     * Returns the number of slots in the pool.
+     *
+     * @return the number of slots
+     *
+     * @since 4.9.0
+     *
+     */
+    public int getCapacity() {
+        return slots.length();
+    }
+
+    /**
+     * Returns <code>true</code> if the pool compares strings leniently.
+     *
+     * @return whether the pool is lenient
+     *
+     * @since 4.9.0
+     *
+     */
+    public boolean isLenient() {
+        return lenient;
+    }
+
+    /**
+     * Returns the number of calls that returned a string already in the pool.
+     *
+     * @return the number of hits
+     *
+     * @since 4.9.0
+     *
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the number of calls that added the passed string to the pool.
+     *
+     * @return the number of misses
+     *
+     * @since 4.9.0
+     *
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the number of strings evicted from the pool to make room for others.
+     *
+     * @return the number of evictions
+     *
+     * @since 4.9.0
+     *
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Returns the fraction of calls that returned a string already in the pool.
+     *
+     * @return the hit rate, between 0 and 1, or 0 if the pool was never used
+     *
+     * @since 4.9.0
+     *
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long total = hits + getMissCount();
+
+        return (total == 0) ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Returns an estimate of the heap memory saved, in bytes.
+     * <br><br>
+     * Each hit where the passed string is a different instance than the canonical one counts the shallow size of the
+     * passed string and of its backing array, assuming a 64-bit JVM with compressed references and compact strings. The
+     * memory is only actually saved if the caller drops its reference to the passed string.
+     *
+     * @return the estimated number of bytes saved
+     *
+     * @since 4.9.0
+     *
+     */
+    public long getEstimatedBytesSaved() {
+        return bytesSaved.sum();
+    }
+
+    /**
+     * Removes all the strings from the pool, and resets all the counters.
+     *
+     * @since 4.9.0
+     *
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+
+        for (int i = 0; i < clocks.length(); i++) {
+            clocks.set(i, 0);
+        }
+
+        hitCount.reset();
+        missCount.reset();
+        evictionCount.reset();
+        bytesSaved.reset();
+    }
+
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+
+    private boolean areEqual(String canonical, String string) {
+        return lenient ? StringHelper.areEqual(canonical, string, true) : canonical.equals(string);
+    }
+
+    private String hit(int bucket, int way, String canonical, String string) {
+        hitCount.increment();
+
+        int bit = 1 << way;
+
+        if ((clocks.get(bucket / WAYS) & bit) == 0) {
+            clocks.accumulateAndGet(bucket / WAYS, bit, (clock, mark) -> clock | mark);
+        }
+
+        if (canonical != string) {
+            bytesSaved.add(getEstimatedSize(string));
+        }
+
+        return canonical;
+    }
+
+    private int evict(int bucket) {
+        int index = bucket / WAYS;
+
+        while (true) {
+            int clock = clocks.get(index);
+            int referenced = clock & REFERENCED_MASK;
+            int way = clock >>> WAYS;
+
+            while ((referenced & (1 << way)) != 0) {
+                referenced &= ~(1 << way);
+                way = (way + 1) & (WAYS - 1);
+            }
+
+            int next = (((way + 1) & (WAYS - 1)) << WAYS) | referenced;
+
+            if (clocks.compareAndSet(index, clock, next)) {
+                return way;
+            }
+        }
+    }
+
+    private static long getEstimatedSize(String string) {
+        int bytesPerChar = 1;
+
+        for (int i = 0; i < string.length(); i++) {
+            if (string.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+
+                break;
+            }
+        }
+
+        return STRING_OVERHEAD + ((ARRAY_OVERHEAD + (long) string.length() * bytesPerChar + 7) & ~7L);
+    }
+}
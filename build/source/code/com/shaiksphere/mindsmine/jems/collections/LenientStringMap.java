@@ -0,0 +1,418 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems.collections;
+
+import com.shaiksphere.mindsmine.jems.StringHelper;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * An open addressing hash map whose keys are compared using the lenient string equality test.
+ * <br><br>
+ * Two keys are the same when <code>StringHelper.areEqual(chars1, chars2, true)</code> is <code>true</code>, i.e. when
+ * both are blank (or <code>null</code>), or when their trimmed versions are equal ignoring the case. The keys are
+ * stored as-is, next to their lenient hash codes, so neither lookups nor insertions allocate a wrapper or a normalised
+ * copy of the key. This turns grouping or deduplicating records by lenient equality into a linear time operation.
+ * <br><br>
+ * Collisions are resolved by linear probing, and removals shift the following entries back, so no tombstones are
+ * left behind. As with {@link java.util.HashMap}, the first key inserted is the one retained for an entry.
+ * <br><br>
+ * Example usage:
+ *
+ * <pre>
+ *     LenientStringMap&lt;Integer&gt; counts = new LenientStringMap&lt;&gt;();
+ *
+ *     counts.put(" US", 1);
+ *     counts.put("us ", 2);
+ *
+ *     counts.size();           // 1
+ *     counts.get("Us");        // 2
+ * </pre>
+ *
+ * This class is not thread-safe. The keys should not be modified while they are in the map.
+ *
+ * @param <V> the type of mapped values
+ *
+ * @see StringHelper#areEqual(CharSequence, CharSequence, boolean)
+ * @see StringHelper#getLenientHashCode(CharSequence)
+ * @see LenientStringKey
+ *
+ * @author Mohammed Shaik Hussain Ali
+ *
+ * @since 4.9.0
+ *
+ */
+public final class LenientStringMap<V> {
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    // Stands in for a null key, since a null slot marks an empty slot
+    private static final Object NULL_KEY = new Object();
+
+    private final float loadFactor;
+
+    private Object[] keys;
+    private int[] hashCodes;
+    private Object[] values;
+
+    private int mask;
+    private int threshold;
+    private int size;
+
+    /**
+     * Creates an empty map, with the default expected size (16) and the default load factor (0.75).
+     *
+     * @since 4.9.0
+     *
+     */
+    public LenientStringMap() {
+        this(DEFAULT_EXPECTED_SIZE, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates an empty map, sized to hold the expected number of entries without resizing, with the default load
+     * factor (0.75).
+     *
+     * @param expectedSize the number of entries expected
+     *
+     * @throws IllegalArgumentException if the expected size is negative
+     *
+     * @since 4.9.0
+     *
+     */
+    public LenientStringMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates an empty map, sized to hold the expected number of entries without resizing, with the specified load
+     * factor.
+     *
+     * @param expectedSize the number of entries expected
+     * @param loadFactor the fraction of slots that may be used before the map is resized
+     *
+     * @throws IllegalArgumentException if the expected size is negative
+     *
+     * @throws IllegalArgumentException if the load factor is not strictly between 0 and 1
+     *
+     * @since 4.9.0
+     *
+     */
+    public LenientStringMap(int expectedSize, float loadFactor) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Negative number is not allowed as an argument.");
+        }
+
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor must be between 0 and 1.");
+        }
+
+        this.loadFactor = loadFactor;
+
+        allocate(getCapacity(expectedSize, loadFactor));
+    }
+
+    /**
+     * Returns the number of entries in the map.
+     *
+     * @return the number of entries
+     *
+     * @since 4.9.0
+     *
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns <code>true</code> if the map contains no entries.
+     *
+     * @return whether the map is empty
+     *
+     * @since 4.9.0
+     *
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns <code>true</code> if the map contains a key leniently equal to the specified key.
+     *
+     * @param key to look up, may be <code>null</code>
+     *
+     * @return whether the map contains the key
+     *
+     * @since 4.9.0
+     *
+     */
+    public boolean containsKey(CharSequence key) {
+        return indexOf(key, StringHelper.getLenientHashCode(key)) >= 0;
+    }
+
+    /**
+     * Returns the value mapped to a key leniently equal to the specified key, or <code>null</code> if there is none.
+     *
+     * @param key to look up, may be <code>null</code>
+     *
+     * @return the mapped value, or <code>null</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    @SuppressWarnings("unchecked")
+    public V get(CharSequence key) {
+        int index = indexOf(key, StringHelper.getLenientHashCode(key));
+
+        return (index < 0) ? null : (V) values[index];
+    }
+
+    /**
+     * Returns the key stored in the map that is leniently equal to the specified key, or <code>null</code> if there is
+     * none. This is the first of the leniently equal keys that was inserted, which makes the map usable as a
+     * canonicalizing table.
+     *
+     * @param key to look up, may be <code>null</code>
+     *
+     * @return the stored key, or <code>null</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public CharSequence getKey(CharSequence key) {
+        int index = indexOf(key, StringHelper.getLenientHashCode(key));
+
+        return (index < 0) ? null : unmask(keys[index]);
+    }
+
+    /**
+     * Maps the specified value to the specified key. If a leniently equal key is already in the map, its value is
+     * replaced, while the stored key is retained.
+     *
+     * @param key with which the value is to be associated, may be <code>null</code>
+     * @param value to be associated with the key
+     *
+     * @return the previous value mapped to the key, or <code>null</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    @SuppressWarnings("unchecked")
+    public V put(CharSequence key, V value) {
+        int hashCode = StringHelper.getLenientHashCode(key);
+        int index = indexOf(key, hashCode);
+
+        if (index >= 0) {
+            V previous = (V) values[index];
+
+            values[index] = value;
+
+            return previous;
+        }
+
+        insert(key, hashCode, value);
+
+        return null;
+    }
+
+    /**
+     * Maps the specified value to the specified key, unless a leniently equal key is already in the map.
+     *
+     * @param key with which the value is to be associated, may be <code>null</code>
+     * @param value to be associated with the key
+     *
+     * @return the value already mapped to the key, or <code>null</code> if the value was inserted
+     *
+     * @since 4.9.0
+     *
+     */
+    @SuppressWarnings("unchecked")
+    public V putIfAbsent(CharSequence key, V value) {
+        int hashCode = StringHelper.getLenientHashCode(key);
+        int index = indexOf(key, hashCode);
+
+        if (index >= 0) {
+            return (V) values[index];
+        }
+
+        insert(key, hashCode, value);
+
+        return null;
+    }
+
+    /**
+     * Removes the entry whose key is leniently equal to the specified key.
+     *
+     * @param key to remove, may be <code>null</code>
+     *
+     * @return the value that was mapped to the key, or <code>null</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(CharSequence key) {
+        int index = indexOf(key, StringHelper.getLenientHashCode(key));
+
+        if (index < 0) {
+            return null;
+        }
+
+        V previous = (V) values[index];
+
+        int gap = index;
+
+        for (int i = (gap + 1) & mask; keys[i] != null; i = (i + 1) & mask) {
+            int home = getHomeIndex(hashCodes[i]);
+
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                hashCodes[gap] = hashCodes[i];
+                values[gap] = values[i];
+
+                gap = i;
+            }
+        }
+
+        keys[gap] = null;
+        values[gap] = null;
+
+        size--;
+
+        return previous;
+    }
+
+    /**
+     * Removes all the entries from the map.
+     *
+     * @since 4.9.0
+     *
+     */
+    public void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+
+        size = 0;
+    }
+
+    /**
+     * Performs the given action for each entry in the map, in no particular order.
+     *
+     * @param action to be performed for each entry
+     *
+     * @since 4.9.0
+     *
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super CharSequence, ? super V> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                action.accept(unmask(keys[i]), (V) values[i]);
+            }
+        }
+    }
+
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+
+    private static int getCapacity(int expectedSize, float loadFactor) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 1) / (double) loadFactor) + 1;
+
+        if (needed > MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+
+        return Math.max(Integer.highestOneBit((int) needed - 1) << 1, 2);
+    }
+
+    private static CharSequence unmask(Object key) {
+        return (key == NULL_KEY) ? null : (CharSequence) key;
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        hashCodes = new int[capacity];
+        values = new Object[capacity];
+
+        mask = capacity - 1;
+        threshold = Math.min((int) (capacity * loadFactor), capacity - 1);
+    }
+
+    private int getHomeIndex(int hashCode) {
+        int mixed = hashCode * 0x9E3779B9;
+
+        return (mixed ^ (mixed >>> 16)) & mask;
+    }
+
+    private int indexOf(CharSequence key, int hashCode) {
+        for (int i = getHomeIndex(hashCode); keys[i] != null; i = (i + 1) & mask) {
+            if (hashCodes[i] == hashCode && StringHelper.areEqual(unmask(keys[i]), key, true)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private void insert(CharSequence key, int hashCode, V value) {
+        if (size >= threshold) {
+            resize();
+        }
+
+        int i = getHomeIndex(hashCode);
+
+        while (keys[i] != null) {
+            i = (i + 1) & mask;
+        }
+
+        keys[i] = (key == null) ? NULL_KEY : key;
+        hashCodes[i] = hashCode;
+        values[i] = value;
+
+        size++;
+    }
+
+    private void resize() {
+        if (keys.length == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Maximum capacity reached.");
+        }
+
+        Object[] oldKeys = keys;
+        int[] oldHashCodes = hashCodes;
+        Object[] oldValues = values;
+
+        allocate(oldKeys.length << 1);
+
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] != null) {
+                int i = getHomeIndex(oldHashCodes[j]);
+
+                while (keys[i] != null) {
+                    i = (i + 1) & mask;
+                }
+
+                keys[i] = oldKeys[j];
+                hashCodes[i] = oldHashCodes[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+}
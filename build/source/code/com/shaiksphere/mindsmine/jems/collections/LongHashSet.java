@@ -0,0 +1,366 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems.collections;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * An open addressing hash set of <code>long</code> values, which stores the values in a single <code>long[]</code>
+ * instead of boxing them into the entries of a {@link java.util.HashSet}.
+ * <br><br>
+ * Collisions are resolved by linear probing, and removals shift the following values back, so no tombstones are left
+ * behind. Zero marks an empty slot, hence the value zero itself is tracked apart from the slots. The load factor trades
+ * memory for shorter probe sequences; at the default of 0.75, the set takes between 10.7 and 21.3 bytes per value.
+ * <br><br>
+ * Example usage:
+ *
+ * <pre>
+ *     LongHashSet seen = new LongHashSet();
+ *
+ *     seen.add(42);            // true
+ *     seen.add(42);            // false
+ *     seen.contains(42);       // true
+ * </pre>
+ *
+ * This class is not thread-safe.
+ *
+ * @see IntHashSet
+ *
+ * @author Mohammed Shaik Hussain Ali
+ *
+ * @since 4.9.0
+ *
+ */
+public final class LongHashSet {
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final float loadFactor;
+
+    private long[] keys;
+
+    // Whether the set contains zero, which is not held in a slot
+    private boolean containsZero;
+
+    private int mask;
+    private int threshold;
+    private int size;
+
+    /**
+     * Creates an empty set, with the default expected size (16) and the default load factor (0.75).
+     *
+     * @since 4.9.0
+     *
+     */
+    public LongHashSet() {
+        this(DEFAULT_EXPECTED_SIZE, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates an empty set, sized to hold the expected number of elements without resizing, with the default load
+     * factor (0.75).
+     *
+     * @param expectedSize the number of elements expected
+     *
+     * @throws IllegalArgumentException if the expected size is negative
+     *
+     * @since 4.9.0
+     *
+     */
+    public LongHashSet(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates an empty set, sized to hold the expected number of elements without resizing, with the specified load
+     * factor.
+     *
+     * @param expectedSize the number of elements expected
+     * @param loadFactor the fraction of slots that may be used before the set is resized
+     *
+     * @throws IllegalArgumentException if the expected size is negative
+     *
+     * @throws IllegalArgumentException if the load factor is not strictly between 0 and 1
+     *
+     * @since 4.9.0
+     *
+     */
+    public LongHashSet(int expectedSize, float loadFactor) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Negative number is not allowed as an argument.");
+        }
+
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor must be between 0 and 1.");
+        }
+
+        this.loadFactor = loadFactor;
+
+        allocate(getCapacity(expectedSize, loadFactor));
+    }
+
+    /**
+     * Returns the number of elements in the set.
+     *
+     * @return the number of elements
+     *
+     * @since 4.9.0
+     *
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns <code>true</code> if the set contains no elements.
+     *
+     * @return whether the set is empty
+     *
+     * @since 4.9.0
+     *
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns <code>true</code> if the set contains the specified value.
+     *
+     * @param value to look up
+     *
+     * @return whether the set contains the value
+     *
+     * @since 4.9.0
+     *
+     */
+    public boolean contains(long value) {
+        return (value == 0) ? containsZero : indexOf(value) >= 0;
+    }
+
+    /**
+     * Adds the specified value to the set, unless it is already in the set.
+     *
+     * @param value to add
+     *
+     * @return <code>true</code> if the value was added, <code>false</code> if it was already in the set
+     *
+     * @since 4.9.0
+     *
+     */
+    public boolean add(long value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+
+            containsZero = true;
+            size++;
+
+            return true;
+        }
+
+        int i = getHomeIndex(value);
+
+        while (keys[i] != 0) {
+            if (keys[i] == value) {
+                return false;
+            }
+
+            i = (i + 1) & mask;
+        }
+
+        if (size >= threshold) {
+            resize();
+
+            i = getFreeIndex(value);
+        }
+
+        keys[i] = value;
+
+        size++;
+
+        return true;
+    }
+
+    /**
+     * Removes the specified value from the set.
+     *
+     * @param value to remove
+     *
+     * @return <code>true</code> if the value was removed, <code>false</code> if it was not in the set
+     *
+     * @since 4.9.0
+     *
+     */
+    public boolean remove(long value) {
+        if (value == 0) {
+            if (!containsZero) {
+                return false;
+            }
+
+            containsZero = false;
+            size--;
+
+            return true;
+        }
+
+        int index = indexOf(value);
+
+        if (index < 0) {
+            return false;
+        }
+
+        int gap = index;
+
+        for (int i = (gap + 1) & mask; keys[i] != 0; i = (i + 1) & mask) {
+            int home = getHomeIndex(keys[i]);
+
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+
+                gap = i;
+            }
+        }
+
+        keys[gap] = 0;
+
+        size--;
+
+        return true;
+    }
+
+    /**
+     * Removes all the values from the set.
+     *
+     * @since 4.9.0
+     *
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+
+        containsZero = false;
+        size = 0;
+    }
+
+    /**
+     * Performs the given action for each value in the set, in no particular order.
+     *
+     * @param action to be performed for each value
+     *
+     * @since 4.9.0
+     *
+     */
+    public void forEach(LongConsumer action) {
+        if (containsZero) {
+            action.accept(0);
+        }
+
+        for (long key : keys) {
+            if (key != 0) {
+                action.accept(key);
+            }
+        }
+    }
+
+    /**
+     * Returns the values of the set in a new array, in no particular order.
+     *
+     * @return an array of the values
+     *
+     * @since 4.9.0
+     *
+     */
+    public long[] toArray() {
+        long[] values = new long[size];
+
+        int count = containsZero ? 1 : 0;
+
+        for (long key : keys) {
+            if (key != 0) {
+                values[count++] = key;
+            }
+        }
+
+        return values;
+    }
+
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+
+    private static int getCapacity(int expectedSize, float loadFactor) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 1) / (double) loadFactor) + 1;
+
+        if (needed > MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+
+        return Math.max(Integer.highestOneBit((int) needed - 1) << 1, 2);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+
+        mask = capacity - 1;
+        threshold = Math.min((int) (capacity * loadFactor), capacity - 1);
+    }
+
+    private int getHomeIndex(long key) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+
+        return (int) (mixed ^ (mixed >>> 32)) & mask;
+    }
+
+    private int indexOf(long key) {
+        for (int i = getHomeIndex(key); keys[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private int getFreeIndex(long key) {
+        int i = getHomeIndex(key);
+
+        while (keys[i] != 0) {
+            i = (i + 1) & mask;
+        }
+
+        return i;
+    }
+
+    private void resize() {
+        if (keys.length == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Maximum capacity reached.");
+        }
+
+        long[] oldKeys = keys;
+
+        allocate(oldKeys.length << 1);
+
+        for (long key : oldKeys) {
+            if (key != 0) {
+                keys[getFreeIndex(key)] = key;
+            }
+        }
+    }
+}
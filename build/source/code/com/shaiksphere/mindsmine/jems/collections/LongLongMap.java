@@ -0,0 +1,429 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems.collections;
+
+import java.util.Arrays;
+
+/**
+ * An open addressing hash map of <code>long</code> keys to <code>long</code> values, which stores the keys and the
+ * values in two <code>long[]</code> instead of boxing them into the entries of a {@link java.util.HashMap}.
+ * <br><br>
+ * Collisions are resolved by linear probing, and removals shift the following entries back, so no tombstones are left
+ * behind. Zero marks an empty slot, hence the key zero itself is tracked apart from the slots. Since a primitive value
+ * cannot be <code>null</code>, lookups take the value to return for a missing key. The load factor trades memory for
+ * shorter probe sequences; at the default of 0.75, the map takes between 21.3 and 42.7 bytes per entry.
+ * <br><br>
+ * Example usage:
+ *
+ * <pre>
+ *     LongLongMap counts = new LongLongMap();
+ *
+ *     counts.put(7, 1);
+ *     counts.put(7, counts.get(7, 0) + 1);
+ *
+ *     counts.get(7, 0);        // 2
+ *     counts.get(8, -1);       // -1
+ * </pre>
+ *
+ * This class is not thread-safe.
+ *
+ * @see IntIntMap
+ *
+ * @author Mohammed Shaik Hussain Ali
+ *
+ * @since 4.9.0
+ *
+ */
+public final class LongLongMap {
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final float loadFactor;
+
+    private long[] keys;
+    private long[] values;
+
+    // Whether the map contains the key zero, and its value, which are not held in a slot
+    private boolean containsZeroKey;
+    private long zeroValue;
+
+    private int mask;
+    private int threshold;
+    private int size;
+
+    /**
+     * Creates an empty map, with the default expected size (16) and the default load factor (0.75).
+     *
+     * @since 4.9.0
+     *
+     */
+    public LongLongMap() {
+        this(DEFAULT_EXPECTED_SIZE, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates an empty map, sized to hold the expected number of entries without resizing, with the default load
+     * factor (0.75).
+     *
+     * @param expectedSize the number of entries expected
+     *
+     * @throws IllegalArgumentException if the expected size is negative
+     *
+     * @since 4.9.0
+     *
+     */
+    public LongLongMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Creates an empty map, sized to hold the expected number of entries without resizing, with the specified load
+     * factor.
+     *
+     * @param expectedSize the number of entries expected
+     * @param loadFactor the fraction of slots that may be used before the map is resized
+     *
+     * @throws IllegalArgumentException if the expected size is negative
+     *
+     * @throws IllegalArgumentException if the load factor is not strictly between 0 and 1
+     *
+     * @since 4.9.0
+     *
+     */
+    public LongLongMap(int expectedSize, float loadFactor) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Negative number is not allowed as an argument.");
+        }
+
+        if (!(loadFactor > 0 && loadFactor < 1)) {
+            throw new IllegalArgumentException("Load factor must be between 0 and 1.");
+        }
+
+        this.loadFactor = loadFactor;
+
+        allocate(getCapacity(expectedSize, loadFactor));
+    }
+
+    /**
+     * Returns the number of entries in the map.
+     *
+     * @return the number of entries
+     *
+     * @since 4.9.0
+     *
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns <code>true</code> if the map contains no entries.
+     *
+     * @return whether the map is empty
+     *
+     * @since 4.9.0
+     *
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns <code>true</code> if the map contains the specified key.
+     *
+     * @param key to look up
+     *
+     * @return whether the map contains the key
+     *
+     * @since 4.9.0
+     *
+     */
+    public boolean containsKey(long key) {
+        return (key == 0) ? containsZeroKey : indexOf(key) >= 0;
+    }
+
+    /**
+     * Returns the value mapped to the specified key, or the default value if there is none.
+     *
+     * @param key to look up
+     * @param defaultValue to return if the key is not in the map
+     *
+     * @return the mapped value, or the default value
+     *
+     * @since 4.9.0
+     *
+     */
+    public long get(long key, long defaultValue) {
+        if (key == 0) {
+            return containsZeroKey ? zeroValue : defaultValue;
+        }
+
+        int index = indexOf(key);
+
+        return (index < 0) ? defaultValue : values[index];
+    }
+
+    /**
+     * Maps the specified value to the specified key, replacing the value already mapped to the key, if any.
+     *
+     * @param key with which the value is to be associated
+     * @param value to be associated with the key
+     *
+     * @return <code>true</code> if the key was added, <code>false</code> if its value was replaced
+     *
+     * @since 4.9.0
+     *
+     */
+    public boolean put(long key, long value) {
+        if (key == 0) {
+            boolean added = !containsZeroKey;
+
+            containsZeroKey = true;
+            zeroValue = value;
+
+            if (added) {
+                size++;
+            }
+
+            return added;
+        }
+
+        int i = getHomeIndex(key);
+
+        while (keys[i] != 0) {
+            if (keys[i] == key) {
+                values[i] = value;
+
+                return false;
+            }
+
+            i = (i + 1) & mask;
+        }
+
+        if (size >= threshold) {
+            resize();
+
+            i = getFreeIndex(key);
+        }
+
+        keys[i] = key;
+        values[i] = value;
+
+        size++;
+
+        return true;
+    }
+
+    /**
+     * Removes the entry of the specified key.
+     *
+     * @param key to remove
+     *
+     * @return <code>true</code> if the entry was removed, <code>false</code> if the key was not in the map
+     *
+     * @since 4.9.0
+     *
+     */
+    public boolean remove(long key) {
+        if (key == 0) {
+            if (!containsZeroKey) {
+                return false;
+            }
+
+            containsZeroKey = false;
+            zeroValue = 0;
+            size--;
+
+            return true;
+        }
+
+        int index = indexOf(key);
+
+        if (index < 0) {
+            return false;
+        }
+
+        int gap = index;
+
+        for (int i = (gap + 1) & mask; keys[i] != 0; i = (i + 1) & mask) {
+            int home = getHomeIndex(keys[i]);
+
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+
+                gap = i;
+            }
+        }
+
+        keys[gap] = 0;
+        values[gap] = 0;
+
+        size--;
+
+        return true;
+    }
+
+    /**
+     * Removes all the entries from the map.
+     *
+     * @since 4.9.0
+     *
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, 0);
+
+        containsZeroKey = false;
+        zeroValue = 0;
+        size = 0;
+    }
+
+    /**
+     * Performs the given action for each entry in the map, in no particular order.
+     *
+     * @param action to be performed for each entry
+     *
+     * @since 4.9.0
+     *
+     */
+    public void forEach(EntryConsumer action) {
+        if (containsZeroKey) {
+            action.accept(0, zeroValue);
+        }
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the keys of the map in a new array, in no particular order.
+     *
+     * @return an array of the keys
+     *
+     * @since 4.9.0
+     *
+     */
+    public long[] getKeys() {
+        long[] result = new long[size];
+
+        int count = containsZeroKey ? 1 : 0;
+
+        for (long key : keys) {
+            if (key != 0) {
+                result[count++] = key;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * An action performed on each entry of the map, without boxing the key or the value.
+     *
+     * @see LongLongMap#forEach(EntryConsumer)
+     *
+     * @since 4.9.0
+     *
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        /**
+         * Performs this action on the passed entry.
+         *
+         * @param key of the entry
+         * @param value of the entry
+         *
+         * @since 4.9.0
+         *
+         */
+        void accept(long key, long value);
+    }
+
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+
+    private static int getCapacity(int expectedSize, float loadFactor) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 1) / (double) loadFactor) + 1;
+
+        if (needed > MAXIMUM_CAPACITY) {
+            return MAXIMUM_CAPACITY;
+        }
+
+        return Math.max(Integer.highestOneBit((int) needed - 1) << 1, 2);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+
+        mask = capacity - 1;
+        threshold = Math.min((int) (capacity * loadFactor), capacity - 1);
+    }
+
+    private int getHomeIndex(long key) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+
+        return (int) (mixed ^ (mixed >>> 32)) & mask;
+    }
+
+    private int indexOf(long key) {
+        for (int i = getHomeIndex(key); keys[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private int getFreeIndex(long key) {
+        int i = getHomeIndex(key);
+
+        while (keys[i] != 0) {
+            i = (i + 1) & mask;
+        }
+
+        return i;
+    }
+
+    private void resize() {
+        if (keys.length == MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("Maximum capacity reached.");
+        }
+
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+
+        allocate(oldKeys.length << 1);
+
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] != 0) {
+                int i = getFreeIndex(oldKeys[j]);
+
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+}
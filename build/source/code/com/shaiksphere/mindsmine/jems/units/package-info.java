@@ -0,0 +1,25 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+/**
+ * Classes to provide a mechanism to handle various units (e.g., memory, etc.)
+ *
+ * @author Mohammed Shaik Hussain Ali
+ *
+ * @since 2.0.0
+ *
+ */
+package com.shaiksphere.mindsmine.jems.units;
@@ -0,0 +1,91 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+
+package com.shaiksphere.mindsmine.jems;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class DigitWriterTest {
+
+    @Test
+    public void writeTest() {
+        SplittableRandom random = new SplittableRandom(1L);
+
+        long[] values = {0L, -1L, Long.MIN_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE + 1L};
+
+        for (int radix = Character.MIN_RADIX; radix <= Character.MAX_RADIX; radix++) {
+            for (long value : values) {
+                assertWrite(radix, value);
+            }
+
+            for (int i = 0; i < 2000; i++) {
+                assertWrite(radix, random.nextLong() >>> random.nextInt(Long.SIZE));
+            }
+        }
+    }
+
+    @Test
+    public void write128Test() {
+        SplittableRandom random = new SplittableRandom(2L);
+
+        char[] chars = new char[DigitWriter.MAX_DIGITS + 1];
+
+        for (int radix = Character.MIN_RADIX; radix <= Character.MAX_RADIX; radix++) {
+            DigitWriter writer = DigitWriter.get(radix);
+
+            for (int i = 0; i < 1000; i++) {
+                long high = (i == 0) ? -1L : random.nextLong() >>> random.nextInt(Long.SIZE);
+                long low = (i == 0) ? -1L : random.nextLong();
+
+                String expected = new BigInteger(Long.toUnsignedString(high)).shiftLeft(Long.SIZE)
+                        .or(new BigInteger(Long.toUnsignedString(low))).toString(radix);
+
+                int start = writer.write(high, low, chars, chars.length);
+
+                assertEquals(expected, new String(chars, start, chars.length - start));
+                assertEquals(expected.length(), writer.getLength(high, low));
+            }
+        }
+    }
+
+    @Test
+    public void scratchTest() {
+        char[] scratch = DigitWriter.getScratch();
+
+        assertEquals(DigitWriter.MAX_DIGITS, scratch.length);
+        assertSame(scratch, DigitWriter.getScratch());
+    }
+
+    private static void assertWrite(int radix, long value) {
+        char[] chars = new char[DigitWriter.MAX_DIGITS + 1];
+
+        DigitWriter writer = DigitWriter.get(radix);
+
+        String expected = Long.toUnsignedString(value, radix);
+
+        int start = writer.write(value, chars, chars.length);
+
+        assertEquals(expected, new String(chars, start, chars.length - start));
+        assertEquals(expected.length(), writer.getLength(value));
+    }
+}
@@ -0,0 +1,176 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+final public class IdCodecTest {
+    private static final String[] ALPHABETS = {
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567",
+            "0123456789abcdefghijklmnopqrstuvwxyz",
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz",
+            "0123456789ABCDEFGHJKMNPQRSTVWXYZ"
+    };
+
+    private static final BigInteger MASK = BigInteger.ONE.shiftLeft(Long.SIZE).subtract(BigInteger.ONE);
+
+    @Test
+    public void encodeTest() {
+        assertEquals("LygHa16AHYF", IdCodec.BASE62.encode(-1L));
+        assertEquals("1ZZZ", IdCodec.CROCKFORD.encode(0xFFFFL));
+        assertEquals("A", IdCodec.BASE32.encode(0L));
+        assertEquals("0", IdCodec.BASE62.encode(0L, 0L));
+        assertEquals(Long.toUnsignedString(-1L, 36), IdCodec.BASE36.encode(-1L));
+
+        int[][] maxLengths = {{13, 26}, {13, 25}, {11, 22}, {13, 26}};
+
+        for (IdCodec codec : IdCodec.values()) {
+            assertEquals(ALPHABETS[codec.ordinal()].length(), codec.getRadix());
+            assertEquals(maxLengths[codec.ordinal()][0], codec.getLength(-1L));
+            assertEquals(maxLengths[codec.ordinal()][1], codec.getLength(-1L, -1L));
+        }
+
+        char[] chars = new char[30];
+        byte[] bytes = new byte[30];
+
+        assertEquals(13, IdCodec.CROCKFORD.encode(0xFFFFL, 10, chars, 3));
+        assertEquals("0000001ZZZ", new String(chars, 3, 10));
+        assertEquals(13, IdCodec.CROCKFORD.encode(0xFFFFL, 10, bytes, 3));
+        assertEquals("0000001ZZZ", new String(bytes, 3, 10, StandardCharsets.US_ASCII));
+        assertEquals(26, IdCodec.BASE32.encode(0L, 1L, 26, chars, 0));
+        assertEquals("AAAAAAAAAAAAAAAAAAAAAAAAAB", new String(chars, 0, 26));
+        assertEquals(4, IdCodec.CROCKFORD.encode(0xFFFFL, 2, chars, 0));
+
+        assertThrows(IllegalArgumentException.class, () -> IdCodec.BASE62.encode(1L, 0, (char[]) null, 0));
+        assertThrows(IllegalArgumentException.class, () -> IdCodec.BASE62.encode(1L, 0, (byte[]) null, 0));
+        assertThrows(IllegalArgumentException.class, () -> IdCodec.BASE62.encode(1L, -1, chars, 0));
+        assertThrows(IllegalArgumentException.class, () -> IdCodec.BASE62.encode(1L, 0, chars, -1));
+        assertThrows(IllegalArgumentException.class, () -> IdCodec.BASE62.encode(-1L, 0, chars, 20));
+        assertThrows(IllegalArgumentException.class, () -> IdCodec.BASE62.encode(1L, 31, bytes, 0));
+    }
+
+    @Test
+    public void decodeTest() {
+        assertEquals(-1L, IdCodec.BASE62.decode("LygHa16AHYF"));
+        assertEquals(0xFFFFL, IdCodec.CROCKFORD.decode("1zz-z"));
+        assertEquals(1L, IdCodec.CROCKFORD.decode("-1-"));
+        assertEquals(IdCodec.CROCKFORD.decode("10"), IdCodec.CROCKFORD.decode("iO"));
+        assertEquals(IdCodec.CROCKFORD.decode("11"), IdCodec.CROCKFORD.decode("Il"));
+        assertEquals(IdCodec.BASE32.decode("ABC"), IdCodec.BASE32.decode("abc"));
+        assertEquals(IdCodec.BASE36.decode("ZZ"), IdCodec.BASE36.decode("zz"));
+        assertEquals(36L, IdCodec.BASE62.decode("a"));
+        assertEquals(10L, IdCodec.BASE62.decode("A"));
+        assertEquals(1L, IdCodec.BASE62.decode("000000000000000000001"));
+        assertEquals(0xFFFFL, IdCodec.CROCKFORD.decode("xx1ZZZxx", 2, 6));
+
+        long[] values = new long[3];
+
+        IdCodec.BASE62.decode("x7n42DGM5Tflk9n8mt7Fhc7x", 1, 23, values, 1);
+
+        assertArrayEquals(new long[] {0L, -1L, -1L}, values);
+
+        for (String value : new String[] {null, "", "-", "--", "a b", "U", "\u00e9"}) {
+            assertThrows(NumberFormatException.class, () -> IdCodec.CROCKFORD.decode(value));
+        }
+
+        assertThrows(NumberFormatException.class, () -> IdCodec.BASE32.decode("1"));
+        assertThrows(NumberFormatException.class, () -> IdCodec.BASE62.decode("-"));
+        assertThrows(NumberFormatException.class, () -> IdCodec.BASE62.decode("LygHa16AHYG"));
+        assertThrows(NumberFormatException.class, () -> IdCodec.BASE62.decode("100000000000"));
+        assertThrows(NumberFormatException.class, () -> IdCodec.BASE36.decode("3w5e11264sgsg"));
+        assertThrows(IllegalArgumentException.class, () -> IdCodec.BASE62.decode("1", 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> IdCodec.BASE62.decode("1", 1, 0));
+
+        assertThrows(IllegalArgumentException.class, () -> IdCodec.BASE62.decode("1", 0, 1, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> IdCodec.BASE62.decode("1", 0, 1, values, 2));
+        assertThrows(NumberFormatException.class, () -> IdCodec.BASE62.decode("", 0, 0, values, 0));
+        assertThrows(NumberFormatException.class,
+                () -> IdCodec.BASE62.decode("7n42DGM5Tflk9n8mt7Fhc8", 0, 22, values, 0));
+    }
+
+    @Test
+    public void equivalenceTest() {
+        Random random = new Random(42);
+
+        char[] chars = new char[32];
+        byte[] bytes = new byte[32];
+        long[] values = new long[2];
+
+        for (IdCodec codec : IdCodec.values()) {
+            String alphabet = ALPHABETS[codec.ordinal()];
+
+            for (int i = 0; i < 5000; i++) {
+                long high = (i % 2 == 0) ? 0L : random.nextLong() >>> random.nextInt(64);
+                long low = (i % 3 == 0) ? -1L - i : random.nextLong() >>> random.nextInt(64);
+
+                BigInteger value = BigInteger.valueOf(high).and(MASK).shiftLeft(Long.SIZE)
+                        .or(BigInteger.valueOf(low).and(MASK));
+
+                String expected = encode(value, alphabet);
+
+                assertEquals(expected, codec.encode(high, low));
+                assertEquals(expected.length(), codec.getLength(high, low));
+                assertEquals(expected.length() + 1, codec.encode(high, low, expected.length() + 1, chars, 0));
+                assertEquals(alphabet.charAt(0) + expected, new String(chars, 0, expected.length() + 1));
+                assertEquals(expected.length() + 2, codec.encode(high, low, 0, bytes, 2));
+                assertEquals(expected, new String(bytes, 2, expected.length(), StandardCharsets.US_ASCII));
+
+                codec.decode(expected, 0, expected.length(), values, 0);
+
+                assertArrayEquals(new long[] {high, low}, values);
+
+                if (high == 0L) {
+                    assertEquals(expected, codec.encode(low));
+                    assertEquals(expected.length(), codec.getLength(low));
+                    assertEquals(low, codec.decode(expected));
+                } else {
+                    assertThrows(NumberFormatException.class, () -> codec.decode(expected));
+                }
+            }
+
+            String beyond = encode(BigInteger.ONE.shiftLeft(128), alphabet);
+
+            assertThrows(NumberFormatException.class, () -> codec.decode(beyond, 0, beyond.length(), values, 0));
+            assertThrows(NumberFormatException.class,
+                    () -> codec.decode(encode(BigInteger.ONE.shiftLeft(64), alphabet)));
+        }
+    }
+
+    private static String encode(BigInteger value, String alphabet) {
+        BigInteger radix = BigInteger.valueOf(alphabet.length());
+
+        StringBuilder builder = new StringBuilder();
+
+        do {
+            BigInteger[] division = value.divideAndRemainder(radix);
+
+            builder.append(alphabet.charAt(division[1].intValue()));
+
+            value = division[0];
+        } while (value.signum() > 0);
+
+        return builder.reverse().toString();
+    }
+}
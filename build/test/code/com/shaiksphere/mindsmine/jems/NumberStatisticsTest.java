@@ -0,0 +1,196 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class NumberStatisticsTest {
+
+    @Test
+    public void emptyTest() {
+        NumberStatistics statistics = new NumberStatistics();
+
+        assertEquals(0L, statistics.getCount());
+        assertEquals(0.01, statistics.getRelativeAccuracy(), 0.0);
+        assertTrue(Double.isNaN(statistics.getMin()));
+        assertTrue(Double.isNaN(statistics.getMax()));
+        assertTrue(Double.isNaN(statistics.getMean()));
+        assertTrue(Double.isNaN(statistics.getVariance()));
+        assertTrue(Double.isNaN(statistics.getSampleVariance()));
+        assertTrue(Double.isNaN(statistics.getQuantile(0.5)));
+    }
+
+    @Test
+    public void momentsTest() {
+        NumberStatistics statistics = new NumberStatistics();
+
+        statistics.accept(2);
+        statistics.accept(4L);
+        statistics.accept(4.0);
+        statistics.accept(4);
+        statistics.accept(5);
+        statistics.accept(5);
+        statistics.accept(7);
+        statistics.accept(9);
+
+        assertEquals(8L, statistics.getCount());
+        assertEquals(2.0, statistics.getMin(), 0.0);
+        assertEquals(9.0, statistics.getMax(), 0.0);
+        assertEquals(5.0, statistics.getMean(), 0.0);
+        assertEquals(4.0, statistics.getVariance(), 1e-12);
+        assertEquals(32.0 / 7, statistics.getSampleVariance(), 1e-12);
+        assertEquals(2.0, statistics.getStandardDeviation(), 1e-12);
+        assertTrue(statistics.toString().startsWith("NumberStatistics{count=8, "));
+    }
+
+    @Test
+    public void stabilityTest() {
+        // The sum of squares loses every digit of this variance to cancellation
+        NumberStatistics statistics = new NumberStatistics();
+
+        for (int i = 0; i < 1000000; i++) {
+            statistics.accept(1e9 + (i % 2));
+        }
+
+        assertEquals(1e9 + 0.5, statistics.getMean(), 1e-6);
+        assertEquals(0.25, statistics.getVariance(), 1e-6);
+    }
+
+    @Test
+    public void quantileTest() {
+        Random random = new Random(42);
+
+        for (double accuracy : new double[] {0.01, 0.001, 0.2}) {
+            double[] values = new double[100001];
+
+            for (int i = 0; i < values.length; i++) {
+                // Magnitudes within a ratio of 2^64, which keep the relative accuracy
+                double magnitude = (1 + random.nextDouble()) * Math.exp(random.nextInt(40) - 20);
+
+                values[i] = random.nextBoolean() ? magnitude : -magnitude;
+            }
+
+            values[500] = 0.0;
+            values[501] = 0.0;
+
+            NumberStatistics statistics = new NumberStatistics(accuracy);
+
+            Arrays.stream(values).forEach(statistics);
+
+            Arrays.sort(values);
+
+            assertEquals(values[0], statistics.getQuantile(0), 0.0);
+            assertEquals(values[values.length - 1], statistics.getQuantile(1), 0.0);
+
+            for (double quantile = 0; quantile <= 1; quantile += 0.001) {
+                double expected = values[(int) (quantile * (values.length - 1))];
+
+                assertEquals(expected, statistics.getQuantile(quantile), Math.abs(expected) * accuracy * (1 + 1e-9));
+            }
+        }
+    }
+
+    @Test
+    public void boundedMemoryTest() {
+        // Magnitudes far beyond the window of buckets collapse the smallest ones, and keep the largest accurate
+        NumberStatistics statistics = new NumberStatistics();
+
+        double[] values = new double[1201];
+
+        for (int exponent = -300; exponent <= 300; exponent++) {
+            values[exponent + 300] = Math.pow(10, exponent);
+            values[exponent + 900] = -Math.pow(10, exponent);
+        }
+
+        values[600] = 0.0;
+
+        Arrays.stream(values).forEach(statistics);
+
+        Arrays.sort(values);
+
+        for (int rank = 0; rank < values.length; rank++) {
+            double expected = values[rank];
+
+            if (Math.abs(expected) >= 1e281) {
+                double quantile = (rank + 0.5) / (values.length - 1);
+
+                assertEquals(expected, statistics.getQuantile(Math.min(quantile, 1)), Math.abs(expected) * 0.01);
+            }
+        }
+
+        assertEquals(0.0, statistics.getQuantile(0.5), 0.0);
+    }
+
+    @Test
+    public void combineTest() {
+        Random random = new Random(7);
+
+        double[] values = random.doubles(10000, -1000, 1000).toArray();
+
+        NumberStatistics whole = new NumberStatistics();
+        NumberStatistics left = new NumberStatistics();
+        NumberStatistics right = new NumberStatistics();
+
+        for (int i = 0; i < values.length; i++) {
+            whole.accept(values[i]);
+
+            (i < 3000 ? left : right).accept(values[i]);
+        }
+
+        assertSame(left, left.combine(right));
+        assertSame(left, left.combine(new NumberStatistics()));
+
+        assertEquals(whole.getCount(), left.getCount());
+        assertEquals(whole.getMin(), left.getMin(), 0.0);
+        assertEquals(whole.getMax(), left.getMax(), 0.0);
+        assertEquals(whole.getMean(), left.getMean(), 1e-9);
+        assertEquals(whole.getVariance(), left.getVariance(), 1e-6);
+
+        for (double quantile = 0; quantile <= 1; quantile += 0.01) {
+            assertEquals(whole.getQuantile(quantile), left.getQuantile(quantile), 0.0);
+        }
+
+        NumberStatistics empty = new NumberStatistics().combine(whole);
+
+        assertEquals(whole.getMin(), empty.getMin(), 0.0);
+        assertEquals(whole.getQuantile(0.25), empty.getQuantile(0.25), 0.0);
+        assertEquals(whole.getVariance(), empty.getVariance(), 0.0);
+    }
+
+    @Test
+    public void exceptionsTest() {
+        NumberStatistics statistics = new NumberStatistics();
+
+        assertThrows(IllegalArgumentException.class, () -> new NumberStatistics(0));
+        assertThrows(IllegalArgumentException.class, () -> new NumberStatistics(1));
+        assertThrows(IllegalArgumentException.class, () -> new NumberStatistics(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> statistics.accept(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> statistics.accept(Double.POSITIVE_INFINITY));
+        assertThrows(IllegalArgumentException.class, () -> statistics.getQuantile(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> statistics.getQuantile(1.1));
+        assertThrows(IllegalArgumentException.class, () -> statistics.combine(null));
+        assertThrows(IllegalArgumentException.class, () -> statistics.combine(new NumberStatistics(0.02)));
+    }
+}
@@ -0,0 +1,249 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+final public class NumeralCodecTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void encodeToStringTest() {
+        assertEquals("", NumeralCodec.HEXADECIMAL.encodeToString(new byte[0]));
+        assertEquals("00017f80ff", NumeralCodec.HEXADECIMAL.encodeToString(new byte[] {0, 1, 127, -128, -1}));
+        assertEquals("000001177200377", NumeralCodec.OCTAL.encodeToString(new byte[] {0, 1, 127, -128, -1}));
+        assertEquals("0000000111111111", NumeralCodec.BINARY.encodeToString(new byte[] {1, -1}));
+
+        for (NumeralCodec codec : NumeralCodec.values()) {
+            StringBuilder expected = new StringBuilder();
+
+            byte[] bytes = new byte[256];
+
+            for (int b = 0; b < 256; b++) {
+                String digits = Integer.toString(b, codec.getRadix());
+
+                expected.append("0".repeat(codec.getDigitsPerByte() - digits.length())).append(digits);
+
+                bytes[b] = (byte) b;
+            }
+
+            assertEquals(expected.toString(), codec.encodeToString(bytes));
+            assertArrayEquals(bytes, codec.decode(expected));
+            assertArrayEquals(bytes, codec.decode(expected.toString().toUpperCase()));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> NumeralCodec.HEXADECIMAL.encodeToString(null));
+    }
+
+    @Test
+    public void decodeTest() {
+        assertArrayEquals(new byte[] {1, -1}, NumeralCodec.HEXADECIMAL.decode("01fF"));
+        assertArrayEquals(new byte[] {1, -1}, NumeralCodec.OCTAL.decode("001377"));
+        assertArrayEquals(new byte[0], NumeralCodec.BINARY.decode(""));
+
+        assertThrows(IllegalArgumentException.class, () -> NumeralCodec.HEXADECIMAL.decode((CharSequence) null));
+
+        assertEquals("Invalid digits at index 2.",
+                assertThrows(NumberFormatException.class, () -> NumeralCodec.HEXADECIMAL.decode("01fg")).getMessage());
+        assertEquals("Invalid digits at index 3.",
+                assertThrows(NumberFormatException.class, () -> NumeralCodec.OCTAL.decode("001400")).getMessage());
+        assertEquals("Incomplete digits at index 2.",
+                assertThrows(NumberFormatException.class, () -> NumeralCodec.HEXADECIMAL.decode("01f")).getMessage());
+
+        assertThrows(NumberFormatException.class, () -> NumeralCodec.HEXADECIMAL.decode("0 "));
+        assertThrows(NumberFormatException.class, () -> NumeralCodec.HEXADECIMAL.decode("0\u0661"));
+        assertThrows(NumberFormatException.class, () -> NumeralCodec.BINARY.decode("00000002"));
+        assertThrows(NumberFormatException.class, () -> NumeralCodec.OCTAL.decode("008"));
+    }
+
+    @Test
+    public void arrayTest() {
+        byte[] src = {9, 1, -1, 9};
+        byte[] dst = new byte[8];
+
+        assertEquals(6, NumeralCodec.HEXADECIMAL.encode(src, 1, 2, dst, 2));
+        assertEquals("01ff", new String(dst, 2, 4, StandardCharsets.US_ASCII));
+
+        byte[] decoded = new byte[4];
+
+        assertEquals(3, NumeralCodec.HEXADECIMAL.decode(dst, 2, 4, decoded, 1));
+        assertArrayEquals(new byte[] {0, 1, -1, 0}, decoded);
+
+        assertThrows(IllegalArgumentException.class, () -> NumeralCodec.HEXADECIMAL.encode(null, 0, 0, dst, 0));
+        assertThrows(IllegalArgumentException.class, () -> NumeralCodec.HEXADECIMAL.encode(src, 0, 0, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> NumeralCodec.HEXADECIMAL.encode(src, 3, 2, dst, 0));
+        assertThrows(IllegalArgumentException.class, () -> NumeralCodec.HEXADECIMAL.encode(src, -1, 1, dst, 0));
+        assertThrows(IllegalArgumentException.class, () -> NumeralCodec.HEXADECIMAL.encode(src, 0, 4, dst, 1));
+        assertThrows(IllegalArgumentException.class, () -> NumeralCodec.HEXADECIMAL.decode(dst, 0, 9, decoded, 0));
+        assertThrows(IllegalArgumentException.class, () -> NumeralCodec.HEXADECIMAL.decode(dst, 0, 8, decoded, 1));
+    }
+
+    @Test
+    public void byteBufferTest() {
+        for (boolean direct : new boolean[] {false, true}) {
+            ByteBuffer src = allocate(5, direct).put(new byte[] {0, 1, 2, 3, -1}).flip();
+            ByteBuffer text = allocate(9, direct);
+
+            assertEquals(4, NumeralCodec.HEXADECIMAL.encode(src, text));
+            assertEquals(4, src.position());
+            assertEquals(8, text.position());
+
+            text.limit(9).put(8, (byte) 'f').position(9).flip();
+
+            ByteBuffer dst = allocate(8, direct);
+
+            assertEquals(4, NumeralCodec.HEXADECIMAL.decode(text, dst));
+            assertEquals(8, text.position());
+            assertEquals(4, dst.position());
+            assertEquals(3, dst.get(3));
+
+            ByteBuffer invalid = ByteBuffer.wrap("0102zz03".getBytes(StandardCharsets.US_ASCII));
+
+            if (direct) {
+                invalid = allocate(8, true).put(invalid).flip();
+            }
+
+            dst.clear();
+
+            ByteBuffer finalInvalid = invalid;
+
+            assertEquals("Invalid digits at index 4.", assertThrows(NumberFormatException.class,
+                    () -> NumeralCodec.HEXADECIMAL.decode(finalInvalid, dst)).getMessage());
+            assertEquals(4, invalid.position());
+            assertEquals(2, dst.position());
+        }
+
+        ByteBuffer readOnly = ByteBuffer.wrap(new byte[] {-1}).asReadOnlyBuffer();
+        ByteBuffer text = ByteBuffer.allocate(2);
+
+        assertEquals(1, NumeralCodec.HEXADECIMAL.encode(readOnly, text));
+        assertEquals("ff", new String(text.array(), StandardCharsets.US_ASCII));
+
+        assertThrows(IllegalArgumentException.class, () -> NumeralCodec.HEXADECIMAL.encode(null, text));
+        assertThrows(IllegalArgumentException.class, () -> NumeralCodec.HEXADECIMAL.decode(text, null));
+    }
+
+    @Test
+    public void streamTest() throws IOException {
+        byte[] bytes = new byte[100000];
+
+        new Random(42).nextBytes(bytes);
+
+        for (NumeralCodec codec : NumeralCodec.values()) {
+            ByteArrayOutputStream text = new ByteArrayOutputStream();
+
+            assertEquals(bytes.length, codec.encode(new ByteArrayInputStream(bytes), text));
+            assertEquals(codec.encodeToString(bytes), text.toString(StandardCharsets.US_ASCII));
+
+            ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+
+            assertEquals(bytes.length, codec.decode(new ByteArrayInputStream(text.toByteArray()), decoded));
+            assertArrayEquals(bytes, decoded.toByteArray());
+        }
+
+        byte[] text = NumeralCodec.HEXADECIMAL.encodeToString(bytes).getBytes(StandardCharsets.US_ASCII);
+
+        text[150001] = 'x';
+
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+
+        assertEquals("Invalid digits at index 150000.", assertThrows(NumberFormatException.class,
+                () -> NumeralCodec.HEXADECIMAL.decode(new ByteArrayInputStream(text), decoded)).getMessage());
+        assertEquals(75000, decoded.size());
+
+        assertEquals("Incomplete digits at index 6.", assertThrows(NumberFormatException.class,
+                () -> NumeralCodec.OCTAL.decode(new ByteArrayInputStream("0010020".getBytes()),
+                        new ByteArrayOutputStream())).getMessage());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> NumeralCodec.HEXADECIMAL.encode(null, new ByteArrayOutputStream()));
+        assertThrows(IllegalArgumentException.class,
+                () -> NumeralCodec.HEXADECIMAL.decode(new ByteArrayInputStream(text), null));
+    }
+
+    @Test
+    public void fileChannelTest() throws IOException {
+        byte[] bytes = new byte[100000];
+
+        new Random(42).nextBytes(bytes);
+
+        File binary = folder.newFile();
+        File text = folder.newFile();
+
+        Files.write(binary.toPath(), bytes);
+
+        try (FileChannel in = FileChannel.open(binary.toPath())) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            assertEquals(bytes.length, NumeralCodec.OCTAL.encode(in, 0, Long.MAX_VALUE, Channels.newChannel(out)));
+            assertEquals(NumeralCodec.OCTAL.encodeToString(bytes), out.toString(StandardCharsets.US_ASCII));
+            assertEquals(0, in.position());
+
+            out.reset();
+
+            assertEquals(10, NumeralCodec.HEXADECIMAL.encode(in, 5, 10, Channels.newChannel(out)));
+            assertEquals(NumeralCodec.HEXADECIMAL.encodeToString(Arrays.copyOfRange(bytes, 5, 15)),
+                    out.toString(StandardCharsets.US_ASCII));
+
+            assertEquals(0, NumeralCodec.HEXADECIMAL.encode(in, 200000, 10, Channels.newChannel(out)));
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> NumeralCodec.HEXADECIMAL.encode(in, -1, 10, Channels.newChannel(out)));
+            assertThrows(IllegalArgumentException.class,
+                    () -> NumeralCodec.HEXADECIMAL.encode(in, 0, -1, Channels.newChannel(out)));
+            assertThrows(IllegalArgumentException.class, () -> NumeralCodec.HEXADECIMAL.encode(in, 0, 10, null));
+        }
+
+        Files.write(text.toPath(), ("X" + NumeralCodec.BINARY.encodeToString(bytes) + "1").getBytes());
+
+        try (FileChannel in = FileChannel.open(text.toPath(), StandardOpenOption.READ)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            assertEquals(bytes.length, NumeralCodec.BINARY.decode(in, 1, bytes.length * 8L, Channels.newChannel(out)));
+            assertArrayEquals(bytes, out.toByteArray());
+
+            assertEquals("Incomplete digits at index 800001.", assertThrows(NumberFormatException.class,
+                    () -> NumeralCodec.BINARY.decode(in, 1, Long.MAX_VALUE, Channels.newChannel(out))).getMessage());
+            assertEquals("Invalid digits at index 0.", assertThrows(NumberFormatException.class,
+                    () -> NumeralCodec.BINARY.decode(in, 0, 8, Channels.newChannel(out))).getMessage());
+        }
+    }
+
+    private static ByteBuffer allocate(int capacity, boolean direct) {
+        return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+final public class NumeralSystemConverterTest {
+    private static final long[] EDGES = {
+            0L, 1L, -1L, 9L, 10L, 35L, 36L, Integer.MAX_VALUE, Integer.MIN_VALUE, 0xFFFFFFFFL, 0x100000000L,
+            Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE - 1, Long.MIN_VALUE + 1, 999999999999999999L,
+            1000000000000000000L, -1000000000000000000L
+    };
+
+    @Test
+    public void getConverterTest() {
+        NumeralSystemConverter converter = NumeralSystemHelper.getConverter(16, 10);
+
+        assertSame(converter, NumeralSystemHelper.getConverter(16, 10));
+        assertEquals(16, converter.getFrom());
+        assertEquals(10, converter.getTo());
+        assertEquals("NumeralSystemConverter[from=16, to=10]", converter.toString());
+
+        assertThrows(IllegalArgumentException.class, () -> NumeralSystemHelper.getConverter(1, 10));
+        assertThrows(IllegalArgumentException.class, () -> NumeralSystemHelper.getConverter(10, 37));
+    }
+
+    @Test
+    public void convertTest() {
+        NumeralSystemConverter converter = NumeralSystemHelper.getConverter(16, 10);
+
+        assertEquals("-255", converter.convert("-ff"));
+        assertEquals("255", converter.convert("+00FF"));
+        assertEquals("0", converter.convert("-0"));
+        assertEquals("9223372036854775807", converter.convert("7fffffffffffffff"));
+        assertEquals("-9223372036854775808", converter.convert("-8000000000000000"));
+        assertEquals("18446744073709551615", converter.convertUnsigned("ffffffffffffffff"));
+        assertEquals("-11111111", NumeralSystemHelper.getConverter(16, 2).convert("-Ff"));
+
+        for (String value : new String[] {null, "", "+", "-", "g", "1-", "8000000000000000", "-8000000000000001",
+                "10000000000000000", "--1"}) {
+            assertThrows(NumberFormatException.class, () -> converter.convert(value));
+        }
+
+        for (String value : new String[] {null, "", "+", "-1", "g", "10000000000000000", "0x1"}) {
+            assertThrows(NumberFormatException.class, () -> converter.convertUnsigned(value));
+        }
+
+        NumeralSystemConverter decimal = NumeralSystemHelper.getConverter(10, 36);
+
+        assertEquals("String value 18446744073709551616 exceeds range of unsigned long.", assertThrows(
+                NumberFormatException.class, () -> decimal.convertUnsigned("18446744073709551616")).getMessage());
+        assertEquals("For input string: \"9223372036854775808\" under radix 10", assertThrows(
+                NumberFormatException.class, () -> decimal.convert("9223372036854775808")).getMessage());
+        assertThrows(NumberFormatException.class, () -> decimal.convertUnsigned("99999999999999999999"));
+        assertThrows(NumberFormatException.class, () -> decimal.convertUnsigned("100000000000000000000"));
+        assertEquals("3w5e11264sgsf", decimal.convertUnsigned("18446744073709551615"));
+        assertEquals("3w5e11264sgsf", decimal.convertUnsigned("000000018446744073709551615"));
+        assertEquals("1y2p0ij32e8e7", decimal.convert("\uFF19\uFF12\uFF12\uFF13372036854775807"));
+    }
+
+    @Test
+    public void convertArrayTest() {
+        NumeralSystemConverter converter = NumeralSystemHelper.getConverter(10, 16);
+
+        char[] chars = new char[20];
+
+        assertEquals(5, converter.convert("-255", chars, 2));
+        assertEquals("-ff", new String(chars, 2, 3));
+        assertEquals(16, converter.convertUnsigned("18446744073709551615", chars, 0));
+        assertEquals("ffffffffffffffff", new String(chars, 0, 16));
+
+        assertThrows(IllegalArgumentException.class, () -> converter.convert("1", null, 0));
+        assertThrows(IllegalArgumentException.class, () -> converter.convert("-255", chars, 18));
+        assertThrows(IllegalArgumentException.class, () -> converter.convertUnsigned("1", chars, -1));
+        assertThrows(NumberFormatException.class, () -> converter.convert("x", chars, 0));
+    }
+
+    @Test
+    public void convertBulkTest() {
+        NumeralSystemConverter converter = NumeralSystemHelper.getConverter(16, 10);
+
+        assertArrayEquals(new String[] {"10", null, "-11"}, converter.convert(new String[] {"a", null, "-b"}, false));
+        assertArrayEquals(new String[] {"10", null, "11"},
+                converter.convertUnsigned(new String[] {"a", null, "b"}, true));
+        assertArrayEquals(new String[0], converter.convert(new String[0], true));
+
+        assertThrows(IllegalArgumentException.class, () -> converter.convert((String[]) null, false));
+        assertThrows(NumberFormatException.class, () -> converter.convertUnsigned(new String[] {"a", "-b"}, true));
+
+        Random random = new Random(42);
+
+        String[] values = new String[10000];
+        String[] expected = new String[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+            long value = random.nextLong() >> random.nextInt(64);
+
+            values[i] = Long.toString(value, 16);
+            expected[i] = Long.toString(value, 10);
+        }
+
+        assertArrayEquals(expected, converter.convert(values, false));
+        assertArrayEquals(expected, converter.convert(values, true));
+    }
+
+    @Test
+    public void convertEquivalenceTest() {
+        Random random = new Random(42);
+
+        for (int from = Character.MIN_RADIX; from <= Character.MAX_RADIX; from++) {
+            for (int to = Character.MIN_RADIX; to <= Character.MAX_RADIX; to++) {
+                NumeralSystemConverter converter = NumeralSystemHelper.getConverter(from, to);
+
+                for (int i = 0; i < EDGES.length + 50; i++) {
+                    long value = (i < EDGES.length) ? EDGES[i] : random.nextLong() >> random.nextInt(64);
+
+                    String signed = Long.toString(value, from);
+                    String unsigned = Long.toUnsignedString(value, from);
+
+                    assertEquals(value, converter.parseLong(signed));
+                    assertEquals(value, converter.parseUnsignedLong(unsigned.toUpperCase()));
+                    assertEquals(Long.toString(value, to), converter.toString(value));
+                    assertEquals(Long.toUnsignedString(value, to), converter.toUnsignedString(value));
+                    assertEquals(Long.toString(value, to), converter.convert(signed));
+                    assertEquals(Long.toUnsignedString(value, to), converter.convertUnsigned(unsigned));
+                }
+
+                // The value just past the range, in the radix converted from
+                String limit = Long.toUnsignedString(-1L, from);
+                String beyond = new BigInteger(limit, from).add(BigInteger.ONE).toString(from);
+
+                assertThrows(NumberFormatException.class, () -> converter.parseUnsignedLong(beyond));
+                assertThrows(NumberFormatException.class, () -> converter.parseLong(beyond));
+                assertThrows(NumberFormatException.class, () -> converter.parseLong(limit));
+            }
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+final public class NumeralSystemHelperTest {
+    final private int integer = 10;
+    final private String decimalStr = "10";
+    final private String hexStr = "A";
+    final private String octStr = "12";
+    final private String binaryStr = "1010";
+
+    @Test
+    public void convertDecimalToHexadecimalTest() {
+        assertTrue(NumeralSystemHelper.convertDecimalToHexadecimal(integer).equalsIgnoreCase(hexStr));
+    }
+
+    @Test
+    public void convertDecimalToBinaryTest() {
+        assertEquals(NumeralSystemHelper.convertDecimalToBinary(integer), binaryStr);
+    }
+
+    @Test
+    public void convertDecimalToOctalTest() {
+        assertEquals(NumeralSystemHelper.convertDecimalToOctal(integer), octStr);
+    }
+
+    @Test
+    public void convertBinaryToHexadecimalTest() {
+        assertTrue(NumeralSystemHelper.convertBinaryToHexadecimal(binaryStr).equalsIgnoreCase(hexStr));
+    }
+
+    @Test
+    public void convertBinaryToOctalTest() {
+        assertEquals(NumeralSystemHelper.convertBinaryToOctal(binaryStr), octStr);
+    }
+
+    @Test
+    public void convertBinaryToDecimalTest() {
+        assertEquals(NumeralSystemHelper.convertBinaryToDecimal(binaryStr), decimalStr);
+    }
+
+    @Test
+    public void convertHexadecimalToBinaryTest() {
+        assertEquals(NumeralSystemHelper.convertHexadecimalToBinary(hexStr), binaryStr);
+    }
+
+    @Test
+    public void convertHexadecimalToOctalTest() {
+        assertEquals(NumeralSystemHelper.convertHexadecimalToOctal(hexStr), octStr);
+    }
+
+    @Test
+    public void convertHexadecimalToDecimalTest() {
+        assertEquals(NumeralSystemHelper.convertHexadecimalToDecimal(hexStr), decimalStr);
+    }
+
+    @Test
+    public void convertOctalToBinaryTest() {
+        assertEquals(NumeralSystemHelper.convertOctalToBinary(octStr), binaryStr);
+    }
+
+    @Test
+    public void convertOctalToHexadecimalTest() {
+        assertTrue(NumeralSystemHelper.convertOctalToHexadecimal(octStr).equalsIgnoreCase(hexStr));
+    }
+
+    @Test
+    public void convertOctalToDecimalTest() {
+        assertEquals(NumeralSystemHelper.convertOctalToDecimal(octStr), decimalStr);
+    }
+
+    @Test
+    public void convertTest() {
+        assertEquals("11111111", NumeralSystemHelper.convert("FF", 16, 2));
+        assertEquals("377", NumeralSystemHelper.convert("+0000ff", 16, 8));
+        assertEquals("0", NumeralSystemHelper.convert("000", 2, 32));
+        assertEquals("ffffffff", NumeralSystemHelper.convert("37777777777", 8, 16));
+        assertEquals("4294967295", NumeralSystemHelper.convert("ffffffff", 16, 10));
+        assertEquals("1z141z3", NumeralSystemHelper.convert("4294967295", 10, 36));
+        assertEquals("255", NumeralSystemHelper.convert("ff", 16, 99));
+        assertEquals("12", NumeralSystemHelper.convert("\u0661\u0660", 10, 8));
+
+        assertEquals("ffffff01", NumeralSystemHelper.convert(-255, 16));
+        assertEquals("4294967295", NumeralSystemHelper.convert(-1, 99));
+        assertEquals("ffffff01", NumeralSystemHelper.convertDecimalToHexadecimal(-255));
+        assertEquals("37777777777", NumeralSystemHelper.convertDecimalToOctal(-1));
+
+        for (String value : new String[] {null, "", "+", "-1", "12g", "1 2", "100000000", "0000100000000"}) {
+            assertThrows(NumberFormatException.class, () -> NumeralSystemHelper.convert(value, 16, 2));
+            assertThrows(NumberFormatException.class, () -> NumeralSystemHelper.convert(value, 16, 10));
+        }
+
+        assertThrows(NumberFormatException.class, () -> NumeralSystemHelper.convert("10", 1, 10));
+        assertThrows(NumberFormatException.class, () -> NumeralSystemHelper.convert("10", 37, 10));
+    }
+
+    @Test
+    public void convertBuilderTest() {
+        StringBuilder builder = new StringBuilder("x=");
+
+        assertEquals(10, NumeralSystemHelper.convert("FF", 16, 2, builder));
+        assertEquals("x=11111111", builder.toString());
+
+        assertThrows(NumberFormatException.class, () -> NumeralSystemHelper.convert("1f0g", 16, 2, builder));
+        assertThrows(NumberFormatException.class, () -> NumeralSystemHelper.convert("f0g", 16, 10, builder));
+        assertEquals("x=11111111", builder.toString());
+
+        assertThrows(
+                IllegalArgumentException.class, () -> NumeralSystemHelper.convert("1", 2, 10, (StringBuilder) null)
+        );
+    }
+
+    @Test
+    public void convertArrayTest() {
+        char[] chars = new char[10];
+
+        assertEquals(10, NumeralSystemHelper.convert("FF", 16, 2, chars, 2));
+        assertEquals("11111111", new String(chars, 2, 8));
+
+        assertEquals(8, NumeralSystemHelper.convert("4294967295", 10, 16, chars, 0));
+        assertEquals("ffffffff", new String(chars, 0, 8));
+
+        assertThrows(IllegalArgumentException.class, () -> NumeralSystemHelper.convert("FF", 16, 2, chars, 3));
+        assertThrows(IllegalArgumentException.class, () -> NumeralSystemHelper.convert("FF", 16, 10, chars, 8));
+        assertThrows(IllegalArgumentException.class, () -> NumeralSystemHelper.convert("FF", 16, 2, chars, -1));
+        assertThrows(IllegalArgumentException.class, () -> NumeralSystemHelper.convert("FF", 16, 2, (char[]) null, 0));
+    }
+
+    @Test
+    public void convertEquivalenceTest() {
+        Random random = new Random(42);
+
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < 20000; i++) {
+            int value = random.nextInt() >>> random.nextInt(32);
+
+            int from = Character.MIN_RADIX + random.nextInt(Character.MAX_RADIX - 1);
+            int to = (random.nextBoolean()) ? 1 << (1 + random.nextInt(5)) : Character.MIN_RADIX + random.nextInt(35);
+
+            if (random.nextBoolean()) {
+                from = 1 << (1 + random.nextInt(5));
+            }
+
+            String expected = Integer.toUnsignedString(value, to);
+            String valueStr = Integer.toUnsignedString(value, from);
+
+            if (random.nextBoolean()) {
+                valueStr = "00" + valueStr.toUpperCase();
+            }
+
+            assertEquals(expected, NumeralSystemHelper.convert(valueStr, from, to));
+
+            builder.setLength(0);
+
+            assertEquals(expected.length(), NumeralSystemHelper.convert(valueStr, from, to, builder));
+            assertEquals(expected, builder.toString());
+        }
+
+        for (int value : new int[] {0, 1, -1, 10, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+            assertEquals(Integer.toUnsignedString(value, 7), NumeralSystemHelper.convert(value, 7));
+            assertEquals(Integer.toHexString(value), NumeralSystemHelper.convertDecimalToHexadecimal(value));
+            assertEquals(Integer.toBinaryString(value), NumeralSystemHelper.convertDecimalToBinary(value));
+        }
+    }
+
+    @Test
+    public void convertUnboundedTest() {
+        assertEquals("1208925819614629174706175", NumeralSystemHelper.convertUnbounded("FFFFFFFFFFFFFFFFFFFF", 16, 10));
+        assertEquals("ffffffffffffffffffff", NumeralSystemHelper.convertUnbounded("1208925819614629174706175", 10, 16));
+        assertEquals("11111111", NumeralSystemHelper.convertUnbounded("+00ff", 16, 2));
+        assertEquals("0", NumeralSystemHelper.convertUnbounded("000", 10, 16));
+        assertEquals("0", NumeralSystemHelper.convertUnbounded("0", 16, 8));
+        assertEquals("255", NumeralSystemHelper.convertUnbounded("ff", 16, 99));
+
+        assertThrows(NumberFormatException.class, () -> NumeralSystemHelper.convertUnbounded(null, 10, 16));
+        assertThrows(NumberFormatException.class, () -> NumeralSystemHelper.convertUnbounded("", 10, 16));
+        assertThrows(NumberFormatException.class, () -> NumeralSystemHelper.convertUnbounded("+", 10, 16));
+        assertThrows(NumberFormatException.class, () -> NumeralSystemHelper.convertUnbounded("-1", 10, 16));
+        assertThrows(NumberFormatException.class, () -> NumeralSystemHelper.convertUnbounded("12", 1, 16));
+        assertThrows(NumberFormatException.class, () -> NumeralSystemHelper.convertUnbounded("12", 37, 16));
+
+        String digits = "1234567890".repeat(100);
+
+        assertThrows(NumberFormatException.class, () -> NumeralSystemHelper.convertUnbounded(digits + "a", 10, 16));
+        assertThrows(NumberFormatException.class, () -> NumeralSystemHelper.convertUnbounded("a" + digits, 10, 16));
+        assertThrows(NumberFormatException.class, () -> NumeralSystemHelper.convertUnbounded(digits + "2", 2, 16));
+        assertThrows(NumberFormatException.class, () -> NumeralSystemHelper.convertUnbounded(digits + "g", 16, 10));
+    }
+
+    @Test
+    public void convertUnboundedEquivalenceTest() {
+        Random random = new Random(42);
+
+        for (int i = 0; i < 2000; i++) {
+            BigInteger value = new BigInteger(1 + random.nextInt((i < 1900) ? 512 : 20000), random);
+
+            int from = Character.MIN_RADIX + random.nextInt(Character.MAX_RADIX - 1);
+            int to = (random.nextBoolean()) ? 1 << (1 + random.nextInt(5)) : Character.MIN_RADIX + random.nextInt(35);
+
+            if (random.nextBoolean()) {
+                from = 1 << (1 + random.nextInt(5));
+            }
+
+            String valueStr = value.toString(from);
+
+            if (random.nextBoolean()) {
+                valueStr = "+00" + valueStr.toUpperCase();
+            }
+
+            assertEquals(value.toString(to), NumeralSystemHelper.convertUnbounded(valueStr, from, to));
+        }
+
+        for (int i = 0; i < 2000; i++) {
+            int value = random.nextInt() >>> random.nextInt(32);
+
+            int from = Character.MIN_RADIX + random.nextInt(Character.MAX_RADIX - 1);
+            int to = Character.MIN_RADIX + random.nextInt(Character.MAX_RADIX - 1);
+
+            String valueStr = Integer.toUnsignedString(value, from);
+
+            assertEquals(NumeralSystemHelper.convert(valueStr, from, to),
+                    NumeralSystemHelper.convertUnbounded(valueStr, from, to));
+        }
+    }
+}
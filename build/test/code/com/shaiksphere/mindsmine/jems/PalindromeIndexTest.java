@@ -0,0 +1,133 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class PalindromeIndexTest {
+
+    @Test
+    public void getLongestTest() {
+        assertEquals("abacaba", StringHelper.getPalindromeIndex("xabacabay", false).getLongest());
+        assertEquals("AbacaBa", StringHelper.getLongestPalindrome(" xAbacaBay ", true));
+        assertEquals("aca", StringHelper.getLongestPalindrome("xAbacaBay", false));
+        assertEquals("a", StringHelper.getLongestPalindrome("abc", false));
+        assertEquals("abba", StringHelper.getLongestPalindrome("cabbad", false));
+        assertEquals("", StringHelper.getLongestPalindrome(null, true));
+        assertEquals("", StringHelper.getLongestPalindrome("", false));
+        assertEquals("\uD801\uDC00b\uD801\uDC28",
+                StringHelper.getLongestPalindrome("a\uD801\uDC00b\uD801\uDC28", true));
+
+        assertThrows(IllegalArgumentException.class, () -> StringHelper.getLongestPalindrome(null, false));
+    }
+
+    @Test
+    public void centersTest() {
+        PalindromeIndex index = StringHelper.getPalindromeIndex("abba", false);
+
+        assertEquals(7, index.getCenterCount());
+
+        assertEquals(0, index.getStart(0));
+        assertEquals(1, index.getEnd(0));
+
+        assertEquals(0, index.getStart(3));
+        assertEquals(4, index.getEnd(3));
+
+        assertEquals(1, index.getStart(1));
+        assertEquals(1, index.getEnd(1));
+
+        assertEquals(0, StringHelper.getPalindromeIndex("   ", true).getCenterCount());
+
+        assertThrows(IllegalArgumentException.class, () -> index.getStart(7));
+    }
+
+    @Test
+    public void isPalindromeTest() {
+        PalindromeIndex index = StringHelper.getPalindromeIndex(" x\uD801\uDC00a\uD801\uDC28 ", true);
+
+        assertTrue(index.isPalindrome(2, 7));
+        assertTrue(index.isPalindrome(4, 4));
+        assertFalse(index.isPalindrome(1, 7));
+
+        assertThrows(IllegalArgumentException.class, () -> index.isPalindrome(0, 7));
+        assertThrows(IllegalArgumentException.class, () -> index.isPalindrome(3, 7));
+    }
+
+    @Test
+    public void snapshotTest() {
+        StringBuilder builder = new StringBuilder("xabay");
+
+        PalindromeIndex index = StringHelper.getPalindromeIndex(builder, false);
+
+        builder.setCharAt(2, 'z');
+
+        assertEquals("aba", index.getLongest().toString());
+        assertTrue(index.isPalindrome(1, 4));
+    }
+
+    @Test
+    public void bruteForceEquivalenceTest() {
+        final String[] alphabet = {"a", "A", "b", " ", "\uD801\uDC00", "\uD801\uDC28"};
+
+        Random random = new Random(4);
+
+        for (int i = 0; i < 500; i++) {
+            StringBuilder builder = new StringBuilder("x");
+
+            for (int length = random.nextInt(12); length > 0; length--) {
+                builder.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+
+            String string = builder.append('y').toString();
+
+            for (boolean lenient : new boolean[] {true, false}) {
+                PalindromeIndex index = StringHelper.getPalindromeIndex(string, lenient);
+
+                int longest = 0;
+
+                for (int start = 0; start < string.length(); start++) {
+                    for (int end = start; end <= string.length(); end++) {
+                        if (Character.isLowSurrogate(string.charAt(start)) ||
+                                end < string.length() && Character.isLowSurrogate(string.charAt(end))) {
+                            continue;
+                        }
+
+                        String substring = string.substring(start, end);
+                        String reverse = new StringBuilder(substring).reverse().toString();
+
+                        boolean expected = lenient ? substring.equalsIgnoreCase(reverse) : substring.equals(reverse);
+
+                        assertEquals(string + " " + start + " " + end, expected, index.isPalindrome(start, end));
+
+                        if (expected) {
+                            longest = Math.max(longest, substring.codePointCount(0, substring.length()));
+                        }
+                    }
+                }
+
+                assertEquals(string, longest, string.codePointCount(index.getLongestStart(), index.getLongestEnd()));
+            }
+        }
+    }
+}
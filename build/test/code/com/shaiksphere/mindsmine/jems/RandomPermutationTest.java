@@ -0,0 +1,101 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+import org.junit.Test;
+
+import java.util.BitSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RandomPermutationTest {
+
+    @Test
+    public void bijectionTest() {
+        for (long size : new long[] {1, 2, 3, 4, 5, 7, 16, 17, 100, 1000, 4097, 65536, 100003}) {
+            RandomPermutation permutation = new RandomPermutation(size, size);
+
+            BitSet seen = new BitSet((int) size);
+
+            for (long position = 0; position < size; position++) {
+                long value = permutation.get(position);
+
+                assertTrue(value >= 0 && value < size);
+                assertFalse(seen.get((int) value));
+
+                seen.set((int) value);
+            }
+
+            assertEquals(size, seen.cardinality());
+        }
+    }
+
+    @Test
+    public void seedTest() {
+        RandomPermutation permutation1 = new RandomPermutation(1L << 40, 1L);
+        RandomPermutation permutation2 = new RandomPermutation(1L << 40, 1L);
+        RandomPermutation permutation3 = new RandomPermutation(1L << 40, 2L);
+
+        int differences = 0;
+
+        for (long position = 0; position < 1000; position++) {
+            assertEquals(permutation1.get(position), permutation2.get(position));
+
+            if (permutation1.get(position) != permutation3.get(position)) {
+                differences++;
+            }
+        }
+
+        assertNotEquals(0, differences);
+    }
+
+    @Test
+    public void largeSizeTest() {
+        RandomPermutation permutation = new RandomPermutation(Long.MAX_VALUE, 3L);
+
+        for (long position = Long.MAX_VALUE - 1000; position < Long.MAX_VALUE; position++) {
+            long value = permutation.get(position);
+
+            assertTrue(value >= 0);
+        }
+    }
+
+    @Test
+    public void uniformityTest() {
+        // Each value lands in each half of the range about as often, across seeds
+        int size = 1000;
+
+        int[] lowerHalf = new int[size];
+
+        for (long seed = 0; seed < 2000; seed++) {
+            RandomPermutation permutation = new RandomPermutation(size, seed);
+
+            for (int position = 0; position < 20; position++) {
+                if (permutation.get(position) < size / 2) {
+                    lowerHalf[position]++;
+                }
+            }
+        }
+
+        for (int position = 0; position < 20; position++) {
+            assertEquals(1000, lowerHalf[position], 120);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class StringPoolTest {
+
+    @Test
+    public void getCanonicalTest() {
+        StringPool pool = new StringPool(16, false);
+
+        String code1 = new String("US");
+        String code2 = new String("US");
+
+        assertSame(code1, pool.getCanonical(code1));
+        assertSame(code1, pool.getCanonical(code2));
+        assertNotSame(code1, pool.getCanonical(new String("us")));
+        assertNull(pool.getCanonical(null));
+
+        assertEquals(1, pool.getHitCount());
+        assertEquals(2, pool.getMissCount());
+        assertEquals(1.0 / 3, pool.getHitRate(), 0.0);
+        assertEquals(24 + 24, pool.getEstimatedBytesSaved());
+    }
+
+    @Test
+    public void getCanonicalLenientTest() {
+        StringPool pool = new StringPool(16, true);
+
+        String code = "US";
+
+        assertSame(code, pool.getCanonical(code));
+        assertSame(code, pool.getCanonical(" us "));
+        assertSame(code, pool.getCanonical("Us"));
+        assertTrue(pool.isLenient());
+
+        assertEquals(2, pool.getHitCount());
+    }
+
+    @Test
+    public void boundedTest() {
+        StringPool pool = new StringPool(100, false);
+
+        assertEquals(128, pool.getCapacity());
+
+        for (int i = 0; i < 100000; i++) {
+            String string = Integer.toString(i);
+
+            assertEquals(string, pool.getCanonical(string));
+        }
+
+        assertEquals(100000, pool.getMissCount());
+        assertTrue(pool.getEvictionCount() >= 100000 - 128);
+
+        pool.clear();
+
+        assertEquals(0, pool.getMissCount());
+        assertEquals(0, pool.getHitRate(), 0.0);
+    }
+
+    @Test
+    public void evictionTest() {
+        StringPool pool = new StringPool(4, false);
+
+        String hot = new String("hot");
+
+        assertSame(hot, pool.getCanonical(hot));
+
+        for (int i = 0; i < 3000; i++) {
+            if (i % 3 == 0) {
+                assertSame(hot, pool.getCanonical(new String("hot")));
+            }
+
+            pool.getCanonical("one-off-" + i);
+        }
+
+        assertEquals(1000, pool.getHitCount());
+        assertEquals(3000 - 3, pool.getEvictionCount());
+    }
+
+    @Test
+    public void concurrentTest() throws Exception {
+        StringPool pool = new StringPool(1024, false);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < 100000; i++) {
+                        String string = "status-" + (i % 50);
+
+                        assertEquals(string, pool.getCanonical(string));
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertEquals(400000, pool.getHitCount() + pool.getMissCount());
+        assertTrue(pool.getHitRate() > 0.99);
+    }
+
+    @Test
+    public void constructorExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new StringPool(3, false));
+        assertThrows(IllegalArgumentException.class, () -> new StringPool((1 << 30) + 1, false));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems.collections;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class IntIntMapTest {
+
+    @Test
+    public void putTest() {
+        IntIntMap map = new IntIntMap();
+
+        assertTrue(map.isEmpty());
+
+        assertTrue(map.put(7, 1));
+        assertFalse(map.put(7, 2));
+        assertTrue(map.put(0, 3));
+        assertFalse(map.put(0, 4));
+        assertTrue(map.put(Integer.MIN_VALUE, Integer.MAX_VALUE));
+
+        assertEquals(3, map.size());
+        assertEquals(2, map.get(7, -1));
+        assertEquals(4, map.get(0, -1));
+        assertEquals(Integer.MAX_VALUE, map.get(Integer.MIN_VALUE, -1));
+        assertEquals(-1, map.get(8, -1));
+
+        assertTrue(map.containsKey(0));
+        assertFalse(map.containsKey(8));
+
+        int[] keys = map.getKeys();
+
+        Arrays.sort(keys);
+
+        assertArrayEquals(new int[] {Integer.MIN_VALUE, 0, 7}, keys);
+    }
+
+    @Test
+    public void removeTest() {
+        IntIntMap map = new IntIntMap(0, 0.9f);
+
+        assertFalse(map.remove(0));
+
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, -i);
+        }
+
+        for (int i = 0; i < 1000; i += 2) {
+            assertTrue(map.remove(i));
+            assertFalse(map.remove(i));
+        }
+
+        assertEquals(500, map.size());
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals((i % 2 == 1) ? -i : 1, map.get(i, 1));
+        }
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(1));
+        assertEquals(0, map.getKeys().length);
+    }
+
+    @Test
+    public void equivalenceTest() {
+        Random random = new Random(42);
+
+        IntIntMap map = new IntIntMap(4);
+        Map<Integer, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < 200000; i++) {
+            int key = random.nextInt(2000) - 1000;
+
+            switch (random.nextInt(3)) {
+                case 0:
+                    int value = random.nextInt();
+
+                    assertEquals(expected.put(key, value) == null, map.put(key, value));
+                    break;
+                case 1:
+                    assertEquals(expected.remove(key) != null, map.remove(key));
+                    break;
+                default:
+                    assertEquals(expected.getOrDefault(key, 0), (Integer) map.get(key, 0));
+            }
+
+            assertEquals(expected.size(), map.size());
+        }
+
+        Map<Integer, Integer> actual = new HashMap<>();
+
+        map.forEach((key, value) -> assertNull(actual.put(key, value)));
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void exceptionsTest() {
+        assertThrows(IllegalArgumentException.class, () -> new IntIntMap(-1));
+        assertThrows(IllegalArgumentException.class, () -> new IntIntMap(16, 0f));
+        assertThrows(IllegalArgumentException.class, () -> new IntIntMap(16, 1f));
+        assertThrows(IllegalArgumentException.class, () -> new IntIntMap(16, Float.NaN));
+    }
+}
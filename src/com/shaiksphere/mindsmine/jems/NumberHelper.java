@@ -16,8 +16,20 @@ limitations under the License.
 
 package com.shaiksphere.mindsmine.jems;
 
-import java.util.HashSet;
+import com.shaiksphere.mindsmine.jems.collections.IntIntMap;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 /**
  * A collection of useful static methods to deal with numbers.
@@ -40,6 +52,56 @@ import java.util.concurrent.ThreadLocalRandom;
  * 
  */
 public final class NumberHelper {
+    // Product of the moduli 63, 65 and 11, whose quadratic residues filter out most non-squares
+    private static final int RESIDUE_MODULUS = 63 * 65 * 11;
+
+    // Largest long whose square is a long
+    private static final long MAX_SQUARE_ROOT = 3037000499L;
+
+    // Powers of ten from 10^0 to 10^19, the last of which only fits as an unsigned long
+    private static final long[] POWERS_OF_TEN = new long[20];
+
+    // log10(2), to estimate the number of decimal digits from the number of bits
+    private static final double LOG10_OF_2 = 0.30102999566398119521;
+
+    // Bit r is set if r is a square modulo 64
+    private static final long SQUARES_MOD_64;
+
+    // Bit r is set if r is a square modulo 63, 65 and 11 at the same time
+    private static final long[] SQUARES_MOD_RESIDUE_MODULUS = new long[(RESIDUE_MODULUS + 63) / 64];
+
+    static {
+        long squaresMod64 = 0L;
+
+        for (int i = 0; i < 64; i++) {
+            squaresMod64 |= 1L << (i * i % 64);
+        }
+
+        SQUARES_MOD_64 = squaresMod64;
+
+        POWERS_OF_TEN[0] = 1L;
+
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+
+        boolean[] squaresMod63 = new boolean[63];
+        boolean[] squaresMod65 = new boolean[65];
+        boolean[] squaresMod11 = new boolean[11];
+
+        for (int i = 0; i < 65; i++) {
+            squaresMod63[i * i % 63] = true;
+            squaresMod65[i * i % 65] = true;
+            squaresMod11[i * i % 11] = true;
+        }
+
+        for (int r = 0; r < RESIDUE_MODULUS; r++) {
+            if (squaresMod63[r % 63] && squaresMod65[r % 65] && squaresMod11[r % 11]) {
+                SQUARES_MOD_RESIDUE_MODULUS[r >>> 6] |= 1L << r;
+            }
+        }
+    }
+
     private NumberHelper() {}
 
     /**
@@ -216,6 +278,509 @@ public final class NumberHelper {
         return (value == null) ? Integer.MIN_VALUE : value;
     }
 
+    /**
+     * Returns the number of <code>long</code> words of the null bitmap of an array of the specified length, i.e. one
+     * bit per element, rounded up to whole words.
+     *
+     * @see NumberHelper#getPrimitiveArray(Integer[], long[], boolean)
+     *
+     * @param length of the array
+     *
+     * @return number of words of the null bitmap
+     *
+     * @throws IllegalArgumentException if the length is negative
+     *
+     * @since 4.9.0
+     *
+     */
+    public static int getNullBitmapLength(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative number is not allowed as an argument.");
+        }
+
+        return (int) ((length + 63L) >>> 6);
+    }
+
+    /**
+     * Returns the passed integers as a primitive array, and records which of them are <code>null</code> in the passed
+     * null bitmap, instead of substituting a sentinel for them as {@link NumberHelper#getNullSafe(Integer)} does.
+     * <br><br>
+     * Bit <em><code>i</code></em> of the bitmap, i.e. bit <em><code>i % 64</code></em> of word
+     * <em><code>i / 64</code></em>, is set if the element at index <em><code>i</code></em> is <code>null</code>; this
+     * is the layout of {@link java.util.BitSet#valueOf(long[])}. Every word of the bitmap covering the array is
+     * overwritten, and the elements that are <code>null</code> are zero in the primitive array. In parallel, the array
+     * is split on word boundaries, so that no two threads write the same word.
+     * <br><br>
+     * Example usage:
+     * <pre>
+     *      long[] nulls = new long[NumberHelper.getNullBitmapLength(3)];
+     *
+     *      int[] values = NumberHelper.getPrimitiveArray(new Integer[] {7, null, 9}, nulls, false);
+     *
+     *      // values now contains the numbers: {7, 0, 9}
+     *      // nulls now contains the word: 2, i.e. bit 1 is set
+     * </pre>
+     *
+     * @param values The numbers to convert
+     * @param nulls The null bitmap to fill, of at least {@link NumberHelper#getNullBitmapLength(int)} words
+     * @param parallel whether to convert the numbers in parallel or not
+     *
+     * @return a primitive array of the numbers, with zero in place of <code>null</code>
+     *
+     * @throws IllegalArgumentException if any of the arrays is <code>null</code>, or the null bitmap is too small
+     *
+     * @since 4.9.0
+     *
+     */
+    public static int[] getPrimitiveArray(Integer[] values, long[] nulls, boolean parallel) {
+        if (values == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        checkNullBitmap(values.length, nulls, false);
+
+        int[] result = new int[values.length];
+
+        forEachNullBitmapWord(values.length, parallel, word -> {
+            long bits = 0L;
+
+            for (int i = word << 6, end = Math.min(i + 64, values.length); i < end; i++) {
+                Integer value = values[i];
+
+                if (value == null) {
+                    bits |= 1L << i;
+                } else {
+                    result[i] = value;
+                }
+            }
+
+            nulls[word] = bits;
+        });
+
+        return result;
+    }
+
+    /**
+     * Returns the passed longs as a primitive array, and records which of them are <code>null</code> in the passed
+     * null bitmap, instead of substituting a sentinel for them.
+     *
+     * @see NumberHelper#getPrimitiveArray(Integer[], long[], boolean)
+     *
+     * @param values The numbers to convert
+     * @param nulls The null bitmap to fill, of at least {@link NumberHelper#getNullBitmapLength(int)} words
+     * @param parallel whether to convert the numbers in parallel or not
+     *
+     * @return a primitive array of the numbers, with zero in place of <code>null</code>
+     *
+     * @throws IllegalArgumentException if any of the arrays is <code>null</code>, or the null bitmap is too small
+     *
+     * @since 4.9.0
+     *
+     */
+    public static long[] getPrimitiveArray(Long[] values, long[] nulls, boolean parallel) {
+        if (values == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        checkNullBitmap(values.length, nulls, false);
+
+        long[] result = new long[values.length];
+
+        forEachNullBitmapWord(values.length, parallel, word -> {
+            long bits = 0L;
+
+            for (int i = word << 6, end = Math.min(i + 64, values.length); i < end; i++) {
+                Long value = values[i];
+
+                if (value == null) {
+                    bits |= 1L << i;
+                } else {
+                    result[i] = value;
+                }
+            }
+
+            nulls[word] = bits;
+        });
+
+        return result;
+    }
+
+    /**
+     * Returns the passed doubles as a primitive array, and records which of them are <code>null</code> in the passed
+     * null bitmap, instead of substituting a sentinel for them.
+     *
+     * @see NumberHelper#getPrimitiveArray(Integer[], long[], boolean)
+     *
+     * @param values The numbers to convert
+     * @param nulls The null bitmap to fill, of at least {@link NumberHelper#getNullBitmapLength(int)} words
+     * @param parallel whether to convert the numbers in parallel or not
+     *
+     * @return a primitive array of the numbers, with zero in place of <code>null</code>
+     *
+     * @throws IllegalArgumentException if any of the arrays is <code>null</code>, or the null bitmap is too small
+     *
+     * @since 4.9.0
+     *
+     */
+    public static double[] getPrimitiveArray(Double[] values, long[] nulls, boolean parallel) {
+        if (values == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        checkNullBitmap(values.length, nulls, false);
+
+        double[] result = new double[values.length];
+
+        forEachNullBitmapWord(values.length, parallel, word -> {
+            long bits = 0L;
+
+            for (int i = word << 6, end = Math.min(i + 64, values.length); i < end; i++) {
+                Double value = values[i];
+
+                if (value == null) {
+                    bits |= 1L << i;
+                } else {
+                    result[i] = value;
+                }
+            }
+
+            nulls[word] = bits;
+        });
+
+        return result;
+    }
+
+    /**
+     * Returns the passed integers as a boxed array, with <code>null</code> wherever the passed null bitmap has its bit
+     * set; the reverse of {@link NumberHelper#getPrimitiveArray(Integer[], long[], boolean)}.
+     * <br><br>
+     * Bits of the bitmap past the end of the array are ignored.
+     * <br><br>
+     * Example usage:
+     * <pre>
+     *      NumberHelper.getBoxedArray(new int[] {7, 0, 9}, new long[] {2L}, false);    // {7, null, 9}
+     * </pre>
+     *
+     * @param values The numbers to convert
+     * @param nulls The null bitmap, or <code>null</code> if none of the numbers is <code>null</code>
+     * @param parallel whether to convert the numbers in parallel or not
+     *
+     * @return a boxed array of the numbers
+     *
+     * @throws IllegalArgumentException if the array of numbers is <code>null</code>, or the null bitmap is too small
+     *
+     * @since 4.9.0
+     *
+     */
+    public static Integer[] getBoxedArray(int[] values, long[] nulls, boolean parallel) {
+        if (values == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        checkNullBitmap(values.length, nulls, true);
+
+        Integer[] result = new Integer[values.length];
+
+        forEachNullBitmapWord(values.length, parallel, word -> {
+            long bits = (nulls == null) ? 0L : nulls[word];
+
+            for (int i = word << 6, end = Math.min(i + 64, values.length); i < end; i++) {
+                if ((bits & (1L << i)) == 0L) {
+                    result[i] = values[i];
+                }
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Returns the passed longs as a boxed array, with <code>null</code> wherever the passed null bitmap has its bit
+     * set.
+     *
+     * @see NumberHelper#getBoxedArray(int[], long[], boolean)
+     *
+     * @param values The numbers to convert
+     * @param nulls The null bitmap, or <code>null</code> if none of the numbers is <code>null</code>
+     * @param parallel whether to convert the numbers in parallel or not
+     *
+     * @return a boxed array of the numbers
+     *
+     * @throws IllegalArgumentException if the array of numbers is <code>null</code>, or the null bitmap is too small
+     *
+     * @since 4.9.0
+     *
+     */
+    public static Long[] getBoxedArray(long[] values, long[] nulls, boolean parallel) {
+        if (values == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        checkNullBitmap(values.length, nulls, true);
+
+        Long[] result = new Long[values.length];
+
+        forEachNullBitmapWord(values.length, parallel, word -> {
+            long bits = (nulls == null) ? 0L : nulls[word];
+
+            for (int i = word << 6, end = Math.min(i + 64, values.length); i < end; i++) {
+                if ((bits & (1L << i)) == 0L) {
+                    result[i] = values[i];
+                }
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Returns the passed doubles as a boxed array, with <code>null</code> wherever the passed null bitmap has its bit
+     * set.
+     *
+     * @see NumberHelper#getBoxedArray(int[], long[], boolean)
+     *
+     * @param values The numbers to convert
+     * @param nulls The null bitmap, or <code>null</code> if none of the numbers is <code>null</code>
+     * @param parallel whether to convert the numbers in parallel or not
+     *
+     * @return a boxed array of the numbers
+     *
+     * @throws IllegalArgumentException if the array of numbers is <code>null</code>, or the null bitmap is too small
+     *
+     * @since 4.9.0
+     *
+     */
+    public static Double[] getBoxedArray(double[] values, long[] nulls, boolean parallel) {
+        if (values == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        checkNullBitmap(values.length, nulls, true);
+
+        Double[] result = new Double[values.length];
+
+        forEachNullBitmapWord(values.length, parallel, word -> {
+            long bits = (nulls == null) ? 0L : nulls[word];
+
+            for (int i = word << 6, end = Math.min(i + 64, values.length); i < end; i++) {
+                if ((bits & (1L << i)) == 0L) {
+                    result[i] = values[i];
+                }
+            }
+        });
+
+        return result;
+    }
+
+
+    /**
+     * Parses the passed character sequence as a signed decimal <code>int</code>.
+     * <br><br>
+     * The number is made of an optional '<code>+</code>' or '<code>-</code>' sign followed by one or more of the ASCII
+     * digits '<code>0</code>' through '<code>9</code>', with no whitespace. The digits are validated and accumulated in
+     * a single pass, without creating a substring or an exception; when the number is malformed, out of range or
+     * <code>null</code>, the default value is returned instead.
+     * <br><br>
+     * Example usage:
+     * <pre>
+     *      NumberHelper.parseInt("-42", 0);                    // -42
+     *      NumberHelper.parseInt("4x2", 0);                    // 0
+     *      NumberHelper.parseInt("2147483648", -1);            // -1, out of range
+     * </pre>
+     *
+     * @see Integer#parseInt(String)
+     *
+     * @param chars to parse
+     * @param defaultValue to return if the character sequence is not a valid <code>int</code>
+     *
+     * @return the parsed number, or the default value
+     *
+     * @since 4.9.0
+     *
+     */
+    public static int parseInt(CharSequence chars, int defaultValue) {
+        return (chars == null) ? defaultValue : parseInt(chars, 0, chars.length(), defaultValue);
+    }
+
+    /**
+     * Parses the specified range of the passed character sequence as a signed decimal <code>int</code>.
+     * <br><br>
+     * The number is made of an optional '<code>+</code>' or '<code>-</code>' sign followed by one or more of the ASCII
+     * digits '<code>0</code>' through '<code>9</code>', with no whitespace. The digits are validated and accumulated in
+     * a single pass, without creating a substring or an exception; when the number is malformed, out of range or
+     * <code>null</code>, the default value is returned instead.
+     * <br><br>
+     * Example usage:
+     * <pre>
+     *      NumberHelper.parseInt("id=17650;", 3, 8, -1);       // 17650
+     * </pre>
+     *
+     * @see NumberHelper#parseInt(CharSequence, int)
+     *
+     * @param chars to parse
+     * @param start index (inclusive) of the number
+     * @param end index (exclusive) of the number
+     * @param defaultValue to return if the range is not a valid <code>int</code>
+     *
+     * @return the parsed number, or the default value
+     *
+     * @throws IllegalArgumentException if the range is out of bounds
+     *
+     * @since 4.9.0
+     *
+     */
+    public static int parseInt(CharSequence chars, int start, int end, int defaultValue) {
+        return (int) parse(chars, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE, defaultValue);
+    }
+
+    /**
+     * Parses the passed character sequence as a signed decimal <code>long</code>.
+     * <br><br>
+     * The number is made of an optional '<code>+</code>' or '<code>-</code>' sign followed by one or more of the ASCII
+     * digits '<code>0</code>' through '<code>9</code>', with no whitespace. The digits are validated and accumulated in
+     * a single pass, without creating a substring or an exception; when the number is malformed, out of range or
+     * <code>null</code>, the default value is returned instead.
+     *
+     * @see Long#parseLong(String)
+     * @see NumberHelper#parseInt(CharSequence, int)
+     *
+     * @param chars to parse
+     * @param defaultValue to return if the character sequence is not a valid <code>long</code>
+     *
+     * @return the parsed number, or the default value
+     *
+     * @since 4.9.0
+     *
+     */
+    public static long parseLong(CharSequence chars, long defaultValue) {
+        return (chars == null) ? defaultValue : parseLong(chars, 0, chars.length(), defaultValue);
+    }
+
+    /**
+     * Parses the specified range of the passed character sequence as a signed decimal <code>long</code>.
+     * <br><br>
+     * The number is made of an optional '<code>+</code>' or '<code>-</code>' sign followed by one or more of the ASCII
+     * digits '<code>0</code>' through '<code>9</code>', with no whitespace. The digits are validated and accumulated in
+     * a single pass, without creating a substring or an exception; when the number is malformed, out of range or
+     * <code>null</code>, the default value is returned instead.
+     *
+     * @see NumberHelper#parseLong(CharSequence, long)
+     *
+     * @param chars to parse
+     * @param start index (inclusive) of the number
+     * @param end index (exclusive) of the number
+     * @param defaultValue to return if the range is not a valid <code>long</code>
+     *
+     * @return the parsed number, or the default value
+     *
+     * @throws IllegalArgumentException if the range is out of bounds
+     *
+     * @since 4.9.0
+     *
+     */
+    public static long parseLong(CharSequence chars, int start, int end, long defaultValue) {
+        return parse(chars, start, end, Long.MIN_VALUE, Long.MAX_VALUE, defaultValue);
+    }
+
+    /**
+     * Parses the specified range of the passed ASCII (or UTF-8) bytes as a signed decimal <code>int</code>, without
+     * decoding them into a string.
+     * <br><br>
+     * The number is made of an optional '<code>+</code>' or '<code>-</code>' sign followed by one or more of the ASCII
+     * digits '<code>0</code>' through '<code>9</code>', with no whitespace. The digits are validated and accumulated in
+     * a single pass, without creating a substring or an exception; when the number is malformed, out of range or
+     * <code>null</code>, the default value is returned instead.
+     *
+     * @see NumberHelper#parseInt(CharSequence, int)
+     *
+     * @param bytes to parse
+     * @param offset of the first byte of the number
+     * @param length number of bytes of the number
+     * @param defaultValue to return if the range is not a valid <code>int</code>
+     *
+     * @return the parsed number, or the default value
+     *
+     * @throws IllegalArgumentException if the range is out of bounds
+     *
+     * @since 4.9.0
+     *
+     */
+    public static int parseInt(byte[] bytes, int offset, int length, int defaultValue) {
+        return (int) parse(bytes, offset, length, Integer.MIN_VALUE, Integer.MAX_VALUE, defaultValue);
+    }
+
+    /**
+     * Parses the remaining bytes of the passed buffer, in ASCII (or UTF-8), as a signed decimal <code>int</code>,
+     * without decoding them into a string. Neither the position nor the limit of the buffer is modified.
+     * <br><br>
+     * The number is made of an optional '<code>+</code>' or '<code>-</code>' sign followed by one or more of the ASCII
+     * digits '<code>0</code>' through '<code>9</code>', with no whitespace. The digits are validated and accumulated in
+     * a single pass, without creating a substring or an exception; when the number is malformed, out of range or
+     * <code>null</code>, the default value is returned instead.
+     *
+     * @see NumberHelper#parseInt(CharSequence, int)
+     *
+     * @param buffer to parse
+     * @param defaultValue to return if the remaining bytes are not a valid <code>int</code>
+     *
+     * @return the parsed number, or the default value
+     *
+     * @since 4.9.0
+     *
+     */
+    public static int parseInt(ByteBuffer buffer, int defaultValue) {
+        return (int) parse(buffer, Integer.MIN_VALUE, Integer.MAX_VALUE, defaultValue);
+    }
+
+    /**
+     * Parses the specified range of the passed ASCII (or UTF-8) bytes as a signed decimal <code>long</code>, without
+     * decoding them into a string.
+     * <br><br>
+     * The number is made of an optional '<code>+</code>' or '<code>-</code>' sign followed by one or more of the ASCII
+     * digits '<code>0</code>' through '<code>9</code>', with no whitespace. The digits are validated and accumulated in
+     * a single pass, without creating a substring or an exception; when the number is malformed, out of range or
+     * <code>null</code>, the default value is returned instead.
+     *
+     * @see NumberHelper#parseLong(CharSequence, long)
+     *
+     * @param bytes to parse
+     * @param offset of the first byte of the number
+     * @param length number of bytes of the number
+     * @param defaultValue to return if the range is not a valid <code>long</code>
+     *
+     * @return the parsed number, or the default value
+     *
+     * @throws IllegalArgumentException if the range is out of bounds
+     *
+     * @since 4.9.0
+     *
+     */
+    public static long parseLong(byte[] bytes, int offset, int length, long defaultValue) {
+        return parse(bytes, offset, length, Long.MIN_VALUE, Long.MAX_VALUE, defaultValue);
+    }
+
+    /**
+     * Parses the remaining bytes of the passed buffer, in ASCII (or UTF-8), as a signed decimal <code>long</code>,
+     * without decoding them into a string. Neither the position nor the limit of the buffer is modified.
+     * <br><br>
+     * The number is made of an optional '<code>+</code>' or '<code>-</code>' sign followed by one or more of the ASCII
+     * digits '<code>0</code>' through '<code>9</code>', with no whitespace. The digits are validated and accumulated in
+     * a single pass, without creating a substring or an exception; when the number is malformed, out of range or
+     * <code>null</code>, the default value is returned instead.
+     *
+     * @see NumberHelper#parseLong(CharSequence, long)
+     *
+     * @param buffer to parse
+     * @param defaultValue to return if the remaining bytes are not a valid <code>long</code>
+     *
+     * @return the parsed number, or the default value
+     *
+     * @since 4.9.0
+     *
+     */
+    public static long parseLong(ByteBuffer buffer, long defaultValue) {
+        return parse(buffer, Long.MIN_VALUE, Long.MAX_VALUE, defaultValue);
+    }
 
     /**
      * Returns <code>true</code> if number is a Perfect Square.
@@ -322,27 +887,278 @@ public final class NumberHelper {
      *
      */
     public static boolean isPerfectSquare(Long value) {
-        if (getNullSafe(value) < 0) {
-            return false;
-        }
-
-        long sqrt = (long)Math.sqrt(value);
-
-        return Math.pow(sqrt, 2) == value;
+        return isPerfectSquare(getNullSafe(value).longValue());
     }
 
     /**
-     * Returns an array of pseudorandom int values between zero (inclusive) and the specified upper bound (exclusive).
+     * Returns <code>true</code> if number is a Perfect Square.
      * <br><br>
-     * Convenience method equivalent to <code>NumberHelper.getUniqueRandomNumbers(0, upperBound, arraySize)</code>
+     * The test is exact for every <code>long</code>, including those close to {@link Long#MAX_VALUE}, where a
+     * <code>double</code> cannot represent every integer. Most non-squares are rejected by their residues modulo 64,
+     * 63, 65 and 11, with no square root computed at all; the square root of the remaining candidates is estimated in
+     * floating point, then corrected in integer arithmetic.
+     * <br><br>
+     * Example usage:
+     * <pre>
+     *      NumberHelper.isPerfectSquare(0L);                       // true
+     *      NumberHelper.isPerfectSquare(81L);                      // true
+     *      NumberHelper.isPerfectSquare(9223372030926249001L);     // true, 3037000499^2
+     *      NumberHelper.isPerfectSquare(9223372030926249000L);     // false
+     *      NumberHelper.isPerfectSquare(-4L);                      // false
+     * </pre>
      *
-     * @see NumberHelper#getUniqueRandomNumbers(int, int, int)
+     * @see <a href="@WIKI_URI@/Perfect_square">Perfect Square (Wikipedia)</a>
+     * @see <a href="@WIKI_URI@/Quadratic_residue">Quadratic residue (Wikipedia)</a>
      *
-     * @param bound the upper bound (exclusive)
-     * @param arraySize the number of unique random numbers expected
+     * @param value The number to test
      *
-     * @return an <code>Integer</code> array of pseudorandom int values between zero (inclusive) and the upper bound
-     * (exclusive).
+     * @return Whether or not the number is a Perfect Square
+     *
+     * @since 4.9.0
+     *
+     */
+    public static boolean isPerfectSquare(long value) {
+        if (value < 0 || ((SQUARES_MOD_64 >>> value) & 1L) == 0L) {
+            return false;
+        }
+
+        int residue = (int) (value % RESIDUE_MODULUS);
+
+        if ((SQUARES_MOD_RESIDUE_MODULUS[residue >>> 6] & (1L << residue)) == 0L) {
+            return false;
+        }
+
+        // The floating point estimate is off by at most one
+        long root = Math.min((long) Math.sqrt(value), MAX_SQUARE_ROOT);
+
+        if (root * root > value) {
+            root--;
+        } else if (root < MAX_SQUARE_ROOT && (root + 1) * (root + 1) <= value) {
+            root++;
+        }
+
+        return root * root == value;
+    }
+
+    /**
+     * Returns <code>true</code> if number is a Perfect Square.
+     * <br><br>
+     * Most non-squares are rejected by their residues, as in {@link NumberHelper#isPerfectSquare(long)}; numbers that
+     * fit in a <code>long</code> are then tested as such, and only larger numbers have their integer square root
+     * computed with {@link BigInteger#sqrt()}.
+     * <br><br>
+     * Example usage:
+     * <pre>
+     *      NumberHelper.isPerfectSquare(BigInteger.TEN.pow(40));              // true
+     *      NumberHelper.isPerfectSquare(BigInteger.TEN.pow(41));              // false
+     *      NumberHelper.isPerfectSquare((BigInteger) null);                   // false
+     * </pre>
+     *
+     * @see <a href="@WIKI_URI@/Perfect_square">Perfect Square (Wikipedia)</a>
+     *
+     * @param value The number to test
+     *
+     * @return Whether or not the number is a Perfect Square
+     *
+     * @since 4.9.0
+     *
+     */
+    public static boolean isPerfectSquare(BigInteger value) {
+        if (value == null || value.signum() < 0) {
+            return false;
+        }
+
+        if (value.bitLength() < Long.SIZE) {
+            return isPerfectSquare(value.longValue());
+        }
+
+        // The lowest bits of a positive number are its residue modulo 64
+        if (((SQUARES_MOD_64 >>> value.intValue()) & 1L) == 0L) {
+            return false;
+        }
+
+        int residue = value.mod(BigInteger.valueOf(RESIDUE_MODULUS)).intValue();
+
+        if ((SQUARES_MOD_RESIDUE_MODULUS[residue >>> 6] & (1L << residue)) == 0L) {
+            return false;
+        }
+
+        BigInteger root = value.sqrt();
+
+        return root.multiply(root).equals(value);
+    }
+
+    /**
+     * Returns the Perfect Squares among the passed numbers, in the order they are passed.
+     * <br><br>
+     * Example usage:
+     * <pre>
+     *      NumberHelper.getPerfectSquares(new long[] {16, 17, -4, 0, 16}, false);     // {16, 0, 16}
+     * </pre>
+     *
+     * @see NumberHelper#isPerfectSquare(long)
+     *
+     * @param values The numbers to test
+     * @param parallel whether to test the numbers in parallel or not
+     *
+     * @return an array of the numbers that are Perfect Squares
+     *
+     * @throws IllegalArgumentException if the array is <code>null</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public static long[] getPerfectSquares(long[] values, boolean parallel) {
+        if (values == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        LongStream stream = LongStream.of(values);
+
+        return (parallel ? stream.parallel() : stream).filter(NumberHelper::isPerfectSquare).toArray();
+    }
+
+    /**
+     * Returns the statistics of the passed numbers, i.e. their count, minimum, maximum, mean, variance and quantiles,
+     * with quantiles within 1% of the numbers.
+     * <br><br>
+     * Example usage:
+     * <pre>
+     *      NumberStatistics statistics = NumberHelper.getStatistics(new double[] {1, 2, 3, 4}, false);
+     *
+     *      statistics.getMean();               // 2.5
+     *      statistics.getVariance();           // 1.25
+     * </pre>
+     *
+     * @see NumberStatistics
+     *
+     * @param values The numbers to summarize
+     * @param parallel whether to accumulate the numbers in parallel or not
+     *
+     * @return the statistics of the numbers
+     *
+     * @throws IllegalArgumentException if the array is <code>null</code>, or has a number that is infinite or not a
+     * number
+     *
+     * @since 4.9.0
+     *
+     */
+    public static NumberStatistics getStatistics(double[] values, boolean parallel) {
+        if (values == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        DoubleStream stream = DoubleStream.of(values);
+
+        return (parallel ? stream.parallel() : stream).collect(
+                NumberStatistics::new, NumberStatistics::accept, NumberStatistics::combine
+        );
+    }
+
+    /**
+     * Returns the statistics of the passed numbers, with quantiles within 1% of the numbers.
+     *
+     * @see NumberHelper#getStatistics(double[], boolean)
+     *
+     * @param values The numbers to summarize
+     * @param parallel whether to accumulate the numbers in parallel or not
+     *
+     * @return the statistics of the numbers
+     *
+     * @throws IllegalArgumentException if the array is <code>null</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public static NumberStatistics getStatistics(int[] values, boolean parallel) {
+        if (values == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        IntStream stream = IntStream.of(values);
+
+        return (parallel ? stream.parallel() : stream).collect(
+                NumberStatistics::new, NumberStatistics::accept, NumberStatistics::combine
+        );
+    }
+
+    /**
+     * Returns the statistics of the passed numbers, with quantiles within 1% of the numbers.
+     *
+     * @see NumberHelper#getStatistics(double[], boolean)
+     *
+     * @param values The numbers to summarize
+     * @param parallel whether to accumulate the numbers in parallel or not
+     *
+     * @return the statistics of the numbers
+     *
+     * @throws IllegalArgumentException if the array is <code>null</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public static NumberStatistics getStatistics(long[] values, boolean parallel) {
+        if (values == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        LongStream stream = LongStream.of(values);
+
+        return (parallel ? stream.parallel() : stream).collect(
+                NumberStatistics::new, NumberStatistics::accept, NumberStatistics::combine
+        );
+    }
+
+    /**
+     * Returns a collector of the statistics of the numbers extracted from the elements of a stream, with quantiles
+     * within 1% of the numbers. The collector is unordered, and merges the statistics of the parts of a parallel
+     * stream.
+     * <br><br>
+     * Example usage:
+     * <pre>
+     *      NumberStatistics statistics = orders.parallelStream().collect(NumberHelper.toStatistics(Order::getAmount));
+     *
+     *      statistics.getQuantile(0.5);        // the median amount, within 1%
+     * </pre>
+     *
+     * @see NumberStatistics#combine(NumberStatistics)
+     *
+     * @param mapper extracting the number from an element
+     * @param <T> the type of the elements
+     *
+     * @return a collector of the statistics of the numbers
+     *
+     * @throws IllegalArgumentException if the mapper is <code>null</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public static <T> Collector<T, ?, NumberStatistics> toStatistics(ToDoubleFunction<? super T> mapper) {
+        if (mapper == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        return Collector.of(
+                NumberStatistics::new,
+                (statistics, element) -> statistics.accept(mapper.applyAsDouble(element)),
+                NumberStatistics::combine,
+                Collector.Characteristics.UNORDERED,
+                Collector.Characteristics.IDENTITY_FINISH
+        );
+    }
+
+    /**
+     * Returns an array of pseudorandom int values between zero (inclusive) and the specified upper bound (exclusive).
+     * <br><br>
+     * Convenience method equivalent to <code>NumberHelper.getUniqueRandomNumbers(0, upperBound, arraySize)</code>
+     *
+     * @see NumberHelper#getUniqueRandomNumbers(int, int, int)
+     *
+     * @param bound the upper bound (exclusive)
+     * @param arraySize the number of unique random numbers expected
+     *
+     * @return an <code>Integer</code> array of pseudorandom int values between zero (inclusive) and the upper bound
+     * (exclusive).
      *
      * @throws IllegalArgumentException if any of the arguments are negative integers
      *
@@ -358,10 +1174,13 @@ public final class NumberHelper {
     /**
      * Returns an array of pseudorandom int values between the specified lower bound (inclusive) and the specified upper
      * bound (exclusive).
+     * <br><br>
+     * The values are drawn with a partial Fisher-Yates shuffle of the range, which only keeps track of the positions it
+     * has swapped. Hence, the cost is proportional to the array size, whatever the size of the range, and drawing every
+     * number of the range takes no longer than drawing a few of them. The values are in random order.
      *
-     * @see ThreadLocalRandom#nextInt(int, int)
-     * @see HashSet#stream()
-     * @see java.util.stream.Stream#mapToInt(java.util.function.ToIntFunction)
+     * @see ThreadLocalRandom#nextInt(int)
+     * @see <a href="@WIKI_URI@/Fisher%E2%80%93Yates_shuffle">Fisher-Yates shuffle (Wikipedia)</a>
      *
      * @param lowerBound the least value returned
      * @param upperBound the upper bound (exclusive)
@@ -378,7 +1197,98 @@ public final class NumberHelper {
      *
      */
     public static int[] getUniqueRandomNumbers(int lowerBound, int upperBound, int arraySize) {
-        if (lowerBound < 0 || upperBound < 0 || arraySize < 0) {
+        checkUniqueRandomNumbersArguments(lowerBound, upperBound, arraySize);
+
+        return getUniqueRandomNumbers(lowerBound, upperBound, arraySize, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Returns an array of pseudorandom int values between the specified lower bound (inclusive) and the specified upper
+     * bound (exclusive), drawn from a generator initialised with the specified seed.
+     * <br><br>
+     * The same arguments always return the same array, which makes the results reproducible, e.g. in tests.
+     *
+     * @see NumberHelper#getUniqueRandomNumbers(int, int, int)
+     * @see SplittableRandom#SplittableRandom(long)
+     *
+     * @param lowerBound the least value returned
+     * @param upperBound the upper bound (exclusive)
+     * @param arraySize the number of unique random numbers expected
+     * @param seed the initial seed of the generator
+     *
+     * @return an <code>Integer</code> array of pseudorandom int values between the lower bound (inclusive) and the
+     * upper bound (exclusive).
+     *
+     * @throws IllegalArgumentException if any of the arguments, other than the seed, are negative integers
+     *
+     * @throws IllegalArgumentException if lower bound is greater than or equal to upper bound
+     *
+     * @since 4.9.0
+     *
+     */
+    public static int[] getUniqueRandomNumbers(int lowerBound, int upperBound, int arraySize, long seed) {
+        checkUniqueRandomNumbersArguments(lowerBound, upperBound, arraySize);
+
+        return getUniqueRandomNumbers(lowerBound, upperBound, arraySize, new SplittableRandom(seed));
+    }
+
+    /**
+     * Returns a stream of all the long values between the specified lower bound (inclusive) and the specified upper
+     * bound (exclusive), in pseudorandom order.
+     * <br><br>
+     * Convenience method equivalent to <code>NumberHelper.getUniqueRandomStream(lowerBound, upperBound, seed)</code>
+     * with a random seed.
+     *
+     * @see NumberHelper#getUniqueRandomStream(long, long, long)
+     *
+     * @param lowerBound the least value returned
+     * @param upperBound the upper bound (exclusive)
+     *
+     * @return a stream of unique pseudorandom long values between the lower bound (inclusive) and the upper bound
+     * (exclusive)
+     *
+     * @throws IllegalArgumentException if any of the arguments are negative numbers
+     *
+     * @throws IllegalArgumentException if lower bound is greater than or equal to upper bound
+     *
+     * @since 4.9.0
+     *
+     */
+    public static LongStream getUniqueRandomStream(long lowerBound, long upperBound) {
+        return getUniqueRandomStream(lowerBound, upperBound, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Returns a stream of all the long values between the specified lower bound (inclusive) and the specified upper
+     * bound (exclusive), in a pseudorandom order determined by the specified seed.
+     * <br><br>
+     * Unlike {@link NumberHelper#getUniqueRandomNumbers(int, int, int)}, nothing is materialised: each value is
+     * computed from its position in the stream, by a keyed permutation of the range, using constant memory. Hence, a
+     * few unique values can be drawn from a range of any size, e.g.
+     * <code>getUniqueRandomStream(0, 1L &lt;&lt; 40, seed).limit(1000)</code>. The stream is sized, splits evenly for
+     * parallel processing, and yields the same values in the same order for the same seed, whether sequential or
+     * parallel.
+     * <br><br>
+     * The order is pseudorandom, not cryptographically secure.
+     *
+     * @see <a href="@WIKI_URI@/Format-preserving_encryption">Format-preserving encryption (Wikipedia)</a>
+     *
+     * @param lowerBound the least value returned
+     * @param upperBound the upper bound (exclusive)
+     * @param seed the seed of the permutation
+     *
+     * @return a stream of unique pseudorandom long values between the lower bound (inclusive) and the upper bound
+     * (exclusive)
+     *
+     * @throws IllegalArgumentException if any of the bounds are negative numbers
+     *
+     * @throws IllegalArgumentException if lower bound is greater than or equal to upper bound
+     *
+     * @since 4.9.0
+     *
+     */
+    public static LongStream getUniqueRandomStream(long lowerBound, long upperBound, long seed) {
+        if (lowerBound < 0 || upperBound < 0) {
             throw new IllegalArgumentException("Negative number is not allowed as an argument.");
         }
 
@@ -386,36 +1296,954 @@ public final class NumberHelper {
             throw new IllegalArgumentException("Lower Bound cannot be larger than Upper Bound.");
         }
 
-        if (arraySize > upperBound || arraySize > (upperBound - lowerBound)) {
-            throw new IllegalArgumentException("Not enough unique numbers available for the array size.");
+        RandomPermutation permutation = new RandomPermutation(upperBound - lowerBound, seed);
+
+        return LongStream.range(0, permutation.getSize()).map(position -> lowerBound + permutation.get(position));
+    }
+
+    /**
+     * Fills the passed array with pseudorandom int values, drawn from generators derived from the specified seed.
+     * <br><br>
+     * The array is filled in chunks, each with its own generator, split from the seed along a fixed tree; the same seed
+     * always produces the same array, whether filled in parallel or not, and whatever the number of processors.
+     * <br><br>
+     * Example usage:
+     * <pre>
+     *      int[] array = new int[100_000_000];
+     *
+     *      NumberHelper.fillRandom(array, 42L, true);
+     * </pre>
+     *
+     * @see SplittableRandom#split()
+     *
+     * @param array to fill
+     * @param seed the seed of the generators
+     * @param parallel whether to fill the array in parallel or not
+     *
+     * @throws IllegalArgumentException if the array is <code>null</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public static void fillRandom(int[] array, long seed, boolean parallel) {
+        if (array == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
         }
 
-        HashSet<Integer> hashSet = new HashSet<>(arraySize);
+        ParallelRandom.fill(array.length, seed, parallel, (from, to, random) -> {
+            for (int i = from; i < to; i++) {
+                array[i] = random.nextInt();
+            }
+        });
+    }
+
+    /**
+     * Fills the passed array with pseudorandom long values, drawn from generators derived from the specified seed.
+     * <br><br>
+     * The array is filled in chunks, each with its own generator, split from the seed along a fixed tree; the same seed
+     * always produces the same array, whether filled in parallel or not, and whatever the number of processors.
+     * <br><br>
+     * Example usage:
+     * <pre>
+     *      long[] array = new long[100_000_000];
+     *
+     *      NumberHelper.fillRandom(array, 42L, true);
+     * </pre>
+     *
+     * @see SplittableRandom#split()
+     *
+     * @param array to fill
+     * @param seed the seed of the generators
+     * @param parallel whether to fill the array in parallel or not
+     *
+     * @throws IllegalArgumentException if the array is <code>null</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public static void fillRandom(long[] array, long seed, boolean parallel) {
+        if (array == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
 
-        ThreadLocalRandom threadLocalRandom = ThreadLocalRandom.current();
+        ParallelRandom.fill(array.length, seed, parallel, (from, to, random) -> {
+            for (int i = from; i < to; i++) {
+                array[i] = random.nextLong();
+            }
+        });
+    }
 
-        while (hashSet.size() < arraySize) {
-            hashSet.add(threadLocalRandom.nextInt(lowerBound, upperBound));
+    /**
+     * Fills the passed array with pseudorandom double values between zero (inclusive) and one (exclusive), drawn from
+     * generators derived from the specified seed.
+     * <br><br>
+     * The array is filled in chunks, each with its own generator, split from the seed along a fixed tree; the same seed
+     * always produces the same array, whether filled in parallel or not, and whatever the number of processors.
+     * <br><br>
+     * Example usage:
+     * <pre>
+     *      double[] array = new double[100_000_000];
+     *
+     *      NumberHelper.fillRandom(array, 42L, true);
+     * </pre>
+     *
+     * @see SplittableRandom#split()
+     *
+     * @param array to fill
+     * @param seed the seed of the generators
+     * @param parallel whether to fill the array in parallel or not
+     *
+     * @throws IllegalArgumentException if the array is <code>null</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public static void fillRandom(double[] array, long seed, boolean parallel) {
+        if (array == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
         }
 
-        return hashSet.stream().mapToInt(Integer::intValue).toArray();
+        ParallelRandom.fill(array.length, seed, parallel, (from, to, random) -> {
+            for (int i = from; i < to; i++) {
+                array[i] = random.nextDouble();
+            }
+        });
     }
 
     /**
-     * Returns the number of digits in the passed in number.
+     * Shuffles the passed array into a pseudorandom order, drawn from generators derived from the specified seed.
+     * <br><br>
+     * Every order is equally likely. The elements are first scattered into buckets, then every bucket is shuffled on
+     * its own, so both steps run in parallel; the same seed always produces the same order, whether shuffled in
+     * parallel or not, and whatever the number of processors. Arrays of more than 65536 elements are shuffled through
+     * a temporary array of the same size.
      *
-     * @param number for which to count the number of digits in
+     * @see <a href="@WIKI_URI@/Fisher%E2%80%93Yates_shuffle">Fisher-Yates shuffle (Wikipedia)</a>
      *
-     * @return number of digits
+     * @param array to shuffle
+     * @param seed the seed of the generators
+     * @param parallel whether to shuffle the array in parallel or not
      *
-     * @since 2.1.0
+     * @throws IllegalArgumentException if the array is <code>null</code>
+     *
+     * @since 4.9.0
      *
      */
-    public static int getNumOfDigits(int number) {
-        if (number == 0) {
-            return 1;
+    public static void shuffle(int[] array, long seed, boolean parallel) {
+        if (array == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
         }
 
-        return (int)Math.log10(Math.abs(number)) + 1;
+        ParallelRandom.shuffle(ParallelRandom.of(array), seed, parallel);
+    }
+
+    /**
+     * Shuffles the passed array into a pseudorandom order, drawn from generators derived from the specified seed.
+     * <br><br>
+     * Every order is equally likely. The elements are first scattered into buckets, then every bucket is shuffled on
+     * its own, so both steps run in parallel; the same seed always produces the same order, whether shuffled in
+     * parallel or not, and whatever the number of processors. Arrays of more than 65536 elements are shuffled through
+     * a temporary array of the same size.
+     *
+     * @see <a href="@WIKI_URI@/Fisher%E2%80%93Yates_shuffle">Fisher-Yates shuffle (Wikipedia)</a>
+     *
+     * @param array to shuffle
+     * @param seed the seed of the generators
+     * @param parallel whether to shuffle the array in parallel or not
+     *
+     * @throws IllegalArgumentException if the array is <code>null</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public static void shuffle(long[] array, long seed, boolean parallel) {
+        if (array == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        ParallelRandom.shuffle(ParallelRandom.of(array), seed, parallel);
+    }
+
+    /**
+     * Shuffles the passed array into a pseudorandom order, drawn from generators derived from the specified seed.
+     * <br><br>
+     * Every order is equally likely. The elements are first scattered into buckets, then every bucket is shuffled on
+     * its own, so both steps run in parallel; the same seed always produces the same order, whether shuffled in
+     * parallel or not, and whatever the number of processors. Arrays of more than 65536 elements are shuffled through
+     * a temporary array of the same size.
+     *
+     * @see <a href="@WIKI_URI@/Fisher%E2%80%93Yates_shuffle">Fisher-Yates shuffle (Wikipedia)</a>
+     *
+     * @param array to shuffle
+     * @param seed the seed of the generators
+     * @param parallel whether to shuffle the array in parallel or not
+     *
+     * @throws IllegalArgumentException if the array is <code>null</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public static void shuffle(double[] array, long seed, boolean parallel) {
+        if (array == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        ParallelRandom.shuffle(ParallelRandom.of(array), seed, parallel);
+    }
+
+    /**
+     * Returns the number of digits in the passed in number.
+     * <br><br>
+     * The sign is not counted, and every <code>int</code> is supported, including {@link Integer#MIN_VALUE}. The count
+     * is estimated from the number of significant bits, and corrected with a single comparison against a table of
+     * powers of ten.
+     * <br><br>
+     * Example usage:
+     * <pre>
+     *      NumberHelper.getNumOfDigits(0);                     // 1
+     *      NumberHelper.getNumOfDigits(-10);                   // 2
+     *      NumberHelper.getNumOfDigits(Integer.MIN_VALUE);     // 10
+     * </pre>
+     *
+     * @param number for which to count the number of digits in
+     *
+     * @return number of digits
+     *
+     * @since 2.1.0
+     *
+     */
+    public static int getNumOfDigits(int number) {
+        return getNumOfUnsignedDigits((number < 0) ? -number : number);
+    }
+
+    /**
+     * Returns the number of digits in the passed in number.
+     * <br><br>
+     * The sign is not counted, and every <code>long</code> is supported, including {@link Long#MIN_VALUE}.
+     *
+     * @see NumberHelper#getNumOfDigits(int)
+     *
+     * @param number for which to count the number of digits in
+     *
+     * @return number of digits
+     *
+     * @since 4.9.0
+     *
+     */
+    public static int getNumOfDigits(long number) {
+        return getNumOfUnsignedDigits((number < 0) ? -number : number);
+    }
+
+    /**
+     * Returns the number of digits in the passed in number, treated as unsigned.
+     * <br><br>
+     * Example usage:
+     * <pre>
+     *      NumberHelper.getNumOfUnsignedDigits(-1);            // 10, for 4294967295
+     * </pre>
+     *
+     * @see Integer#toUnsignedString(int)
+     *
+     * @param number for which to count the number of digits in
+     *
+     * @return number of digits
+     *
+     * @since 4.9.0
+     *
+     */
+    public static int getNumOfUnsignedDigits(int number) {
+        return getNumOfUnsignedDigits(Integer.toUnsignedLong(number));
+    }
+
+    /**
+     * Returns the number of digits in the passed in number, treated as unsigned.
+     * <br><br>
+     * Example usage:
+     * <pre>
+     *      NumberHelper.getNumOfUnsignedDigits(-1L);           // 20, for 18446744073709551615
+     * </pre>
+     *
+     * @see Long#toUnsignedString(long)
+     *
+     * @param number for which to count the number of digits in
+     *
+     * @return number of digits
+     *
+     * @since 4.9.0
+     *
+     */
+    public static int getNumOfUnsignedDigits(long number) {
+        // Setting the lowest bit never carries the number over a power of ten, and gives zero a single digit
+        long value = number | 1L;
+
+        // floor(bits * log10(2)), exact for up to 64 bits
+        int digits = ((Long.SIZE - Long.numberOfLeadingZeros(value)) * 1233) >>> 12;
+
+        return (Long.compareUnsigned(value, POWERS_OF_TEN[digits]) >= 0) ? digits + 1 : digits;
+    }
+
+    /**
+     * Returns the number of digits in the passed in number.
+     * <br><br>
+     * The sign is not counted. The count is estimated from the number of bits, and corrected with a single comparison
+     * against a power of ten, without converting the number to a string.
+     *
+     * @see BigInteger#bitLength()
+     *
+     * @param number for which to count the number of digits in
+     *
+     * @return number of digits
+     *
+     * @throws IllegalArgumentException if the number is <code>null</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public static int getNumOfDigits(BigInteger number) {
+        if (number == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        BigInteger magnitude = number.abs();
+
+        if (magnitude.bitLength() < Long.SIZE) {
+            return getNumOfUnsignedDigits(magnitude.longValue());
+        }
+
+        // Either the number of digits, or one more, given the rounding of the logarithm
+        int digits = (int) ((magnitude.bitLength() - 1) * LOG10_OF_2) + 1;
+
+        BigInteger power = BigInteger.TEN.pow(digits - 1);
+
+        if (magnitude.compareTo(power) < 0) {
+            return digits - 1;
+        }
+
+        return (magnitude.compareTo(power.multiply(BigInteger.TEN)) >= 0) ? digits + 1 : digits;
+    }
+
+    /**
+     * Returns the number of digits in the passed in number, written in the specified radix, e.g. to size a buffer
+     * before formatting the number.
+     * <br><br>
+     * The sign is not counted. The result is the length of <code>Long.toString(number, radix)</code>, without the
+     * minus sign.
+     * <br><br>
+     * Example usage:
+     * <pre>
+     *      NumberHelper.getNumOfDigits(255L, 16);              // 2
+     *      NumberHelper.getNumOfDigits(-8L, 2);                // 4
+     *      NumberHelper.getNumOfDigits(Long.MAX_VALUE, 36);    // 13
+     * </pre>
+     *
+     * @see Long#toString(long, int)
+     *
+     * @param number for which to count the number of digits in
+     * @param radix the radix to write the number in
+     *
+     * @return number of digits
+     *
+     * @throws IllegalArgumentException if the radix is not between {@link Character#MIN_RADIX} and
+     * {@link Character#MAX_RADIX}
+     *
+     * @since 4.9.0
+     *
+     */
+    public static int getNumOfDigits(long number, int radix) {
+        if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX) {
+            throw new IllegalArgumentException("Radix must be between 2 and 36.");
+        }
+
+        if (radix == 10) {
+            return getNumOfDigits(number);
+        }
+
+        long magnitude = (number < 0) ? -number : number;
+
+        if ((radix & (radix - 1)) == 0) {
+            int bits = Long.SIZE - Long.numberOfLeadingZeros(magnitude | 1L);
+            int shift = Integer.numberOfTrailingZeros(radix);
+
+            return (bits + shift - 1) / shift;
+        }
+
+        // Counted on the unsigned magnitude, which also covers Long.MIN_VALUE
+        int digits = 1;
+
+        for (long quotient = Long.divideUnsigned(magnitude, radix); quotient != 0; quotient /= radix) {
+            digits++;
+        }
+
+        return digits;
+    }
+
+    /**
+     * Writes the passed in number, in decimal, into the passed array at the specified offset, without creating a
+     * string.
+     * <br><br>
+     * The number is written as by {@link Long#toString(long)}; an <code>int</code> is written the same way. Two digits
+     * are written per division, using a lookup table.
+     * <br><br>
+     * Example usage:
+     * <pre>
+     *      char[] chars = new char[32];
+     *
+     *      int end = NumberHelper.format(-1234L, chars, 0);    // 5, chars start with "-1234"
+     * </pre>
+     *
+     * @see NumberHelper#getNumOfDigits(long)
+     *
+     * @param number to write
+     * @param chars to write the number into
+     * @param offset of the first character to write
+     *
+     * @return the offset after the last character written
+     *
+     * @throws IllegalArgumentException if the array is <code>null</code>, or too small to hold the number at the
+     * offset
+     *
+     * @since 4.9.0
+     *
+     */
+    public static int format(long number, char[] chars, int offset) {
+        return format(number, 10, 0, chars, offset);
+    }
+
+    /**
+     * Writes the passed in number, in the specified radix and padded with zeros to at least the specified number of
+     * digits, into the passed array at the specified offset, without creating a string.
+     * <br><br>
+     * The digits are those of {@link Long#toString(long, int)}, in lower case. When the number has fewer digits than
+     * the width, zeros are written between the sign and the digits; a width of zero writes the number as is.
+     * <br><br>
+     * Decimal digits are written two per division from a lookup table, and the digits of a radix that is a power of two
+     * by shifting and masking. In other radixes, a single <code>long</code> division splits off each chunk of as many
+     * digits as fit in an <code>int</code>, whose digits are split off by multiplying with a reciprocal of the radix.
+     * <br><br>
+     * Example usage:
+     * <pre>
+     *      NumberHelper.format(-42L, 10, 5, chars, 0);         // 6, "-00042"
+     *      NumberHelper.format(255L, 16, 4, chars, 0);         // 4, "00ff"
+     * </pre>
+     *
+     * @see NumberHelper#getNumOfDigits(long, int)
+     *
+     * @param number to write
+     * @param radix the radix to write the number in
+     * @param width minimum number of digits to write, not counting the sign
+     * @param chars to write the number into
+     * @param offset of the first character to write
+     *
+     * @return the offset after the last character written
+     *
+     * @throws IllegalArgumentException if the radix is not between {@link Character#MIN_RADIX} and
+     * {@link Character#MAX_RADIX}, the width is negative, or the array is <code>null</code> or too small to hold the
+     * number at the offset
+     *
+     * @since 4.9.0
+     *
+     */
+    public static int format(long number, int radix, int width, char[] chars, int offset) {
+        int digits = getNumOfDigits(number, radix);
+        int length = getFormattedLength(number, digits, width);
+
+        if (chars == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        if (offset < 0 || offset > chars.length - length) {
+            throw new IllegalArgumentException("Range is outside the array.");
+        }
+
+        int end = offset + length;
+
+        if (number < 0) {
+            chars[offset++] = '-';
+        }
+
+        Arrays.fill(chars, offset, end - digits, '0');
+
+        getDigits(number, radix, end, chars);
+
+        return end;
+    }
+
+    /**
+     * Writes the passed in number, in decimal and as ASCII, into the passed array at the specified offset, without
+     * creating a string.
+     *
+     * @see NumberHelper#format(long, char[], int)
+     *
+     * @param number to write
+     * @param bytes to write the number into
+     * @param offset of the first byte to write
+     *
+     * @return the offset after the last byte written
+     *
+     * @throws IllegalArgumentException if the array is <code>null</code>, or too small to hold the number at the
+     * offset
+     *
+     * @since 4.9.0
+     *
+     */
+    public static int format(long number, byte[] bytes, int offset) {
+        return format(number, 10, 0, bytes, offset);
+    }
+
+    /**
+     * Writes the passed in number, in the specified radix and padded with zeros to at least the specified number of
+     * digits, as ASCII into the passed array at the specified offset, without creating a string.
+     *
+     * @see NumberHelper#format(long, int, int, char[], int)
+     *
+     * @param number to write
+     * @param radix the radix to write the number in
+     * @param width minimum number of digits to write, not counting the sign
+     * @param bytes to write the number into
+     * @param offset of the first byte to write
+     *
+     * @return the offset after the last byte written
+     *
+     * @throws IllegalArgumentException if the radix is not between {@link Character#MIN_RADIX} and
+     * {@link Character#MAX_RADIX}, the width is negative, or the array is <code>null</code> or too small to hold the
+     * number at the offset
+     *
+     * @since 4.9.0
+     *
+     */
+    public static int format(long number, int radix, int width, byte[] bytes, int offset) {
+        int digits = getNumOfDigits(number, radix);
+        int length = getFormattedLength(number, digits, width);
+
+        if (bytes == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        if (offset < 0 || offset > bytes.length - length) {
+            throw new IllegalArgumentException("Range is outside the array.");
+        }
+
+        int end = offset + length;
+
+        if (number < 0) {
+            bytes[offset++] = '-';
+        }
+
+        Arrays.fill(bytes, offset, end - digits, (byte) '0');
+
+        char[] scratch = DigitWriter.getScratch();
+
+        getDigits(number, radix, scratch.length, scratch);
+
+        for (int i = scratch.length - digits, index = end - digits; index < end; i++, index++) {
+            bytes[index] = (byte) scratch[i];
+        }
+
+        return end;
+    }
+
+    /**
+     * Appends the passed in number, in decimal, to the passed builder.
+     *
+     * @see NumberHelper#format(long, char[], int)
+     *
+     * @param number to write
+     * @param builder to append the number to
+     *
+     * @return the length of the builder after the number is appended
+     *
+     * @throws IllegalArgumentException if the builder is <code>null</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public static int format(long number, StringBuilder builder) {
+        return format(number, 10, 0, builder);
+    }
+
+    /**
+     * Appends the passed in number, in the specified radix and padded with zeros to at least the specified number of
+     * digits, to the passed builder, without creating a string.
+     *
+     * @see NumberHelper#format(long, int, int, char[], int)
+     *
+     * @param number to write
+     * @param radix the radix to write the number in
+     * @param width minimum number of digits to write, not counting the sign
+     * @param builder to append the number to
+     *
+     * @return the length of the builder after the number is appended
+     *
+     * @throws IllegalArgumentException if the radix is not between {@link Character#MIN_RADIX} and
+     * {@link Character#MAX_RADIX}, the width is negative, or the builder is <code>null</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public static int format(long number, int radix, int width, StringBuilder builder) {
+        int digits = getNumOfDigits(number, radix);
+        int length = getFormattedLength(number, digits, width);
+
+        if (builder == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        // The builder already writes decimals in place
+        if (radix == 10 && width == 0) {
+            return builder.append(number).length();
+        }
+
+        if (number < 0) {
+            builder.append('-');
+        }
+
+        for (int i = digits; i < width; i++) {
+            builder.append('0');
+        }
+
+        char[] scratch = DigitWriter.getScratch();
+
+        getDigits(number, radix, scratch.length, scratch);
+
+        return builder.append(scratch, scratch.length - digits, digits).length();
+    }
+
+    /**
+     * Writes the passed in number, in decimal and as ASCII, into the passed buffer at its position, and advances the
+     * position past the number, without creating a string.
+     *
+     * @see NumberHelper#format(long, char[], int)
+     *
+     * @param number to write
+     * @param buffer to write the number into
+     *
+     * @return the position of the buffer after the number is written
+     *
+     * @throws IllegalArgumentException if the buffer is <code>null</code>, or has too few bytes remaining to hold the
+     * number
+     *
+     * @since 4.9.0
+     *
+     */
+    public static int format(long number, ByteBuffer buffer) {
+        return format(number, 10, 0, buffer);
+    }
+
+    /**
+     * Writes the passed in number, in the specified radix and padded with zeros to at least the specified number of
+     * digits, as ASCII into the passed buffer at its position, and advances the position past the number, without
+     * creating a string.
+     * <br><br>
+     * Heap buffers are written through their backing array, and other buffers byte by byte.
+     *
+     * @see NumberHelper#format(long, int, int, char[], int)
+     *
+     * @param number to write
+     * @param radix the radix to write the number in
+     * @param width minimum number of digits to write, not counting the sign
+     * @param buffer to write the number into
+     *
+     * @return the position of the buffer after the number is written
+     *
+     * @throws IllegalArgumentException if the radix is not between {@link Character#MIN_RADIX} and
+     * {@link Character#MAX_RADIX}, the width is negative, or the buffer is <code>null</code> or has too few bytes
+     * remaining to hold the number
+     *
+     * @since 4.9.0
+     *
+     */
+    public static int format(long number, int radix, int width, ByteBuffer buffer) {
+        int digits = getNumOfDigits(number, radix);
+        int length = getFormattedLength(number, digits, width);
+
+        if (buffer == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        if (buffer.remaining() < length) {
+            throw new IllegalArgumentException("Range is outside the buffer.");
+        }
+
+        int position = buffer.position();
+        int end = position + length;
+
+        if (buffer.hasArray()) {
+            format(number, radix, width, buffer.array(), buffer.arrayOffset() + position);
+
+            return buffer.position(end).position();
+        }
+
+        int offset = position;
+
+        if (number < 0) {
+            buffer.put(offset++, (byte) '-');
+        }
+
+        while (offset < end - digits) {
+            buffer.put(offset++, (byte) '0');
+        }
+
+        char[] scratch = DigitWriter.getScratch();
+
+        getDigits(number, radix, scratch.length, scratch);
+
+        for (int i = scratch.length - digits; offset < end; i++, offset++) {
+            buffer.put(offset, (byte) scratch[i]);
+        }
+
+        return buffer.position(end).position();
+    }
+
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+
+    private static void checkUniqueRandomNumbersArguments(int lowerBound, int upperBound, int arraySize) {
+        if (lowerBound < 0 || upperBound < 0 || arraySize < 0) {
+            throw new IllegalArgumentException("Negative number is not allowed as an argument.");
+        }
+
+        if (lowerBound >= upperBound) {
+            throw new IllegalArgumentException("Lower Bound cannot be larger than Upper Bound.");
+        }
+
+        if (arraySize > upperBound || arraySize > (upperBound - lowerBound)) {
+            throw new IllegalArgumentException("Not enough unique numbers available for the array size.");
+        }
+    }
+
+    /*
+     * Accumulates the digits negatively, since the magnitude of the minimum is one more than that of the maximum; the
+     * overflow checks are those of Long#parseLong(String), for the specified bounds.
+     */
+    private static long parse(CharSequence chars, int start, int end, long min, long max, long defaultValue) {
+        if (chars == null) {
+            return defaultValue;
+        }
+
+        if (start < 0 || end > chars.length() || start > end) {
+            throw new IllegalArgumentException("Range is outside the character sequence.");
+        }
+
+        if (start == end) {
+            return defaultValue;
+        }
+
+        char first = chars.charAt(start);
+
+        boolean negative = first == '-';
+
+        int index = (negative || first == '+') ? start + 1 : start;
+
+        if (index == end) {
+            return defaultValue;
+        }
+
+        long limit = negative ? min : -max;
+        long multiplyLimit = limit / 10;
+
+        long result = 0;
+
+        for (; index < end; index++) {
+            int digit = chars.charAt(index) - '0';
+
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                return defaultValue;
+            }
+
+            result *= 10;
+
+            if (result < limit + digit) {
+                return defaultValue;
+            }
+
+            result -= digit;
+        }
+
+        return negative ? result : -result;
+    }
+
+    /*
+     * Same as parse(CharSequence, int, int, long, long, long), over a range of bytes.
+     */
+    private static long parse(byte[] bytes, int offset, int length, long min, long max, long defaultValue) {
+        if (bytes == null) {
+            return defaultValue;
+        }
+
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IllegalArgumentException("Range is outside the array.");
+        }
+
+        if (length == 0) {
+            return defaultValue;
+        }
+
+        int index = offset;
+        int end = offset + length;
+
+        byte first = bytes[index];
+
+        boolean negative = first == '-';
+
+        if (negative || first == '+') {
+            index++;
+        }
+
+        if (index == end) {
+            return defaultValue;
+        }
+
+        long limit = negative ? min : -max;
+        long multiplyLimit = limit / 10;
+
+        long result = 0;
+
+        for (; index < end; index++) {
+            int digit = bytes[index] - '0';
+
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                return defaultValue;
+            }
+
+            result *= 10;
+
+            if (result < limit + digit) {
+                return defaultValue;
+            }
+
+            result -= digit;
+        }
+
+        return negative ? result : -result;
+    }
+
+    /*
+     * Same as parse(CharSequence, int, int, long, long, long), over the remaining bytes of a buffer; heap buffers are
+     * scanned through their backing array.
+     */
+    private static long parse(ByteBuffer buffer, long min, long max, long defaultValue) {
+        if (buffer == null || !buffer.hasRemaining()) {
+            return defaultValue;
+        }
+
+        if (buffer.hasArray()) {
+            return parse(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), min, max,
+                    defaultValue);
+        }
+
+        int index = buffer.position();
+        int end = buffer.limit();
+
+        byte first = buffer.get(index);
+
+        boolean negative = first == '-';
+
+        if (negative || first == '+') {
+            index++;
+        }
+
+        if (index == end) {
+            return defaultValue;
+        }
+
+        long limit = negative ? min : -max;
+        long multiplyLimit = limit / 10;
+
+        long result = 0;
+
+        for (; index < end; index++) {
+            int digit = buffer.get(index) - '0';
+
+            if (digit < 0 || digit > 9 || result < multiplyLimit) {
+                return defaultValue;
+            }
+
+            result *= 10;
+
+            if (result < limit + digit) {
+                return defaultValue;
+            }
+
+            result -= digit;
+        }
+
+        return negative ? result : -result;
+    }
+
+    /*
+     * Partial Fisher-Yates shuffle of the offsets 0 to (upperBound - lowerBound), stopped after arraySize swaps. The
+     * offsets are held in an array when the range is small compared to the array size, and otherwise only the swapped
+     * positions are held, in a map.
+     */
+    private static int[] getUniqueRandomNumbers(int lowerBound, int upperBound, int arraySize,
+                                                RandomGenerator random) {
+        int range = upperBound - lowerBound;
+
+        int[] numbers = new int[arraySize];
+
+        if (range <= 4L * arraySize) {
+            int[] offsets = new int[range];
+
+            Arrays.setAll(offsets, offset -> offset);
+
+            for (int i = 0; i < arraySize; i++) {
+                int j = i + random.nextInt(range - i);
+
+                numbers[i] = lowerBound + offsets[j];
+                offsets[j] = offsets[i];
+            }
+
+            return numbers;
+        }
+
+        // Swapped positions to their offsets; a position that was never swapped holds itself
+        IntIntMap swaps = new IntIntMap(arraySize);
+
+        for (int i = 0; i < arraySize; i++) {
+            int j = i + random.nextInt(range - i);
+
+            numbers[i] = lowerBound + swaps.get(j, j);
+
+            swaps.put(j, swaps.get(i, i));
+        }
+
+        return numbers;
+    }
+
+    private static int getFormattedLength(long number, int digits, int width) {
+        if (width < 0) {
+            throw new IllegalArgumentException("Negative number is not allowed as an argument.");
+        }
+
+        return Math.max(digits, width) + ((number < 0) ? 1 : 0);
+    }
+
+    /*
+     * Writes the digits of the magnitude of the number, an unsigned long for Long.MIN_VALUE, right to left and ending
+     * before the specified index.
+     */
+    private static void getDigits(long number, int radix, int end, char[] chars) {
+        DigitWriter.get(radix).write((number < 0) ? -number : number, chars, end);
+    }
+
+    private static void checkNullBitmap(int length, long[] nulls, boolean isOptional) {
+        if (nulls == null) {
+            if (isOptional) {
+                return;
+            }
+
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        if (nulls.length < getNullBitmapLength(length)) {
+            throw new IllegalArgumentException("Null bitmap is too small for the array.");
+        }
+    }
+
+    private static void forEachNullBitmapWord(int length, boolean parallel, IntConsumer action) {
+        IntStream words = IntStream.range(0, getNullBitmapLength(length));
+
+        (parallel ? words.parallel() : words).forEach(action);
     }
 }
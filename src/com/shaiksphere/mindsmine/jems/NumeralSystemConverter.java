@@ -0,0 +1,526 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+import java.util.Arrays;
+
+/**
+ * An immutable converter of numbers from one radix to another, with everything that depends on the two radixes
+ * computed once.
+ * <br><br>
+ * Each converter holds the value of every ASCII digit in the radix it converts from, with the characters that are not
+ * digits of that radix marked as such, so that a single lookup both validates and decodes a digit. Since the number of
+ * digits of the largest unsigned <code>long</code> is known in advance, only the last digit of the longest values is
+ * checked for overflow.
+ * <br><br>
+ * Representations are written backward in place, by the same digit writer as
+ * {@link NumberHelper#format(long, int, int, char[], int)}, with their exact length found from the bit length of the
+ * value and a single comparison with a precomputed power of the radix converted to. Decimal strings are written by
+ * {@link Long#toString(long)} and {@link Long#toUnsignedString(long)}, which the JDK optimizes for that radix.
+ * <br><br>
+ * Values are parsed and written the same way as {@link Long#parseLong(String, int)} and
+ * {@link Long#toString(long, int)} do, or {@link Long#parseUnsignedLong(String, int)} and
+ * {@link Long#toUnsignedString(long, int)} for the unsigned methods. Instances are obtained from
+ * {@link NumeralSystemHelper#getConverter(int, int)}, which caches them, and are thread-safe, hence can be shared to
+ * convert many values concurrently.
+ * <br><br>
+ * Example usage:
+ *
+ * <pre>
+ *     NumeralSystemConverter converter = NumeralSystemHelper.getConverter(16, 10);
+ *
+ *     converter.convert("-ff");                            // "-255"
+ *     converter.convertUnsigned("ffffffffffffffff");       // "18446744073709551615"
+ *     converter.convert(new String[] {"a", "b"}, true);     // {"10", "11"}
+ * </pre>
+ *
+ * @see NumeralSystemHelper#convert(String, int, int)
+ *
+ * @author Mohammed Shaik Hussain Ali
+ *
+ * @since 4.9.0
+ *
+ */
+public final class NumeralSystemConverter {
+    private final int from;
+    private final int to;
+
+    // Value of each ASCII character as a digit of the radix converted from, or -1 if it is not one
+    private final byte[] values;
+
+    // Most digits of an unsigned long in the radix converted from
+    private final int fromMaxDigits;
+
+    private final DigitWriter toWriter;
+
+    NumeralSystemConverter(int from, int to) {
+        this.from = from;
+        this.to = to;
+
+        this.values = new byte[128];
+
+        Arrays.fill(values, (byte) -1);
+
+        for (int digit = 0; digit < from; digit++) {
+            values[NumeralSystemHelper.DIGITS[digit]] = (byte) digit;
+            values[Character.toUpperCase(NumeralSystemHelper.DIGITS[digit])] = (byte) digit;
+        }
+
+        this.fromMaxDigits = DigitWriter.get(from).getLength(-1L);
+        this.toWriter = DigitWriter.get(to);
+    }
+
+    /**
+     * Returns the radix values are converted from.
+     *
+     * @return the radix converted from
+     *
+     * @since 4.9.0
+     *
+     */
+    public int getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the radix values are converted to.
+     *
+     * @return the radix converted to
+     *
+     * @since 4.9.0
+     *
+     */
+    public int getTo() {
+        return to;
+    }
+
+    /**
+     * Parses the passed value as a signed <code>long</code> in the radix converted from, i.e. an optional
+     * '<code>+</code>' or '<code>-</code>' sign followed by digits of either case.
+     *
+     * @see Long#parseLong(String, int)
+     *
+     * @param value to parse
+     *
+     * @return the <code>long</code> value
+     *
+     * @throws NumberFormatException if the value is <code>null</code>, is not a number in the radix, or is out of the
+     * range of a <code>long</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public long parseLong(CharSequence value) {
+        int start = getStart(value, true);
+
+        long magnitude = parseMagnitude(value, start, true);
+
+        if (value.charAt(0) == '-') {
+            if (Long.compareUnsigned(magnitude, Long.MIN_VALUE) > 0) {
+                throw getNumberFormatException(value);
+            }
+
+            return -magnitude;
+        }
+
+        if (magnitude < 0) {
+            throw getNumberFormatException(value);
+        }
+
+        return magnitude;
+    }
+
+    /**
+     * Parses the passed value as an unsigned <code>long</code> in the radix converted from, i.e. an optional
+     * '<code>+</code>' sign followed by digits of either case, whose value is at most <code>2<sup>64</sup> - 1</code>.
+     *
+     * @see Long#parseUnsignedLong(String, int)
+     *
+     * @param value to parse
+     *
+     * @return the <code>long</code> value with the same bits as the unsigned value
+     *
+     * @throws NumberFormatException if the value is <code>null</code>, is not a number in the radix, or is out of the
+     * range of an unsigned <code>long</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public long parseUnsignedLong(CharSequence value) {
+        return parseMagnitude(value, getStart(value, false), false);
+    }
+
+    /**
+     * Returns a string representation of the passed value in the radix converted to.
+     *
+     * @see Long#toString(long, int)
+     *
+     * @param value to write
+     *
+     * @return a string representation of the value
+     *
+     * @since 4.9.0
+     *
+     */
+    public String toString(long value) {
+        if (to == 10) {
+            return Long.toString(value);
+        }
+
+        char[] chars = new char[getLength(value, true)];
+
+        write(value, true, chars, 0, chars.length);
+
+        return new String(chars);
+    }
+
+    /**
+     * Returns a string representation of the passed value, as an unsigned <code>long</code>, in the radix converted
+     * to.
+     *
+     * @see Long#toUnsignedString(long, int)
+     *
+     * @param value to write
+     *
+     * @return a string representation of the unsigned value
+     *
+     * @since 4.9.0
+     *
+     */
+    public String toUnsignedString(long value) {
+        if (to == 10) {
+            return Long.toUnsignedString(value);
+        }
+
+        char[] chars = new char[getLength(value, false)];
+
+        write(value, false, chars, 0, chars.length);
+
+        return new String(chars);
+    }
+
+    /**
+     * Returns a string representation of the passed value, a signed <code>long</code> in the radix converted from, in
+     * the radix converted to.
+     *
+     * @see NumeralSystemConverter#parseLong(CharSequence)
+     * @see NumeralSystemConverter#toString(long)
+     *
+     * @param value to convert
+     *
+     * @return a string representation of the value
+     *
+     * @throws NumberFormatException if the value is <code>null</code>, is not a number in the radix, or is out of the
+     * range of a <code>long</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public String convert(CharSequence value) {
+        return toString(parseLong(value));
+    }
+
+    /**
+     * Returns a string representation of the passed value, an unsigned <code>long</code> in the radix converted from,
+     * in the radix converted to.
+     *
+     * @see NumeralSystemConverter#parseUnsignedLong(CharSequence)
+     * @see NumeralSystemConverter#toUnsignedString(long)
+     *
+     * @param value to convert
+     *
+     * @return a string representation of the unsigned value
+     *
+     * @throws NumberFormatException if the value is <code>null</code>, is not a number in the radix, or is out of the
+     * range of an unsigned <code>long</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public String convertUnsigned(CharSequence value) {
+        return toUnsignedString(parseUnsignedLong(value));
+    }
+
+    /**
+     * Writes a representation of the passed value, a signed <code>long</code> in the radix converted from, in the
+     * radix converted to, into the passed array at the specified offset. Since no intermediate string is created, a
+     * single array can be reused to convert many values; at most 65 characters are written.
+     *
+     * @see NumeralSystemConverter#convert(CharSequence)
+     *
+     * @param value to convert
+     * @param chars to write the representation into
+     * @param offset of the first character to write
+     *
+     * @return the offset after the last character written
+     *
+     * @throws IllegalArgumentException if the array is <code>null</code>, or too small to hold the representation at
+     * the offset
+     *
+     * @throws NumberFormatException if the value is <code>null</code>, is not a number in the radix, or is out of the
+     * range of a <code>long</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public int convert(CharSequence value, char[] chars, int offset) {
+        checkArray(chars);
+
+        long number = parseLong(value);
+
+        return write(number, true, chars, offset, getLength(number, true));
+    }
+
+    /**
+     * Writes a representation of the passed value, an unsigned <code>long</code> in the radix converted from, in the
+     * radix converted to, into the passed array at the specified offset. At most 64 characters are written.
+     *
+     * @see NumeralSystemConverter#convertUnsigned(CharSequence)
+     *
+     * @param value to convert
+     * @param chars to write the representation into
+     * @param offset of the first character to write
+     *
+     * @return the offset after the last character written
+     *
+     * @throws IllegalArgumentException if the array is <code>null</code>, or too small to hold the representation at
+     * the offset
+     *
+     * @throws NumberFormatException if the value is <code>null</code>, is not a number in the radix, or is out of the
+     * range of an unsigned <code>long</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public int convertUnsigned(CharSequence value, char[] chars, int offset) {
+        checkArray(chars);
+
+        long number = parseUnsignedLong(value);
+
+        return write(number, false, chars, offset, getLength(number, false));
+    }
+
+    /**
+     * Returns the string representations of the passed values, each a signed <code>long</code> in the radix converted
+     * from, in the radix converted to. The <code>null</code> values remain <code>null</code>.
+     *
+     * @see NumeralSystemConverter#convert(CharSequence)
+     *
+     * @param values to convert
+     * @param parallel whether to convert the values in parallel or not
+     *
+     * @return the string representations of the values, in the same order
+     *
+     * @throws IllegalArgumentException if the array is <code>null</code>
+     *
+     * @throws NumberFormatException if a value is not a number in the radix, or is out of the range of a
+     * <code>long</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public String[] convert(String[] values, boolean parallel) {
+        return convert(values, parallel, true);
+    }
+
+    /**
+     * Returns the string representations of the passed values, each an unsigned <code>long</code> in the radix
+     * converted from, in the radix converted to. The <code>null</code> values remain <code>null</code>.
+     *
+     * @see NumeralSystemConverter#convertUnsigned(CharSequence)
+     *
+     * @param values to convert
+     * @param parallel whether to convert the values in parallel or not
+     *
+     * @return the string representations of the values, in the same order
+     *
+     * @throws IllegalArgumentException if the array is <code>null</code>
+     *
+     * @throws NumberFormatException if a value is not a number in the radix, or is out of the range of an unsigned
+     * <code>long</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public String[] convertUnsigned(String[] values, boolean parallel) {
+        return convert(values, parallel, false);
+    }
+
+    @Override
+    public String toString() {
+        return "NumeralSystemConverter[from=" + from + ", to=" + to + "]";
+    }
+
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+
+    private static void checkArray(char[] chars) {
+        if (chars == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+    }
+
+    private NumberFormatException getNumberFormatException(CharSequence value) {
+        return new NumberFormatException("For input string: \"" + value + "\" under radix " + from);
+    }
+
+    // Validates the value, and returns the index after the optional sign
+    private int getStart(CharSequence value, boolean signed) {
+        if (value == null) {
+            throw new NumberFormatException("Cannot parse null string.");
+        }
+
+        int start = 0;
+
+        if (value.length() > 0) {
+            char first = value.charAt(0);
+
+            if (first == '+' || (signed && first == '-')) {
+                start = 1;
+            }
+        }
+
+        if (start == value.length()) {
+            throw getNumberFormatException(value);
+        }
+
+        return start;
+    }
+
+    private int getDigit(char ch) {
+        return (ch < values.length) ? values[ch] : Character.digit(ch, from);
+    }
+
+    // Parses the digits from the start index as an unsigned long
+    private long parseMagnitude(CharSequence value, int start, boolean signed) {
+        int end = value.length();
+
+        int index = start;
+
+        while (index < end && value.charAt(index) == '0') {
+            index++;
+        }
+
+        int length = end - index;
+
+        if (length == 0) {
+            return 0L;
+        }
+
+        long result = 0L;
+
+        // Any digit that is not valid makes the OR of all the digits negative
+        int invalid = 0;
+
+        // Digits that can never overflow, i.e. all but the last of the longest values
+        int safeEnd = index + Math.min(length, fromMaxDigits - 1);
+
+        for (int i = index; i < safeEnd; i++) {
+            int digit = getDigit(value.charAt(i));
+
+            invalid |= digit;
+
+            result = result * from + digit;
+        }
+
+        boolean overflow = length > fromMaxDigits;
+
+        for (int i = safeEnd; i < end; i++) {
+            int digit = getDigit(value.charAt(i));
+
+            invalid |= digit;
+
+            if (!overflow) {
+                long high = DigitWriter.multiplyHigh(result, from);
+                long low = result * from;
+
+                result = low + digit;
+
+                overflow = high != 0 || Long.compareUnsigned(result, low) < 0;
+            }
+        }
+
+        if (invalid < 0) {
+            throw getNumberFormatException(value);
+        }
+
+        if (overflow) {
+            throw signed ? getNumberFormatException(value) : getRangeException(value);
+        }
+
+        return result;
+    }
+
+    private NumberFormatException getRangeException(CharSequence value) {
+        return new NumberFormatException("String value " + value + " exceeds range of unsigned long.");
+    }
+
+    // Returns the number of characters of the representation, including the sign of a negative signed value
+    private int getLength(long value, boolean signed) {
+        boolean negative = signed && value < 0;
+
+        long magnitude = negative ? -value : value;
+
+        int length = toWriter.getLength(magnitude);
+
+        return negative ? length + 1 : length;
+    }
+
+    // Writes the representation of the specified length backward from its end, and returns the offset after it
+    private int write(long value, boolean signed, char[] chars, int offset, int length) {
+        if (offset < 0 || offset > chars.length - length) {
+            throw new IllegalArgumentException("Range is outside the array.");
+        }
+
+        boolean negative = signed && value < 0;
+
+        long magnitude = negative ? -value : value;
+
+        toWriter.write(magnitude, chars, offset + length);
+
+        if (negative) {
+            chars[offset] = '-';
+        }
+
+        return offset + length;
+    }
+
+    private String[] convert(String[] values, boolean parallel, boolean signed) {
+        if (values == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        String[] result = new String[values.length];
+
+        if (parallel) {
+            Arrays.parallelSetAll(result, i -> convert(values[i], signed));
+        } else {
+            Arrays.setAll(result, i -> convert(values[i], signed));
+        }
+
+        return result;
+    }
+
+    private String convert(String value, boolean signed) {
+        if (value == null) {
+            return null;
+        }
+
+        return signed ? convert(value) : convertUnsigned(value);
+    }
+}
@@ -16,6 +16,12 @@ limitations under the License.
 
 package com.shaiksphere.mindsmine.jems;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
 /**
  * A collection of useful static methods to deal with numeral system.
  *
@@ -30,21 +36,45 @@ package com.shaiksphere.mindsmine.jems;
  *
  */
 final public class NumeralSystemHelper {
+    // Digits of the radixes up to 36, in the case used by Integer#toString(int, int)
+    static final char[] DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    // Value of each ASCII character as a digit, in either case, or Character.MAX_RADIX if it is not a digit
+    private static final byte[] DIGIT_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(DIGIT_VALUES, (byte) Character.MAX_RADIX);
+
+        for (int i = 0; i < DIGITS.length; i++) {
+            DIGIT_VALUES[DIGITS[i]] = (byte) i;
+            DIGIT_VALUES[Character.toUpperCase(DIGITS[i])] = (byte) i;
+        }
+    }
+
+    // Converters already created, at from * (Character.MAX_RADIX + 1) + to
+    private static final AtomicReferenceArray<NumeralSystemConverter> CONVERTERS =
+            new AtomicReferenceArray<>((Character.MAX_RADIX + 1) * (Character.MAX_RADIX + 1));
+
     private NumeralSystemHelper() {}
 
     /**
      * Returns a string representation of the first argument in the radix specified by the third argument from the radix
      * specified by the second argument.
      * <br><br>
-     * If the radix is smaller than {@link Character#MIN_RADIX} or larger than {@link Character#MAX_RADIX}, then the
-     * radix 10 is used instead.
+     * The first argument is an unsigned integer, i.e. an optional '<code>+</code>' sign followed by digits of either
+     * case in the radix specified by the second argument, whose value is at most <code>2<sup>32</sup> - 1</code>; a
+     * {@link NumberFormatException} is thrown otherwise, as by {@link Integer#parseUnsignedInt(String, int)}. If the
+     * radix to use in the result is smaller than {@link Character#MIN_RADIX} or larger than
+     * {@link Character#MAX_RADIX}, then the radix 10 is used instead.
      * <br><br>
-     * If the first argument is negative, the first element of the result is the ASCII minus character '<code>-</code>'.
-     * If the first argument is not negative, no sign character appears in the result.
+     * The value is converted without a round trip through an <code>int</code> and its string: between two radixes that
+     * are powers of two, e.g. binary, octal and hexadecimal, the bits of the digits are regrouped directly, from the
+     * most significant; otherwise, the digits are parsed in a single pass and written with
+     * {@link NumberHelper#format(long, int, int, char[], int)}.
      * <br><br>
-     * The remaining characters of the result represent the magnitude of the first argument. If the magnitude is zero,
-     * it is represented by a single zero character '<code>0</code>'; otherwise, the first character of the
-     * representation of the magnitude will not be the zero character. The following ASCII characters are used as digits:
+     * The characters of the result represent the value of the first argument. If the value is zero, it is represented
+     * by a single zero character '<code>0</code>'; otherwise, the first character of the representation will not be
+     * the zero character. The following ASCII characters are used as digits:
      * <code>0123456789abcdefghijklmnopqrstuvwxyz</code>
      * <br><br>
      * These are '<code>0</code>' through '<code>9</code>' and '<code>a</code>' through '<code>z</code>'. If radix is
@@ -63,14 +93,185 @@ final public class NumeralSystemHelper {
      *
      */
     public static String convert(String valueStr, int from, int to) {
-        return Integer.toString(Integer.parseUnsignedInt(valueStr, from), to);
+        char[] chars = new char[Integer.SIZE];
+
+        return new String(chars, 0, convert(valueStr, from, to, chars, 0));
+    }
+
+    /**
+     * Writes a representation of the first argument in the radix specified by the third argument, from the radix
+     * specified by the second argument, into the passed array at the specified offset. Since no intermediate string is
+     * created, a single array can be reused to convert many values; at most 32 characters are written.
+     * <br><br>
+     * Example usage:
+     * <pre>
+     *      char[] chars = new char[32];
+     *
+     *      NumeralSystemHelper.convert("FF", 16, 2, chars, 0);    // 8, chars now start with "11111111"
+     * </pre>
+     *
+     * @see NumeralSystemHelper#convert(String, int, int)
+     *
+     * @param value a character sequence to be converted to the desired system.
+     * @param from the radix to which the character sequence representation is in.
+     * @param to the radix to use in the representation.
+     * @param chars to write the representation into.
+     * @param offset of the first character to write.
+     *
+     * @return the offset after the last character written.
+     *
+     * @throws IllegalArgumentException if the array is <code>null</code>, or too small to hold the representation at
+     * the offset
+     *
+     * @throws NumberFormatException if the value is not an unsigned integer in the radix it is in, or that radix is
+     * out of range; the characters after the offset may then have been overwritten
+     *
+     * @since 4.9.0
+     *
+     */
+    public static int convert(CharSequence value, int from, int to, char[] chars, int offset) {
+        if (chars == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        int start = getStart(value, from);
+
+        if (to < Character.MIN_RADIX || to > Character.MAX_RADIX) {
+            to = 10;
+        }
+
+        if (!DigitWriter.isPowerOfTwo(from) || !DigitWriter.isPowerOfTwo(to)) {
+            return NumberHelper.format(parseUnsignedInt(value, start, from), to, 0, chars, offset);
+        }
+
+        int index = getSignificantStart(value, start, from);
+
+        int outputBits = Integer.numberOfTrailingZeros(to);
+
+        long bits = getSignificantBits(value, index, from);
+
+        if (bits > Integer.SIZE) {
+            throw getRangeException(value);
+        }
+
+        int length = (bits == 0) ? 1 : (int) ((bits + outputBits - 1) / outputBits);
+
+        if (offset < 0 || offset > chars.length - length) {
+            throw new IllegalArgumentException("Range is outside the array.");
+        }
+
+        if (bits == 0) {
+            chars[offset] = '0';
+        } else {
+            regroup(value, index, Integer.numberOfTrailingZeros(from), outputBits, bits, chars, offset);
+        }
+
+        return offset + length;
+    }
+
+    /**
+     * Appends a representation of the first argument in the radix specified by the third argument, from the radix
+     * specified by the second argument, to the passed builder, without creating an intermediate string.
+     * <br><br>
+     * The value is parsed in a single pass, and its digits are appended by
+     * {@link NumberHelper#format(long, int, int, StringBuilder)}, so that no array is created for each call.
+     *
+     * @see NumeralSystemHelper#convert(CharSequence, int, int, char[], int)
+     *
+     * @param value a character sequence to be converted to the desired system.
+     * @param from the radix to which the character sequence representation is in.
+     * @param to the radix to use in the representation.
+     * @param builder to append the representation to.
+     *
+     * @return the length of the builder after the representation is appended.
+     *
+     * @throws IllegalArgumentException if the builder is <code>null</code>
+     *
+     * @throws NumberFormatException if the value is not an unsigned integer in the radix it is in, or that radix is
+     * out of range; the builder is then left unchanged
+     *
+     * @since 4.9.0
+     *
+     */
+    public static int convert(CharSequence value, int from, int to, StringBuilder builder) {
+        if (builder == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        long number = parseUnsignedInt(value, getStart(value, from), from);
+
+        if (to < Character.MIN_RADIX || to > Character.MAX_RADIX) {
+            to = 10;
+        }
+
+        return NumberHelper.format(number, to, 0, builder);
+    }
+
+    /**
+     * Returns a string representation of the first argument in the radix specified by the third argument from the radix
+     * specified by the second argument, whatever the size of the value.
+     * <br><br>
+     * Unlike {@link NumeralSystemHelper#convert(String, int, int)}, the value is not limited to an unsigned integer; it
+     * is any number of digits of either case in the radix specified by the second argument, after an optional
+     * '<code>+</code>' sign, e.g. the hexadecimal digest of a hash or a binary dump. Otherwise, the same rules apply.
+     * <br><br>
+     * Between two radixes that are powers of two, the bits of the digits are regrouped in a single pass, in linear
+     * time. Otherwise, the digits are parsed by divide and conquer: the value is split into a high part and a low part
+     * whose length is a power of two multiple of the digits that fit in a <code>long</code>, both are parsed
+     * recursively, and combined with a single multiplication by a power of the radix, squared from the previous one.
+     * With the subquadratic multiplication of {@link BigInteger}, and its recursive {@link BigInteger#toString(int)},
+     * the conversion remains subquadratic, where parsing digit by digit is quadratic in the length of the value.
+     * <br><br>
+     * Example usage:
+     * <pre>
+     *      NumeralSystemHelper.convertUnbounded("FFFFFFFFFFFFFFFFFFFF", 16, 10);     // "1208925819614629174706175"
+     * </pre>
+     *
+     * @see NumeralSystemHelper#convert(String, int, int)
+     *
+     * @param value a character sequence to be converted to the desired system.
+     * @param from the radix to which the character sequence representation is in.
+     * @param to the radix to use in the string representation.
+     *
+     * @return a string representation of the argument in the specified radix.
+     *
+     * @throws IllegalArgumentException if the representation is too long to be held in a string
+     *
+     * @throws NumberFormatException if the value is not an unsigned number in the radix it is in, or that radix is out
+     * of range
+     *
+     * @since 4.9.0
+     *
+     */
+    public static String convertUnbounded(CharSequence value, int from, int to) {
+        int start = getSignificantStart(value, getStart(value, from), from);
+
+        if (to < Character.MIN_RADIX || to > Character.MAX_RADIX) {
+            to = 10;
+        }
+
+        if (DigitWriter.isPowerOfTwo(from) && DigitWriter.isPowerOfTwo(to)) {
+            return new String(regroup(value, start, from, to));
+        }
+
+        BigInteger number = DigitWriter.isPowerOfTwo(from)
+                ? new BigInteger(1, toBytes(regroup(value, start, from, 16)))
+                : parse(value, start, from);
+
+        if (!DigitWriter.isPowerOfTwo(to)) {
+            return number.toString(to);
+        }
+
+        return new String(regroup(new String(toHexadecimal(number.toByteArray())), 0, 16, to));
     }
 
     /**
      * Returns a string representation of the first argument in the radix specified by the third argument from the radix
      * specified by the second argument.
      * <br><br>
-     * Convenience method equivalent to <code>convert(Integer.toString(value), 10, to)</code>
+     * The integer is written as an unsigned integer, as by {@link Integer#toUnsignedString(int, int)}, i.e. a negative
+     * value is written as its two's complement, the same as by the <code>convertDecimalToX</code> methods, without a
+     * round trip through a decimal string.
      *
      * @see NumeralSystemHelper#convert(String, int, int)
      *
@@ -83,7 +284,7 @@ final public class NumeralSystemHelper {
      *
      */
     public static String convert(int value, int to) {
-        return convert(Integer.toString(value), 10, to);
+        return Integer.toUnsignedString(value, to);
     }
 
     /**
@@ -98,7 +299,7 @@ final public class NumeralSystemHelper {
      *
      */
     public static String convertDecimalToHexadecimal(int integer) {
-        return convert(integer, 16);
+        return Integer.toHexString(integer);
     }
 
     /**
@@ -112,7 +313,7 @@ final public class NumeralSystemHelper {
      *
      */
     public static String convertDecimalToBinary(int integer) {
-        return convert(integer, 2);
+        return Integer.toBinaryString(integer);
     }
 
     /**
@@ -126,7 +327,7 @@ final public class NumeralSystemHelper {
      *
      */
     public static String convertDecimalToOctal(int integer) {
-        return convert(integer, 8);
+        return Integer.toOctalString(integer);
     }
 
     /**
@@ -254,4 +455,284 @@ final public class NumeralSystemHelper {
     public static String convertOctalToDecimal(String octalStr) {
         return convert(octalStr, 8, 10);
     }
+
+    /**
+     * Returns a converter of numbers from the radix specified by the first argument to the radix specified by the
+     * second argument. The converter is created once per pair of radixes and cached, hence repeated calls return the
+     * same instance, which can be shared across threads.
+     * <br><br>
+     * Example usage:
+     * <pre>
+     *      NumeralSystemHelper.getConverter(16, 2).convert("-Ff");     // "-11111111"
+     * </pre>
+     *
+     * @see NumeralSystemConverter
+     *
+     * @param from the radix to convert from.
+     * @param to the radix to convert to.
+     *
+     * @return the converter between the two radixes.
+     *
+     * @throws IllegalArgumentException if either radix is smaller than {@link Character#MIN_RADIX} or larger than
+     * {@link Character#MAX_RADIX}
+     *
+     * @since 4.9.0
+     *
+     */
+    public static NumeralSystemConverter getConverter(int from, int to) {
+        if (from < Character.MIN_RADIX || from > Character.MAX_RADIX
+                || to < Character.MIN_RADIX || to > Character.MAX_RADIX) {
+            throw new IllegalArgumentException("Radix must be between 2 and 36.");
+        }
+
+        int index = from * (Character.MAX_RADIX + 1) + to;
+
+        NumeralSystemConverter converter = CONVERTERS.get(index);
+
+        if (converter == null) {
+            converter = new NumeralSystemConverter(from, to);
+
+            if (!CONVERTERS.compareAndSet(index, null, converter)) {
+                converter = CONVERTERS.get(index);
+            }
+        }
+
+        return converter;
+    }
+
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+
+    private static int getDigit(char ch, int radix) {
+        int digit = (ch < DIGIT_VALUES.length) ? DIGIT_VALUES[ch] : Character.digit(ch, radix);
+
+        return (digit < radix) ? digit : -1;
+    }
+
+    private static NumberFormatException getNumberFormatException(CharSequence value, int radix) {
+        return new NumberFormatException("For input string: \"" + value + "\" under radix " + radix);
+    }
+
+    private static NumberFormatException getRangeException(CharSequence value) {
+        return new NumberFormatException("String value " + value + " exceeds range of unsigned int.");
+    }
+
+    // Validates the value and its radix, and returns the index after the optional plus sign
+    private static int getStart(CharSequence value, int radix) {
+        if (value == null) {
+            throw new NumberFormatException("Cannot parse null string.");
+        }
+
+        if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX) {
+            throw new NumberFormatException("Radix " + radix + " is out of range.");
+        }
+
+        int start = (value.length() > 0 && value.charAt(0) == '+') ? 1 : 0;
+
+        if (start == value.length()) {
+            throw getNumberFormatException(value, radix);
+        }
+
+        return start;
+    }
+
+    private static long parseUnsignedInt(CharSequence value, int start, int radix) {
+        long result = 0L;
+
+        for (int i = start; i < value.length(); i++) {
+            int digit = getDigit(value.charAt(i), radix);
+
+            if (digit < 0) {
+                throw getNumberFormatException(value, radix);
+            }
+
+            result = result * radix + digit;
+
+            if (result > 0xFFFFFFFFL) {
+                throw getRangeException(value);
+            }
+        }
+
+        return result;
+    }
+
+    // Returns the index of the first digit that is not zero, or the length if there is none
+    private static int getSignificantStart(CharSequence value, int start, int radix) {
+        int index = start;
+
+        while (index < value.length() && getDigit(value.charAt(index), radix) == 0) {
+            index++;
+        }
+
+        if (index < value.length() && getDigit(value.charAt(index), radix) < 0) {
+            throw getNumberFormatException(value, radix);
+        }
+
+        return index;
+    }
+
+    // Returns the significant bits of the value, i.e. those of the first digit that is not zero, and all of the others
+    private static long getSignificantBits(CharSequence value, int index, int radix) {
+        if (index == value.length()) {
+            return 0L;
+        }
+
+        int first = getDigit(value.charAt(index), radix);
+
+        return Integer.SIZE - Integer.numberOfLeadingZeros(first)
+                + (long) (value.length() - index - 1) * Integer.numberOfTrailingZeros(radix);
+    }
+
+    // Converts the whole value between two radixes that are powers of two, into an array of the exact length
+    private static char[] regroup(CharSequence value, int start, int from, int to) {
+        int index = getSignificantStart(value, start, from);
+
+        long bits = getSignificantBits(value, index, from);
+
+        if (bits == 0) {
+            return new char[] {'0'};
+        }
+
+        int outputBits = Integer.numberOfTrailingZeros(to);
+
+        long length = (bits + outputBits - 1) / outputBits;
+
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Representation is too long.");
+        }
+
+        char[] chars = new char[(int) length];
+
+        regroup(value, index, Integer.numberOfTrailingZeros(from), outputBits, bits, chars, 0);
+
+        return chars;
+    }
+
+    // Packs hexadecimal digits into big-endian bytes, the first byte taking the first digit alone if there is an odd
+    // number of them
+    private static byte[] toBytes(char[] chars) {
+        byte[] bytes = new byte[(chars.length + 1) >> 1];
+
+        for (int i = chars.length - 1, j = bytes.length - 1; i >= 0; i -= 2, j--) {
+            int low = DIGIT_VALUES[chars[i]];
+            int high = (i > 0) ? DIGIT_VALUES[chars[i - 1]] : 0;
+
+            bytes[j] = (byte) ((high << 4) | low);
+        }
+
+        return bytes;
+    }
+
+    private static char[] toHexadecimal(byte[] bytes) {
+        char[] chars = new char[bytes.length << 1];
+
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i << 1] = DIGITS[(bytes[i] >> 4) & 0xF];
+            chars[(i << 1) + 1] = DIGITS[bytes[i] & 0xF];
+        }
+
+        return chars;
+    }
+
+    private static BigInteger parse(CharSequence value, int start, int radix) {
+        // Digits of a chunk, i.e. the most that always fit in a long, and the radix raised to that many
+        int chunk = 0;
+        long power = 1L;
+
+        while (power <= Long.MAX_VALUE / radix) {
+            power *= radix;
+            chunk++;
+        }
+
+        List<BigInteger> powers = new ArrayList<>();
+
+        powers.add(BigInteger.valueOf(power));
+
+        return parse(value, start, value.length(), radix, chunk, powers);
+    }
+
+    /*
+     * Parses the digits between the start (inclusive) and end (exclusive) indexes, by splitting off the longest low
+     * part of chunk * 2^k digits that is shorter than the whole, so that the high part is never the longer. The powers
+     * hold radix^(chunk * 2^k) at index k, each the square of the previous.
+     */
+    private static BigInteger parse(CharSequence value, int start, int end, int radix, int chunk,
+                                    List<BigInteger> powers) {
+        if (end - start <= chunk) {
+            long result = 0L;
+
+            for (int i = start; i < end; i++) {
+                int digit = getDigit(value.charAt(i), radix);
+
+                if (digit < 0) {
+                    throw getNumberFormatException(value, radix);
+                }
+
+                result = result * radix + digit;
+            }
+
+            return BigInteger.valueOf(result);
+        }
+
+        int k = 0;
+        long length = chunk;
+
+        while (2 * length < end - start) {
+            length *= 2;
+            k++;
+        }
+
+        while (powers.size() <= k) {
+            BigInteger last = powers.get(powers.size() - 1);
+
+            powers.add(last.multiply(last));
+        }
+
+        int middle = end - (int) length;
+
+        BigInteger high = parse(value, start, middle, radix, chunk, powers);
+        BigInteger low = parse(value, middle, end, radix, chunk, powers);
+
+        return high.multiply(powers.get(k)).add(low);
+    }
+
+    /*
+     * Converts between two radixes that are powers of two, by moving the bits of the input digits, from the most
+     * significant, through a small accumulator that releases an output digit whenever it holds enough bits. The first
+     * output digit takes the bits left over by the others, so that only the last is aligned on the least significant
+     * bit.
+     */
+    private static void regroup(CharSequence value, int index, int inputBits, int outputBits, long bits, char[] chars,
+                                int offset) {
+        int radix = 1 << inputBits;
+
+        int pending = (bits % outputBits == 0) ? outputBits : (int) (bits % outputBits);
+
+        int accumulator = getDigit(value.charAt(index), radix);
+        int available = Integer.SIZE - Integer.numberOfLeadingZeros(accumulator);
+
+        for (index++; ; index++) {
+            while (available >= pending) {
+                available -= pending;
+
+                chars[offset++] = DIGITS[(accumulator >>> available) & ((1 << pending) - 1)];
+
+                pending = outputBits;
+            }
+
+            if (index == value.length()) {
+                return;
+            }
+
+            int digit = getDigit(value.charAt(index), radix);
+
+            if (digit < 0) {
+                throw getNumberFormatException(value, radix);
+            }
+
+            accumulator = (accumulator << inputBits) | digit;
+            available += inputBits;
+        }
+    }
 }
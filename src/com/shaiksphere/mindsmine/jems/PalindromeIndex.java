@@ -0,0 +1,311 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+/**
+ * An immutable index of all the maximal palindromes in a character sequence.
+ * <br><br>
+ * The index is built in linear time using Manacher's algorithm. For every center, i.e. every code point and every gap
+ * between two adjacent code points, it records the longest palindrome around that center. From this, the longest
+ * palindromic substring is known, and whether any substring is a palindrome is answered in constant time.
+ * <br><br>
+ * All positions accepted and returned are <code>char</code> indexes into the original sequence. Surrogate pairs are
+ * treated as single code points, and are never split. The indexed region is copied when the index is built, so later
+ * changes to a mutable sequence do not affect the index. Instances are obtained from
+ * {@link StringHelper#getPalindromeIndex(CharSequence, boolean)}.
+ * <br><br>
+ * Example usage:
+ *
+ * <pre>
+ *     PalindromeIndex index = StringHelper.getPalindromeIndex("xabacabay", false);
+ *
+ *     index.getLongest();               // "abacaba"
+ *     index.isPalindrome(1, 4);         // true, "aba"
+ *     index.isPalindrome(0, 3);         // false, "xab"
+ * </pre>
+ *
+ * @see StringHelper#isPalindrome(CharSequence, boolean)
+ * @see <a href="@WIKI_URI@/Longest_palindromic_substring">Longest palindromic substring (Wikipedia)</a>
+ *
+ * @author Mohammed Shaik Hussain Ali
+ *
+ * @since 4.9.0
+ *
+ */
+public final class PalindromeIndex {
+    // Copy of the indexed region, which starts at the char index start of the original sequence
+    private final String region;
+
+    private final int start;
+    private final int end;
+
+    // Code point index to char index, and char index (relative to start) to code point index, with -1 for the low
+    // surrogate of a pair; both are null when every code point in the region is a single char
+    private final int[] offsets;
+    private final int[] codePointIndexes;
+
+    // Radii of the odd length palindromes centered on each code point, and of the even length palindromes centered on
+    // the gap before each code point
+    private final int[] odd;
+    private final int[] even;
+
+    private final int longestStart;
+    private final int longestLength;
+
+    PalindromeIndex(CharSequence chars, int start, int end, boolean ignoreCase) {
+        this.region = chars.subSequence(start, end).toString();
+        this.start = start;
+        this.end = end;
+
+        int count = region.codePointCount(0, region.length());
+
+        int[] codePoints = new int[count];
+        int[] offsets = (count == region.length()) ? null : new int[count + 1];
+        int[] codePointIndexes = (offsets == null) ? null : new int[region.length() + 1];
+
+        for (int i = 0, index = 0; i < count; i++) {
+            int codePoint = region.codePointAt(index);
+
+            if (offsets != null) {
+                offsets[i] = start + index;
+                codePointIndexes[index] = i;
+
+                if (Character.charCount(codePoint) == 2) {
+                    codePointIndexes[index + 1] = -1;
+                }
+            }
+
+            codePoints[i] = ignoreCase ? StringHelper.foldCase(codePoint) : codePoint;
+
+            index += Character.charCount(codePoint);
+        }
+
+        if (offsets != null) {
+            offsets[count] = end;
+            codePointIndexes[region.length()] = count;
+        }
+
+        this.offsets = offsets;
+        this.codePointIndexes = codePointIndexes;
+        this.odd = new int[count];
+        this.even = new int[count];
+
+        int bestStart = 0;
+        int bestLength = 0;
+
+        for (int i = 0, left = 0, right = -1; i < count; i++) {
+            int radius = (i > right) ? 1 : Math.min(odd[left + right - i], right - i + 1);
+
+            while (i - radius >= 0 && i + radius < count && codePoints[i - radius] == codePoints[i + radius]) {
+                radius++;
+            }
+
+            odd[i] = radius;
+
+            if (i + radius - 1 > right) {
+                left = i - radius + 1;
+                right = i + radius - 1;
+            }
+
+            if (2 * radius - 1 > bestLength) {
+                bestStart = i - radius + 1;
+                bestLength = 2 * radius - 1;
+            }
+        }
+
+        for (int i = 0, left = 0, right = -1; i < count; i++) {
+            int radius = (i > right) ? 0 : Math.min(even[left + right - i + 1], right - i + 1);
+
+            while (i - radius - 1 >= 0 && i + radius < count && codePoints[i - radius - 1] == codePoints[i + radius]) {
+                radius++;
+            }
+
+            even[i] = radius;
+
+            if (i + radius - 1 > right) {
+                left = i - radius;
+                right = i + radius - 1;
+            }
+
+            if (2 * radius > bestLength || (2 * radius == bestLength && i - radius < bestStart)) {
+                bestStart = i - radius;
+                bestLength = 2 * radius;
+            }
+        }
+
+        this.longestStart = bestStart;
+        this.longestLength = bestLength;
+    }
+
+    /**
+     * Returns the longest palindromic substring, measured in code points. When there is more than one, the leftmost is
+     * returned.
+     *
+     * @return the longest palindromic substring, which is empty only if the indexed region is empty
+     *
+     * @since 4.9.0
+     *
+     */
+    public CharSequence getLongest() {
+        return region.substring(getLongestStart() - start, getLongestEnd() - start);
+    }
+
+    /**
+     * Returns the index of the first <code>char</code> of the longest palindromic substring.
+     *
+     * @return the start index (inclusive) of the longest palindromic substring
+     *
+     * @since 4.9.0
+     *
+     */
+    public int getLongestStart() {
+        return toCharIndex(longestStart);
+    }
+
+    /**
+     * Returns the index after the last <code>char</code> of the longest palindromic substring.
+     *
+     * @return the end index (exclusive) of the longest palindromic substring
+     *
+     * @since 4.9.0
+     *
+     */
+    public int getLongestEnd() {
+        return toCharIndex(longestStart + longestLength);
+    }
+
+    /**
+     * Returns the number of centers in the index. For a region of <em><code>n</code></em> code points, there are
+     * <em><code>2n - 1</code></em> centers; the even centers are the code points themselves and the odd centers are the
+     * gaps between them.
+     *
+     * @return the number of centers
+     *
+     * @since 4.9.0
+     *
+     */
+    public int getCenterCount() {
+        return Math.max(2 * odd.length - 1, 0);
+    }
+
+    /**
+     * Returns the index of the first <code>char</code> of the maximal palindrome around the specified center.
+     *
+     * @see PalindromeIndex#getCenterCount()
+     *
+     * @param center of the palindrome
+     *
+     * @return the start index (inclusive) of the maximal palindrome
+     *
+     * @throws IllegalArgumentException if the center is out of range
+     *
+     * @since 4.9.0
+     *
+     */
+    public int getStart(int center) {
+        checkCenter(center);
+
+        int index = center >> 1;
+
+        return toCharIndex((center & 1) == 0 ? index - odd[index] + 1 : index + 1 - even[index + 1]);
+    }
+
+    /**
+     * Returns the index after the last <code>char</code> of the maximal palindrome around the specified center.
+     *
+     * @see PalindromeIndex#getCenterCount()
+     *
+     * @param center of the palindrome
+     *
+     * @return the end index (exclusive) of the maximal palindrome
+     *
+     * @throws IllegalArgumentException if the center is out of range
+     *
+     * @since 4.9.0
+     *
+     */
+    public int getEnd(int center) {
+        checkCenter(center);
+
+        int index = center >> 1;
+
+        return toCharIndex((center & 1) == 0 ? index + odd[index] : index + 1 + even[index + 1]);
+    }
+
+    /**
+     * Returns <code>true</code> if the specified substring is a palindrome, <code>false</code> otherwise.
+     * <br><br>
+     * The comparison honors the case sensitivity the index was built with. Unlike
+     * {@link StringHelper#isPalindrome(CharSequence, boolean)}, the substring itself is not trimmed.
+     *
+     * @param start index (inclusive) of the substring
+     * @param end index (exclusive) of the substring
+     *
+     * @return whether the substring is a palindrome
+     *
+     * @throws IllegalArgumentException if the range is outside the indexed region, or splits a surrogate pair
+     *
+     * @since 4.9.0
+     *
+     */
+    public boolean isPalindrome(int start, int end) {
+        if (start < this.start || end > this.end || start > end) {
+            throw new IllegalArgumentException("Range is outside the indexed region.");
+        }
+
+        int first = toCodePointIndex(start);
+        int last = toCodePointIndex(end);
+
+        int length = last - first;
+
+        if (length == 0) {
+            return true;
+        }
+
+        int center = (first + last) >> 1;
+
+        return (length & 1) == 1 ? odd[center] >= (length + 1) >> 1 : even[center] >= length >> 1;
+    }
+
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+
+    private void checkCenter(int center) {
+        if (center < 0 || center >= getCenterCount()) {
+            throw new IllegalArgumentException("Center is out of range.");
+        }
+    }
+
+    private int toCharIndex(int codePointIndex) {
+        return (offsets == null) ? start + codePointIndex : offsets[codePointIndex];
+    }
+
+    private int toCodePointIndex(int charIndex) {
+        if (codePointIndexes == null) {
+            return charIndex - start;
+        }
+
+        int codePointIndex = codePointIndexes[charIndex - start];
+
+        if (codePointIndex < 0) {
+            throw new IllegalArgumentException("Index splits a surrogate pair.");
+        }
+
+        return codePointIndex;
+    }
+}
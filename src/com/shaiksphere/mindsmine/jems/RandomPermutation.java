@@ -0,0 +1,116 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+import java.util.SplittableRandom;
+
+/**
+ * A keyed pseudorandom permutation of the numbers <code>0</code> (inclusive) to a size (exclusive).
+ * <br><br>
+ * The permutation is a Feistel network over the smallest power of two that is at least the size, restricted to the size
+ * by cycle walking: numbers that fall outside are permuted again, until they fall inside. Since the domain is less than
+ * twice the size, fewer than two rounds of walking are needed on average. When the number of bits is odd, the network
+ * is unbalanced, and its halves swap widths at every round. Nothing is precomputed beyond the round keys, so the
+ * permutation takes constant memory whatever the size, and any position can be computed independently of the others.
+ *
+ * @see <a href="@WIKI_URI@/Feistel_cipher">Feistel cipher (Wikipedia)</a>
+ *
+ * @author Mohammed Shaik Hussain Ali
+ *
+ * @since 4.9.0
+ *
+ */
+final class RandomPermutation {
+    private static final int ROUNDS = 4;
+
+    private final long size;
+
+    // Widths of the high and low halves of the domain, which differ by one bit at most
+    private final int highBits;
+    private final int lowBits;
+
+    private final long[] keys = new long[ROUNDS];
+
+    RandomPermutation(long size, long seed) {
+        this.size = size;
+
+        int bits = Math.max(Long.SIZE - Long.numberOfLeadingZeros(size - 1), 2);
+
+        this.highBits = bits / 2;
+        this.lowBits = bits - highBits;
+
+        SplittableRandom random = new SplittableRandom(seed);
+
+        for (int i = 0; i < ROUNDS; i++) {
+            keys[i] = random.nextLong();
+        }
+    }
+
+    long getSize() {
+        return size;
+    }
+
+    /*
+     * The number at the specified position of the permutation, for a position between 0 (inclusive) and the size
+     * (exclusive).
+     */
+    long get(long position) {
+        long value = position;
+
+        do {
+            value = encrypt(value);
+        } while (value >= size);
+
+        return value;
+    }
+
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+
+    private long encrypt(long value) {
+        int leftBits = highBits;
+        int rightBits = lowBits;
+
+        long left = value >>> rightBits;
+        long right = value & ((1L << rightBits) - 1);
+
+        for (long key : keys) {
+            long next = left ^ (mix(right ^ key) & ((1L << leftBits) - 1));
+
+            left = right;
+            right = next;
+
+            int swap = leftBits;
+            leftBits = rightBits;
+            rightBits = swap;
+        }
+
+        return (left << rightBits) | right;
+    }
+
+    /*
+     * The finalizer of SplitMix64, a bijective mix in which every input bit affects every output bit.
+     */
+    private static long mix(long value) {
+        long z = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,286 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+/**
+ * A reusable splitter that iterates the fields of a character sequence, separated by a delimiter, without allocating
+ * per field.
+ * <br><br>
+ * Each field is exposed as a view over the original sequence; the view is a single <code>CharSequence</code>
+ * instance that is repositioned on every call to {@link StringSplitter#next()}. Since every predicate of
+ * {@link StringHelper} accepts a <code>CharSequence</code>, the fields of a line can be validated in place, with no
+ * regular expression, array or substring, unlike {@link String#split(String)}.
+ * <br><br>
+ * The fields are the same as those of <code>String.split(delimiter, -1)</code>: adjacent delimiters produce empty
+ * fields, trailing empty fields are kept, and an empty sequence has a single empty field. Quoting is not supported.
+ * <br><br>
+ * Instances are not thread-safe. The field view is only valid until the next call to
+ * {@link StringSplitter#next()} or {@link StringSplitter#reset(CharSequence)}; call <code>toString()</code> on it to
+ * keep a copy. Like other <code>CharSequence</code> implementations, the view does not override
+ * <code>equals(Object)</code>; compare it with {@link StringHelper#areEqual(CharSequence, CharSequence, boolean)}.
+ * <br><br>
+ * Example usage:
+ *
+ * <pre>
+ *     StringSplitter splitter = new StringSplitter(',');
+ *
+ *     splitter.reset("42,abc, 17");
+ *
+ *     while (splitter.next()) {
+ *         StringHelper.isOnlyDigits(splitter.getField());          // true, false, false
+ *     }
+ * </pre>
+ *
+ * @author Mohammed Shaik Hussain Ali
+ *
+ * @since 4.9.0
+ *
+ */
+public final class StringSplitter {
+    private final char delimiter;
+
+    private final Field field = new Field();
+
+    private CharSequence chars;
+
+    // Start of the next field, or -1 when there are no more fields
+    private int next = -1;
+
+    // Index of the current field
+    private int index = -1;
+
+    // Whether there is a current field, i.e. next() was called since the last reset and returned true
+    private boolean current = false;
+
+    /**
+     * Creates a splitter for the specified delimiter. The splitter has no fields until it is reset with a character
+     * sequence.
+     *
+     * @param delimiter between the fields
+     *
+     * @since 4.9.0
+     *
+     */
+    public StringSplitter(char delimiter) {
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Returns the delimiter between the fields.
+     *
+     * @return the delimiter
+     *
+     * @since 4.9.0
+     *
+     */
+    public char getDelimiter() {
+        return delimiter;
+    }
+
+    /**
+     * Positions the splitter before the first field of the passed character sequence.
+     *
+     * @param chars to split
+     *
+     * @return this splitter
+     *
+     * @throws IllegalArgumentException if the character sequence is <code>null</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public StringSplitter reset(CharSequence chars) {
+        if (chars == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        this.chars = chars;
+        this.next = 0;
+        this.index = -1;
+        this.current = false;
+
+        field.set(chars, 0, 0);
+
+        return this;
+    }
+
+    /**
+     * Advances to the next field.
+     *
+     * @return <code>true</code> if there is a next field, <code>false</code> if all the fields have been iterated
+     *
+     * @since 4.9.0
+     *
+     */
+    public boolean next() {
+        if (next < 0) {
+            current = false;
+
+            return false;
+        }
+
+        int start = next;
+        int end = indexOfDelimiter(start);
+        int length = chars.length();
+
+        field.set(chars, start, end);
+
+        next = (end < length) ? end + 1 : -1;
+        index++;
+        current = true;
+
+        return true;
+    }
+
+    /**
+     * Returns a view of the current field. The same instance is returned for every field.
+     *
+     * @return the current field
+     *
+     * @throws IllegalStateException if there is no current field
+     *
+     * @since 4.9.0
+     *
+     */
+    public CharSequence getField() {
+        checkField();
+
+        return field;
+    }
+
+    /**
+     * Returns the index of the current field, starting at <code>0</code>.
+     *
+     * @return the index of the current field
+     *
+     * @throws IllegalStateException if there is no current field
+     *
+     * @since 4.9.0
+     *
+     */
+    public int getFieldIndex() {
+        checkField();
+
+        return index;
+    }
+
+    /**
+     * Returns the index of the first <code>char</code> of the current field in the split character sequence.
+     *
+     * @return the start index (inclusive) of the current field
+     *
+     * @throws IllegalStateException if there is no current field
+     *
+     * @since 4.9.0
+     *
+     */
+    public int getFieldStart() {
+        checkField();
+
+        return field.start;
+    }
+
+    /**
+     * Returns the index after the last <code>char</code> of the current field in the split character sequence.
+     *
+     * @return the end index (exclusive) of the current field
+     *
+     * @throws IllegalStateException if there is no current field
+     *
+     * @since 4.9.0
+     *
+     */
+    public int getFieldEnd() {
+        checkField();
+
+        return field.end;
+    }
+
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+
+    /*
+     * Index of the next delimiter, or the length if there is none; String#indexOf(int, int) is an intrinsic.
+     */
+    private int indexOfDelimiter(int start) {
+        if (chars instanceof String) {
+            int end = ((String) chars).indexOf(delimiter, start);
+
+            return (end < 0) ? chars.length() : end;
+        }
+
+        int end = start;
+        int length = chars.length();
+
+        while (end < length && chars.charAt(end) != delimiter) {
+            end++;
+        }
+
+        return end;
+    }
+
+    private void checkField() {
+        if (!current) {
+            throw new IllegalStateException("There is no current field.");
+        }
+    }
+
+    /*
+     * A view of a region of a character sequence, repositioned in place.
+     */
+    private static final class Field implements CharSequence {
+        private CharSequence chars;
+
+        private int start;
+        private int end;
+
+        private void set(CharSequence chars, int start, int end) {
+            this.chars = chars;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= end - start) {
+                throw new IndexOutOfBoundsException("Index " + index + " is out of range.");
+            }
+
+            return chars.charAt(start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || end > this.end - this.start || start > end) {
+                throw new IndexOutOfBoundsException("Range " + start + " to " + end + " is out of range.");
+            }
+
+            return chars.subSequence(this.start + start, this.start + end);
+        }
+
+        @Override
+        public String toString() {
+            return chars.subSequence(start, end).toString();
+        }
+    }
+}
@@ -0,0 +1,479 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A collection of useful static methods to deal with UTF-8 encoded bytes, without decoding them into strings.
+ * <br><br>
+ * Each method gives the same result as the corresponding method of {@link StringHelper} called with the string
+ * decoded from the bytes, i.e. <code>new String(bytes, StandardCharsets.UTF_8)</code>, including the replacement of
+ * malformed sequences with <code>U+FFFD</code>. The bytes are read in place, one code point at a time, so no
+ * <code>String</code> or <code>char[]</code> is ever allocated. Since ASCII is a subset of UTF-8, ASCII encoded bytes
+ * are handled as well.
+ * <br><br>
+ * The methods taking a <code>ByteBuffer</code> read the bytes between its position and its limit, with absolute
+ * reads, hence neither the position nor the limit of the buffer is modified. Both heap and direct buffers are
+ * supported.
+ *
+ * @see StringHelper
+ * @see java.nio.charset.StandardCharsets#UTF_8
+ *
+ * @author Mohammed Shaik Hussain Ali
+ *
+ * @since 4.9.0
+ *
+ */
+public final class Utf8Helper {
+    private static final int REPLACEMENT_CHARACTER = 0xFFFD;
+
+    // A decoded code point is returned together with the number of bytes it was decoded from, shifted by this much
+    private static final int LENGTH_SHIFT = 21;
+
+    private static final int CODE_POINT_MASK = (1 << LENGTH_SHIFT) - 1;
+
+    private Utf8Helper() {}
+
+    /**
+     * Returns <code>true</code> if the passed bytes are <code>null</code>, empty or only encode whitespace,
+     * <code>false</code> otherwise.
+     * <br><br>
+     * Example usage:
+     *
+     * <pre>
+     *     Utf8Helper.isBlank((byte[]) null)                                           = true
+     *     Utf8Helper.isBlank(" \t".getBytes(UTF_8))                                    = true
+     *     Utf8Helper.isBlank(new byte[] {(byte) 0xE2, (byte) 0x80, (byte) 0x83})     = true, U+2003 EM SPACE
+     *     Utf8Helper.isBlank(" a ".getBytes(UTF_8))                                    = false
+     * </pre>
+     *
+     * @see String#isBlank()
+     *
+     * @param bytes to check
+     *
+     * @return whether the bytes are blank
+     *
+     * @since 4.9.0
+     *
+     */
+    public static boolean isBlank(byte[] bytes) {
+        return bytes == null || isBlank(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Returns <code>true</code> if the specified range of the passed bytes only encodes whitespace, <code>false</code>
+     * otherwise.
+     *
+     * @see Utf8Helper#isBlank(byte[])
+     *
+     * @param bytes to check
+     * @param offset of the first byte to check
+     * @param length number of bytes to check
+     *
+     * @return whether the range is blank
+     *
+     * @throws IllegalArgumentException if the bytes are <code>null</code>, or if the range is out of bounds
+     *
+     * @since 4.9.0
+     *
+     */
+    public static boolean isBlank(byte[] bytes, int offset, int length) {
+        return isBlank(wrap(bytes, offset, length));
+    }
+
+    /**
+     * Returns <code>true</code> if the passed buffer is <code>null</code>, has no remaining bytes, or its remaining
+     * bytes only encode whitespace, <code>false</code> otherwise.
+     *
+     * @see Utf8Helper#isBlank(byte[])
+     *
+     * @param buffer to check
+     *
+     * @return whether the remaining bytes are blank
+     *
+     * @since 4.9.0
+     *
+     */
+    public static boolean isBlank(ByteBuffer buffer) {
+        if (buffer == null) {
+            return true;
+        }
+
+        for (int index = buffer.position(), limit = buffer.limit(); index < limit; ) {
+            int b = buffer.get(index);
+
+            if (b >= 0) {
+                if (!Character.isWhitespace(b)) {
+                    return false;
+                }
+
+                index++;
+
+                continue;
+            }
+
+            int decoded = decode(buffer, index, limit);
+
+            if (!Character.isWhitespace(decoded & CODE_POINT_MASK)) {
+                return false;
+            }
+
+            index += decoded >>> LENGTH_SHIFT;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns <code>true</code> if the passed bytes only encode digits, <code>false</code> otherwise.
+     * <br><br>
+     * A digit is one of the ASCII characters '<code>0</code>' through '<code>9</code>', each of which is encoded as a
+     * single byte, and no other byte of a UTF-8 sequence is ever in that range. Hence, no decoding is needed, and the
+     * result is the same for any ASCII compatible encoding, such as ISO-8859-1 (Latin-1).
+     * <br><br>
+     * Example usage:
+     *
+     * <pre>
+     *     Utf8Helper.isOnlyDigits("17650".getBytes(UTF_8))                 = true
+     *     Utf8Helper.isOnlyDigits("11.67".getBytes(UTF_8))                 = false
+     *     Utf8Helper.isOnlyDigits(new byte[0])                             = false
+     *     Utf8Helper.isOnlyDigits((byte[]) null)                           = false
+     * </pre>
+     *
+     * @see StringHelper#isOnlyDigits(CharSequence)
+     *
+     * @param bytes to check
+     *
+     * @return whether the bytes only encode digits
+     *
+     * @since 4.9.0
+     *
+     */
+    public static boolean isOnlyDigits(byte[] bytes) {
+        return bytes != null && isOnlyDigits(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Returns <code>true</code> if the specified range of the passed bytes only encodes digits, <code>false</code>
+     * otherwise.
+     *
+     * @see Utf8Helper#isOnlyDigits(byte[])
+     *
+     * @param bytes to check
+     * @param offset of the first byte to check
+     * @param length number of bytes to check
+     *
+     * @return whether the range only encodes digits
+     *
+     * @throws IllegalArgumentException if the bytes are <code>null</code>, or if the range is out of bounds
+     *
+     * @since 4.9.0
+     *
+     */
+    public static boolean isOnlyDigits(byte[] bytes, int offset, int length) {
+        checkRange(bytes, offset, length);
+
+        if (length == 0) {
+            return false;
+        }
+
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (!isDigit(bytes[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns <code>true</code> if the remaining bytes of the passed buffer only encode digits, <code>false</code>
+     * otherwise.
+     *
+     * @see Utf8Helper#isOnlyDigits(byte[])
+     *
+     * @param buffer to check
+     *
+     * @return whether the remaining bytes only encode digits
+     *
+     * @since 4.9.0
+     *
+     */
+    public static boolean isOnlyDigits(ByteBuffer buffer) {
+        if (buffer == null || !buffer.hasRemaining()) {
+            return false;
+        }
+
+        if (buffer.hasArray()) {
+            return isOnlyDigits(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+
+        for (int index = buffer.position(), limit = buffer.limit(); index < limit; index++) {
+            if (!isDigit(buffer.get(index))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns <code>true</code> if the passed bytes encode equal strings, <code>false</code> otherwise.
+     * <br><br>
+     * The result is identical to {@link StringHelper#areEqual(String, String, boolean)} called with the decoded
+     * strings, where <code>null</code> bytes stand for a <code>null</code> string.
+     * <br><br>
+     * Example usage:
+     *
+     * <pre>
+     *     Utf8Helper.areEqual(" ABC".getBytes(UTF_8), "abc ".getBytes(UTF_8), true)     = true
+     *     Utf8Helper.areEqual("   ".getBytes(UTF_8), null, true)                       = true
+     *     Utf8Helper.areEqual("ABC".getBytes(UTF_8), "abc".getBytes(UTF_8), false)     = false
+     * </pre>
+     *
+     * @see StringHelper#areEqual(CharSequence, CharSequence, boolean)
+     *
+     * @param bytes1 to compare
+     * @param bytes2 to compare
+     * @param lenient whether to be lenient or not
+     *
+     * @return whether the bytes encode equal strings
+     *
+     * @since 4.9.0
+     *
+     */
+    public static boolean areEqual(byte[] bytes1, byte[] bytes2, boolean lenient) {
+        return areEqual(
+                (bytes1 == null) ? null : ByteBuffer.wrap(bytes1),
+                (bytes2 == null) ? null : ByteBuffer.wrap(bytes2),
+                lenient
+        );
+    }
+
+    /**
+     * Returns <code>true</code> if the remaining bytes of the passed buffers encode equal strings, <code>false</code>
+     * otherwise.
+     *
+     * @see Utf8Helper#areEqual(byte[], byte[], boolean)
+     *
+     * @param buffer1 to compare
+     * @param buffer2 to compare
+     * @param lenient whether to be lenient or not
+     *
+     * @return whether the remaining bytes encode equal strings
+     *
+     * @since 4.9.0
+     *
+     */
+    public static boolean areEqual(ByteBuffer buffer1, ByteBuffer buffer2, boolean lenient) {
+        if (!lenient) {
+            // Equal bytes always decode to equal strings; other bytes may still do so, through replacements
+            return buffer1 != null && buffer2 != null && (buffer1.equals(buffer2) || areEqual(
+                    buffer1, buffer1.position(), buffer1.limit(),
+                    buffer2, buffer2.position(), buffer2.limit(),
+                    false
+            ));
+        }
+
+        boolean isBlank1 = isBlank(buffer1);
+        boolean isBlank2 = isBlank(buffer2);
+
+        if (isBlank1 || isBlank2) {
+            return isBlank1 && isBlank2;
+        }
+
+        int start1 = getTrimmedStart(buffer1);
+        int start2 = getTrimmedStart(buffer2);
+
+        return areEqual(
+                buffer1, start1, getTrimmedEnd(buffer1, start1),
+                buffer2, start2, getTrimmedEnd(buffer2, start2),
+                true
+        );
+    }
+
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+    // ++++++++++++++++++++++++++++++++++++++++++++++++++++++++++
+
+    private static void checkRange(byte[] bytes, int offset, int length) {
+        if (bytes == null) {
+            throw new IllegalArgumentException("Null is not allowed as an argument.");
+        }
+
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IllegalArgumentException("Range is outside the array.");
+        }
+    }
+
+    private static ByteBuffer wrap(byte[] bytes, int offset, int length) {
+        checkRange(bytes, offset, length);
+
+        return ByteBuffer.wrap(bytes, offset, length);
+    }
+
+    /*
+     * Same as StringHelper#isDigit(char); bytes of multi-byte sequences are negative, hence never digits.
+     */
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static boolean isAsciiLetter(byte b) {
+        int lowerCase = b | 0x20;
+
+        return lowerCase >= 'a' && lowerCase <= 'z';
+    }
+
+    /*
+     * Index of the first byte that String#trim() would keep; the characters it skips are all single bytes.
+     */
+    private static int getTrimmedStart(ByteBuffer buffer) {
+        int start = buffer.position();
+        int limit = buffer.limit();
+
+        while (start < limit && (buffer.get(start) & 0xFF) <= ' ') {
+            start++;
+        }
+
+        return start;
+    }
+
+    /*
+     * Index after the last byte that String#trim() would keep.
+     */
+    private static int getTrimmedEnd(ByteBuffer buffer, int start) {
+        int end = buffer.limit();
+
+        while (end > start && (buffer.get(end - 1) & 0xFF) <= ' ') {
+            end--;
+        }
+
+        return end;
+    }
+
+    /*
+     * Compares the decoded code points of both ranges. The decoded strings are well-formed, so comparing code points
+     * is the same as comparing chars; in lenient mode the chars must still line up, as in String#equalsIgnoreCase.
+     */
+    private static boolean areEqual(ByteBuffer buffer1, int start1, int end1,
+                                    ByteBuffer buffer2, int start2, int end2,
+                                    boolean ignoreCase) {
+        int index1 = start1;
+        int index2 = start2;
+
+        while (index1 < end1 && index2 < end2) {
+            byte b1 = buffer1.get(index1);
+            byte b2 = buffer2.get(index2);
+
+            // ASCII on both sides, where case folding reduces to a single bit for letters
+            if ((b1 | b2) >= 0) {
+                if (b1 != b2 && !(ignoreCase && (b1 ^ b2) == 0x20 && isAsciiLetter(b1))) {
+                    return false;
+                }
+
+                index1++;
+                index2++;
+
+                continue;
+            }
+
+            int decoded1 = decode(buffer1, index1, end1);
+            int decoded2 = decode(buffer2, index2, end2);
+
+            int codePoint1 = decoded1 & CODE_POINT_MASK;
+            int codePoint2 = decoded2 & CODE_POINT_MASK;
+
+            if (codePoint1 != codePoint2 && !(ignoreCase &&
+                    Character.charCount(codePoint1) == Character.charCount(codePoint2) &&
+                    StringHelper.equalsIgnoreCase(codePoint1, codePoint2))) {
+                return false;
+            }
+
+            index1 += decoded1 >>> LENGTH_SHIFT;
+            index2 += decoded2 >>> LENGTH_SHIFT;
+        }
+
+        return index1 == end1 && index2 == end2;
+    }
+
+    /*
+     * Decodes the code point at the specified index, and returns it with the number of bytes it takes. A malformed
+     * sequence decodes to U+FFFD, which replaces its maximal valid prefix, or a single byte, as the JDK decoder does.
+     */
+    private static int decode(ByteBuffer buffer, int index, int limit) {
+        int b = buffer.get(index) & 0xFF;
+
+        if (b < 0x80) {
+            return b | (1 << LENGTH_SHIFT);
+        }
+
+        int count;
+        int codePoint;
+
+        // Valid range of the second byte, which excludes overlong forms, surrogates and code points above U+10FFFF
+        int low = 0x80;
+        int high = 0xBF;
+
+        if (b >= 0xC2 && b <= 0xDF) {
+            count = 1;
+            codePoint = b & 0x1F;
+        } else if (b >= 0xE0 && b <= 0xEF) {
+            count = 2;
+            codePoint = b & 0x0F;
+
+            if (b == 0xE0) {
+                low = 0xA0;
+            } else if (b == 0xED) {
+                high = 0x9F;
+            }
+        } else if (b >= 0xF0 && b <= 0xF4) {
+            count = 3;
+            codePoint = b & 0x07;
+
+            if (b == 0xF0) {
+                low = 0x90;
+            } else if (b == 0xF4) {
+                high = 0x8F;
+            }
+        } else {
+            return REPLACEMENT_CHARACTER | (1 << LENGTH_SHIFT);
+        }
+
+        int next = index + 1;
+
+        for (; count > 0; count--, next++) {
+            if (next >= limit) {
+                return REPLACEMENT_CHARACTER | ((next - index) << LENGTH_SHIFT);
+            }
+
+            int continuation = buffer.get(next) & 0xFF;
+
+            if (continuation < low || continuation > high) {
+                return REPLACEMENT_CHARACTER | ((next - index) << LENGTH_SHIFT);
+            }
+
+            codePoint = (codePoint << 6) | (continuation & 0x3F);
+
+            low = 0x80;
+            high = 0xBF;
+        }
+
+        return codePoint | ((next - index) << LENGTH_SHIFT);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems.collections;
+
+import com.shaiksphere.mindsmine.jems.StringHelper;
+
+/**
+ * An immutable wrapper around a character sequence, whose {@link #equals(Object)} and {@link #hashCode()} follow the
+ * lenient string equality test.
+ * <br><br>
+ * Two keys are equal when <code>StringHelper.areEqual(chars1, chars2, true)</code> is <code>true</code>, i.e. when
+ * both sequences are blank, or when their trimmed versions are equal ignoring the case. This makes lenient equality
+ * usable with any hash based collection, such as {@link java.util.HashMap} or {@link java.util.HashSet}.
+ * <br><br>
+ * Example usage:
+ *
+ * <pre>
+ *     Map&lt;LenientStringKey, Integer&gt; counts = new HashMap&lt;&gt;();
+ *
+ *     counts.merge(new LenientStringKey(" US"), 1, Integer::sum);
+ *     counts.merge(new LenientStringKey("us "), 1, Integer::sum);
+ *
+ *     // counts now contains a single key, with the value 2
+ * </pre>
+ *
+ * The wrapped sequence should not be modified while the key is in use, as its hash code is computed only once.
+ *
+ * @see StringHelper#areEqual(CharSequence, CharSequence, boolean)
+ * @see StringHelper#getLenientHashCode(CharSequence)
+ * @see LenientStringMap
+ *
+ * @author Mohammed Shaik Hussain Ali
+ *
+ * @since 4.9.0
+ *
+ */
+public final class LenientStringKey {
+    private final CharSequence chars;
+    private final int hashCode;
+
+    /**
+     * Creates a key for the passed character sequence.
+     *
+     * @param chars to wrap, may be <code>null</code>
+     *
+     * @since 4.9.0
+     *
+     */
+    public LenientStringKey(CharSequence chars) {
+        this.chars = chars;
+        this.hashCode = StringHelper.getLenientHashCode(chars);
+    }
+
+    /**
+     * Returns the wrapped character sequence, as-is.
+     *
+     * @return the wrapped character sequence
+     *
+     * @since 4.9.0
+     *
+     */
+    public CharSequence getChars() {
+        return chars;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+
+        if (!(object instanceof LenientStringKey)) {
+            return false;
+        }
+
+        LenientStringKey other = (LenientStringKey) object;
+
+        return hashCode == other.hashCode && StringHelper.areEqual(chars, other.chars, true);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(chars);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class FuzzyMatcherTest {
+
+    @Test
+    public void getDistanceTest() {
+        FuzzyMatcher matcher = FuzzyMatcher.compile("Jonathan", true);
+
+        assertEquals(0, matcher.getDistance(" JONATHAN "));
+        assertEquals(1, matcher.getDistance("Johnathan"));
+        assertEquals(5, matcher.getDistance("Jon"));
+        assertEquals(8, matcher.getDistance(null));
+
+        assertEquals(1, FuzzyMatcher.compile("a\uD801\uDC00b", true).getDistance("A\uD801\uDC28"));
+        assertEquals(2, FuzzyMatcher.compile("a\uD801\uDC00b", false).getDistance("A\uD801\uDC28b"));
+
+        assertEquals(3, FuzzyMatcher.compile("", false).getDistance("abc"));
+        assertEquals(0, FuzzyMatcher.compile(null, true).getDistance("\t"));
+
+        assertThrows(IllegalArgumentException.class, () -> FuzzyMatcher.compile(null, false));
+        assertThrows(IllegalArgumentException.class, () -> FuzzyMatcher.compile("abc", false).getDistance(null));
+    }
+
+    @Test
+    public void isWithinDistanceTest() {
+        FuzzyMatcher matcher = FuzzyMatcher.compile("Jonathan", true);
+
+        assertTrue(matcher.isWithinDistance("Johnathan", 1));
+        assertFalse(matcher.isWithinDistance("Jon", 2));
+        assertFalse(FuzzyMatcher.compile("abc", false).isWithinDistance(null, 3));
+
+        assertThrows(IllegalArgumentException.class, () -> matcher.isWithinDistance("Jon", -1));
+    }
+
+    @Test
+    public void batchTest() {
+        FuzzyMatcher matcher = FuzzyMatcher.compile("smith", true);
+
+        List<String> texts = Arrays.asList("Smith", "smyth", " SMITHS ", "jones", null);
+
+        assertArrayEquals(new int[] {0, 1, 1, 5, 5}, matcher.getDistances(texts));
+
+        BitSet expected = new BitSet();
+        expected.set(0, 3);
+
+        assertEquals(expected, matcher.getMatches(texts, 1));
+
+        assertThrows(IllegalArgumentException.class, () -> matcher.getDistances(null));
+    }
+
+    @Test
+    public void randomizedEquivalenceTest() {
+        Random random = new Random(7);
+
+        for (int i = 0; i < 3000; i++) {
+            int maxLength = (i % 3 == 0) ? 150 : 70;
+
+            String pattern = getRandomString(random, maxLength);
+            String text = getRandomString(random, maxLength);
+
+            for (boolean lenient : new boolean[] {true, false}) {
+                int expected = lenient ?
+                        getReferenceDistance(pattern.trim().toLowerCase(), text.trim().toLowerCase()) :
+                        getReferenceDistance(pattern, text);
+
+                FuzzyMatcher matcher = FuzzyMatcher.compile(pattern, lenient);
+
+                assertEquals(pattern + " vs " + text, expected, matcher.getDistance(text));
+
+                int maxDistance = random.nextInt(expected + 3);
+
+                assertEquals(expected <= maxDistance, matcher.isWithinDistance(text, maxDistance));
+            }
+        }
+    }
+
+    private static String getRandomString(Random random, int maxLength) {
+        StringBuilder builder = new StringBuilder();
+
+        for (int length = random.nextInt(maxLength); length > 0; length--) {
+            builder.append("abcAB ".charAt(random.nextInt(6)));
+        }
+
+        return builder.toString();
+    }
+
+    private static int getReferenceDistance(String string1, String string2) {
+        int[][] distances = new int[string1.length() + 1][string2.length() + 1];
+
+        for (int i = 0; i <= string1.length(); i++) {
+            for (int j = 0; j <= string2.length(); j++) {
+                if (i == 0 || j == 0) {
+                    distances[i][j] = i + j;
+                } else {
+                    distances[i][j] = Math.min(
+                            distances[i - 1][j - 1] + ((string1.charAt(i - 1) == string2.charAt(j - 1)) ? 0 : 1),
+                            Math.min(distances[i - 1][j], distances[i][j - 1]) + 1
+                    );
+                }
+            }
+        }
+
+        return distances[string1.length()][string2.length()];
+    }
+}
@@ -0,0 +1,203 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class MultiPatternMatcherTest {
+
+    @Test
+    public void matchTest() {
+        MultiPatternMatcher matcher = MultiPatternMatcher.compile(Arrays.asList("he", "she", "his", "hers"), false);
+
+        assertEquals(4, matcher.getPatternCount());
+        assertEquals("his", matcher.getPattern(2));
+        assertFalse(matcher.isLenient());
+
+        assertEquals(Arrays.asList("1:1-4", "0:2-4", "3:2-6"), getMatches(matcher, "ushers"));
+        assertEquals(Arrays.asList(), getMatches(matcher, "USHERS"));
+
+        assertTrue(matcher.containsAny("ushers"));
+        assertFalse(matcher.containsAny("hi"));
+
+        BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(2);
+
+        assertEquals(expected, matcher.getMatchedPatterns("this, he said"));
+
+        assertThrows(IllegalArgumentException.class, () -> matcher.getPattern(4));
+        assertThrows(IllegalArgumentException.class, () -> matcher.containsAny(null));
+        assertThrows(IllegalArgumentException.class, () -> matcher.match("ushers", null));
+    }
+
+    @Test
+    public void lenientTest() {
+        MultiPatternMatcher matcher = MultiPatternMatcher.compile(Arrays.asList(" She ", "HE", "he"), true);
+
+        assertEquals(Arrays.asList("0:1-4", "1:2-4", "2:2-4"), getMatches(matcher, "uSHErs"));
+        assertEquals(Arrays.asList(), getMatches(matcher, (CharSequence) null));
+
+        MultiPatternMatcher supplementary = MultiPatternMatcher.compile(Arrays.asList("\uD801\uDC00b"), true);
+
+        assertEquals(Arrays.asList("0:1-4"), getMatches(supplementary, "a\uD801\uDC28B"));
+    }
+
+    @Test
+    public void compileTest() {
+        assertThrows(IllegalArgumentException.class, () -> MultiPatternMatcher.compile(null, false));
+        assertThrows(IllegalArgumentException.class, () -> MultiPatternMatcher.compile(Arrays.asList("a", null), true));
+        assertThrows(IllegalArgumentException.class, () -> MultiPatternMatcher.compile(Arrays.asList("a", ""), false));
+        assertThrows(IllegalArgumentException.class, () -> MultiPatternMatcher.compile(Arrays.asList("a", " "), true));
+
+        assertEquals(1, MultiPatternMatcher.compile(Arrays.asList(" "), false).getPatternCount());
+    }
+
+    @Test
+    public void stopTest() {
+        MultiPatternMatcher matcher = MultiPatternMatcher.compile(Arrays.asList("a"), false);
+
+        int[] count = new int[1];
+
+        matcher.match("aaaa", (pattern, start, end) -> ++count[0] < 2);
+
+        assertEquals(2, count[0]);
+    }
+
+    @Test
+    public void readerTest() throws IOException {
+        MultiPatternMatcher matcher = MultiPatternMatcher.compile(Arrays.asList("\uD801\uDC00", "x\uD801"), false);
+
+        String text = "x\uD801\uDC00x\uD801x\uD801";
+
+        List<String> expected = getMatches(matcher, text);
+
+        assertEquals(Arrays.asList("0:1-3", "1:3-5", "1:5-7"), expected);
+
+        for (int chunk = 1; chunk <= 4; chunk++) {
+            assertEquals(expected, getMatches(matcher, new ChunkedReader(text, chunk)));
+        }
+
+        assertThrows(IllegalArgumentException.class,
+                () -> matcher.match((Reader) null, (pattern, start, end) -> true));
+    }
+
+    @Test
+    public void randomizedEquivalenceTest() throws IOException {
+        Random random = new Random(11);
+
+        for (int i = 0; i < 500; i++) {
+            List<String> patterns = new ArrayList<>();
+
+            for (int count = 1 + random.nextInt(20); count > 0; count--) {
+                patterns.add(getRandomString(random, 1 + random.nextInt(5)));
+            }
+
+            String text = getRandomString(random, random.nextInt(200));
+
+            for (boolean lenient : new boolean[] {true, false}) {
+                MultiPatternMatcher matcher = MultiPatternMatcher.compile(patterns, lenient);
+
+                List<String> expected = getReferenceMatches(patterns, text, lenient);
+
+                assertEquals(expected, getMatches(matcher, text));
+                assertEquals(expected, getMatches(matcher, new ChunkedReader(text, 1 + random.nextInt(7))));
+            }
+        }
+    }
+
+    private static String getRandomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder();
+
+        for (; length > 0; length--) {
+            builder.append("abAB".charAt(random.nextInt(4)));
+        }
+
+        return builder.toString();
+    }
+
+    /*
+     * Occurrences in order of end position, then longest first, then in order of the pattern index.
+     */
+    private static List<String> getReferenceMatches(List<String> patterns, String text, boolean lenient) {
+        List<String> matches = new ArrayList<>();
+
+        String haystack = lenient ? text.toLowerCase() : text;
+
+        for (int end = 1; end <= text.length(); end++) {
+            for (int start = 0; start < end; start++) {
+                for (int pattern = 0; pattern < patterns.size(); pattern++) {
+                    String needle = lenient ? patterns.get(pattern).trim().toLowerCase() : patterns.get(pattern);
+
+                    if (needle.length() == end - start && haystack.startsWith(needle, start)) {
+                        matches.add(pattern + ":" + start + "-" + end);
+                    }
+                }
+            }
+        }
+
+        return matches;
+    }
+
+    private static List<String> getMatches(MultiPatternMatcher matcher, CharSequence text) {
+        List<String> matches = new ArrayList<>();
+
+        matcher.match(text, (pattern, start, end) -> matches.add(pattern + ":" + start + "-" + end));
+
+        return matches;
+    }
+
+    private static List<String> getMatches(MultiPatternMatcher matcher, Reader reader) throws IOException {
+        List<String> matches = new ArrayList<>();
+
+        matcher.match(reader, (pattern, start, end) -> matches.add(pattern + ":" + start + "-" + end));
+
+        return matches;
+    }
+
+    /*
+     * A reader that returns at most the specified number of chars per read, to split surrogate pairs between reads.
+     */
+    private static final class ChunkedReader extends StringReader {
+        private final int chunk;
+
+        private ChunkedReader(String text, int chunk) {
+            super(text);
+
+            this.chunk = chunk;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            return super.read(buffer, offset, Math.min(length, chunk));
+        }
+    }
+}
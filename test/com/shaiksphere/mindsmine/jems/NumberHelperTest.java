@@ -20,9 +20,20 @@ import org.junit.Test;
 
 import org.junit.function.ThrowingRunnable;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThrows;
@@ -112,6 +123,72 @@ public class NumberHelperTest {
         ).forEach(num -> assertFalse(NumberHelper.isPerfectSquare(num)));
     }
 
+    @Test
+    public void isPerfectSquarePrimitiveTest() {
+        long maxRoot = 3037000499L;
+
+        assertTrue(NumberHelper.isPerfectSquare(maxRoot * maxRoot));
+        assertFalse(NumberHelper.isPerfectSquare(maxRoot * maxRoot - 1));
+        assertFalse(NumberHelper.isPerfectSquare(maxRoot * maxRoot + 1));
+        assertFalse(NumberHelper.isPerfectSquare(Long.MAX_VALUE));
+        assertFalse(NumberHelper.isPerfectSquare(Long.MIN_VALUE));
+        assertFalse(NumberHelper.isPerfectSquare(-4L));
+
+        // Reported as squares when computed in double precision
+        assertTrue(NumberHelper.isPerfectSquare(94906267L * 94906267L));
+        assertFalse(NumberHelper.isPerfectSquare(94906267L * 94906267L - 1));
+        assertFalse(NumberHelper.isPerfectSquare(Long.valueOf(94906267L * 94906267L - 1)));
+        assertFalse(NumberHelper.isPerfectSquare((Long) null));
+
+        Random random = new Random(17);
+
+        for (int i = 0; i < 100000; i++) {
+            long root = (i % 2 == 0) ? random.nextInt(1 << 20) : (long) (random.nextDouble() * maxRoot);
+            long value = root * root + random.nextInt(3) - 1;
+
+            BigInteger bigValue = BigInteger.valueOf(value);
+            boolean expected = value >= 0 && bigValue.sqrt().pow(2).equals(bigValue);
+
+            assertEquals(String.valueOf(value), expected, NumberHelper.isPerfectSquare(value));
+        }
+    }
+
+    @Test
+    public void isPerfectSquareBigIntegerTest() {
+        assertTrue(NumberHelper.isPerfectSquare(BigInteger.TEN.pow(40)));
+        assertFalse(NumberHelper.isPerfectSquare(BigInteger.TEN.pow(41)));
+        assertFalse(NumberHelper.isPerfectSquare(BigInteger.TEN.pow(40).add(BigInteger.ONE)));
+        assertFalse(NumberHelper.isPerfectSquare(BigInteger.TEN.pow(40).negate()));
+        assertTrue(NumberHelper.isPerfectSquare(BigInteger.valueOf(81)));
+        assertFalse(NumberHelper.isPerfectSquare((BigInteger) null));
+
+        Random random = new Random(19);
+
+        for (int i = 0; i < 10000; i++) {
+            BigInteger root = new BigInteger(40 + random.nextInt(80), random);
+            BigInteger value = root.pow(2).add(BigInteger.valueOf(random.nextInt(3) - 1));
+
+            assertEquals(value.toString(), value.sqrt().pow(2).equals(value), NumberHelper.isPerfectSquare(value));
+        }
+    }
+
+    @Test
+    public void getPerfectSquaresTest() {
+        long[] values = new long[100000];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i - 10;
+        }
+
+        long[] expected = LongStream.range(0, 317).map(root -> root * root).toArray();
+
+        assertArrayEquals(expected, NumberHelper.getPerfectSquares(values, false));
+        assertArrayEquals(expected, NumberHelper.getPerfectSquares(values, true));
+        assertArrayEquals(new long[] {16, 0, 16}, NumberHelper.getPerfectSquares(new long[] {16, 17, -4, 0, 16}, true));
+
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.getPerfectSquares(null, true));
+    }
+
     @Test
     public void getNumOfDigitsTest() {
         Arrays.asList(
@@ -122,6 +199,60 @@ public class NumberHelperTest {
         ).forEach(arr -> assertEquals(arr[0], NumberHelper.getNumOfDigits(arr[1])));
     }
 
+    @Test
+    public void getNumOfDigitsEquivalenceTest() {
+        Random random = new Random(23);
+
+        List<Long> values = new ArrayList<>(Arrays.asList(
+                0L, 1L, -1L, 9L, 10L, 99L, 100L,
+                (long) Integer.MAX_VALUE, (long) Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE
+        ));
+
+        for (long power = 1; power > 0 && power <= Long.MAX_VALUE / 10; power *= 10) {
+            Collections.addAll(values, power - 1, power, power + 1, -power, 10 * power - 1);
+        }
+
+        for (int i = 0; i < 10000; i++) {
+            values.add(random.nextLong() >> random.nextInt(64));
+        }
+
+        for (long value : values) {
+            String digits = Long.toString(value).replace("-", "");
+
+            assertEquals(digits, digits.length(), NumberHelper.getNumOfDigits(value));
+            assertEquals(digits, digits.length(), NumberHelper.getNumOfDigits(BigInteger.valueOf(value)));
+
+            assertEquals(Long.toUnsignedString(value).length(), NumberHelper.getNumOfUnsignedDigits(value));
+
+            int intValue = (int) value;
+
+            assertEquals(Integer.toString(intValue).replace("-", "").length(), NumberHelper.getNumOfDigits(intValue));
+            assertEquals(Integer.toUnsignedString(intValue).length(), NumberHelper.getNumOfUnsignedDigits(intValue));
+
+            for (int radix = Character.MIN_RADIX; radix <= Character.MAX_RADIX; radix++) {
+                assertEquals(
+                        Long.toString(value, radix).replace("-", "").length(),
+                        NumberHelper.getNumOfDigits(value, radix)
+                );
+            }
+        }
+    }
+
+    @Test
+    public void getNumOfDigitsBigIntegerTest() {
+        BigInteger power = BigInteger.ONE;
+
+        for (int exponent = 0; exponent < 400; exponent++, power = power.multiply(BigInteger.TEN)) {
+            assertEquals(exponent + 1, NumberHelper.getNumOfDigits(power));
+            assertEquals(exponent + 1, NumberHelper.getNumOfDigits(power.negate()));
+            assertEquals(Math.max(exponent, 1), NumberHelper.getNumOfDigits(power.subtract(BigInteger.ONE)));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.getNumOfDigits((BigInteger) null));
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.getNumOfDigits(10L, 1));
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.getNumOfDigits(10L, 37));
+    }
+
     @Test
     public void getUniqueRandomNumbersNegativeNumberExceptionTest() {
         final String errorMessage = "Negative number is not allowed as an argument.";
@@ -198,6 +329,466 @@ public class NumberHelperTest {
         assertTrue(areUniqueValues(array2));
     }
 
+    @Test
+    public void getUniqueRandomNumbersSeedTest() {
+        assertArrayEquals(
+                NumberHelper.getUniqueRandomNumbers(lowerBound, upperBound, arraySize, 42L),
+                NumberHelper.getUniqueRandomNumbers(lowerBound, upperBound, arraySize, 42L)
+        );
+
+        assertArrayEquals(
+                NumberHelper.getUniqueRandomNumbers(0, Integer.MAX_VALUE, 1000, 42L),
+                NumberHelper.getUniqueRandomNumbers(0, Integer.MAX_VALUE, 1000, 42L)
+        );
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> NumberHelper.getUniqueRandomNumbers(lowerBound, upperBound, -1, 42L)
+        );
+    }
+
+    @Test
+    public void getUniqueRandomNumbersRangeTest() {
+        // Dense, the whole range, and sparse, a small part of a large range
+        for (int[] arr : new int[][] {{5, 1005, 1000}, {5, 1005, 600}, {0, Integer.MAX_VALUE, 100000}}) {
+            int[] numbers = NumberHelper.getUniqueRandomNumbers(arr[0], arr[1], arr[2]);
+
+            assertEquals(arr[2], numbers.length);
+            assertTrue(areUniqueValues(numbers));
+            assertTrue(Arrays.stream(numbers).allMatch(num -> num >= arr[0] && num < arr[1]));
+        }
+
+        assertEquals(0, NumberHelper.getUniqueRandomNumbers(lowerBound, upperBound, 0).length);
+    }
+
+    @Test
+    public void getUniqueRandomNumbersDistributionTest() {
+        // Every value of the range is drawn about as often, for both the dense and the sparse shuffle
+        for (int arraySize : new int[] {2, 9}) {
+            int[] counts = new int[10];
+
+            for (int seed = 0; seed < 20000; seed++) {
+                for (int num : NumberHelper.getUniqueRandomNumbers(0, 10, arraySize, seed)) {
+                    counts[num]++;
+                }
+            }
+
+            for (int count : counts) {
+                assertEquals(20000 * arraySize / 10.0, count, 20000 * arraySize / 100.0);
+            }
+        }
+    }
+
+    @Test
+    public void getUniqueRandomStreamTest() {
+        long[] values = NumberHelper.getUniqueRandomStream(lowerBound, upperBound, 42L).toArray();
+
+        assertEquals(upperBound - lowerBound, values.length);
+        assertArrayEquals(LongStream.range(lowerBound, upperBound).toArray(), LongStream.of(values).sorted().toArray());
+
+        assertArrayEquals(values, NumberHelper.getUniqueRandomStream(lowerBound, upperBound, 42L).toArray());
+        assertArrayEquals(values, NumberHelper.getUniqueRandomStream(lowerBound, upperBound, 42L).parallel().toArray());
+        assertEquals(upperBound - lowerBound, NumberHelper.getUniqueRandomStream(lowerBound, upperBound).count());
+
+        long lower = 1L << 50;
+        long upper = lower + (1L << 40) + 7;
+
+        long[] sample = NumberHelper.getUniqueRandomStream(lower, upper, 7L).parallel().limit(100000).toArray();
+
+        assertEquals(100000, LongStream.of(sample).distinct().count());
+        assertTrue(LongStream.of(sample).allMatch(value -> value >= lower && value < upper));
+
+        assertEquals(2, NumberHelper.getUniqueRandomStream(Long.MAX_VALUE - 2, Long.MAX_VALUE).limit(2).count());
+
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.getUniqueRandomStream(-1L, 10L, 42L));
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.getUniqueRandomStream(10L, 10L, 42L));
+    }
+
+    @Test
+    public void fillRandomTest() {
+        int length = 3 * ParallelRandom.CHUNK_SIZE + 5;
+
+        int[] ints1 = new int[length];
+        int[] ints2 = new int[length];
+
+        NumberHelper.fillRandom(ints1, 42L, false);
+        NumberHelper.fillRandom(ints2, 42L, true);
+
+        assertArrayEquals(ints1, ints2);
+
+        NumberHelper.fillRandom(ints2, 43L, true);
+
+        assertFalse(Arrays.equals(ints1, ints2));
+
+        long[] longs1 = new long[length];
+        long[] longs2 = new long[length];
+
+        NumberHelper.fillRandom(longs1, 42L, false);
+        NumberHelper.fillRandom(longs2, 42L, true);
+
+        assertArrayEquals(longs1, longs2);
+
+        double[] doubles1 = new double[length];
+        double[] doubles2 = new double[length];
+
+        NumberHelper.fillRandom(doubles1, 42L, false);
+        NumberHelper.fillRandom(doubles2, 42L, true);
+
+        assertArrayEquals(doubles1, doubles2, 0.0d);
+        assertTrue(Arrays.stream(doubles1).allMatch(value -> value >= 0.0d && value < 1.0d));
+        assertEquals(0.5d, Arrays.stream(doubles1).average().orElse(0.0d), 0.01d);
+
+        NumberHelper.fillRandom(new int[0], 42L, true);
+
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.fillRandom((int[]) null, 42L, true));
+    }
+
+    @Test
+    public void shuffleTest() {
+        for (int length : new int[] {0, 1, 1000, 5 * ParallelRandom.CHUNK_SIZE + 7}) {
+            int[] ints1 = IntStream.range(0, length).toArray();
+            int[] ints2 = ints1.clone();
+
+            NumberHelper.shuffle(ints1, 42L, false);
+            NumberHelper.shuffle(ints2, 42L, true);
+
+            assertArrayEquals(ints1, ints2);
+            assertArrayEquals(IntStream.range(0, length).toArray(), IntStream.of(ints1).sorted().toArray());
+
+            long[] longs = LongStream.range(0, length).toArray();
+            double[] doubles = LongStream.range(0, length).asDoubleStream().toArray();
+
+            NumberHelper.shuffle(longs, 42L, true);
+            NumberHelper.shuffle(doubles, 42L, true);
+
+            // The order only depends on the seed and the length, not on the type of the array
+            assertArrayEquals(IntStream.of(ints1).asLongStream().toArray(), longs);
+            assertArrayEquals(IntStream.of(ints1).asDoubleStream().toArray(), doubles, 0.0d);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.shuffle((long[]) null, 42L, true));
+    }
+
+    @Test
+    public void shuffleDistributionTest() {
+        // Each of the first elements lands in each quarter of the array about as often, through the buckets
+        int length = 2 * ParallelRandom.CHUNK_SIZE + 1;
+
+        int[] quarters = new int[4];
+
+        for (long seed = 0; seed < 40; seed++) {
+            int[] array = IntStream.range(0, length).toArray();
+
+            NumberHelper.shuffle(array, seed, true);
+
+            for (int i = 0; i < length; i++) {
+                if (array[i] < 1000) {
+                    quarters[(int) (4L * i / length)]++;
+                }
+            }
+        }
+
+        for (int quarter : quarters) {
+            assertEquals(10000, quarter, 500);
+        }
+    }
+
+    @Test
+    public void parseIntTest() {
+        assertEquals(-42, NumberHelper.parseInt("-42", 0));
+        assertEquals(42, NumberHelper.parseInt("+42", 0));
+        assertEquals(Integer.MAX_VALUE, NumberHelper.parseInt("2147483647", 0));
+        assertEquals(Integer.MIN_VALUE, NumberHelper.parseInt("-2147483648", 0));
+        assertEquals(17650, NumberHelper.parseInt("id=17650;", 3, 8, -1));
+        assertEquals(17650, NumberHelper.parseInt(new StringBuilder("0017650"), 0));
+
+        Arrays.asList(
+                null, "", "-", "+", "--1", "4x2", " 42", "42 ", "2147483648", "-2147483649", "99999999999",
+                "\u0664\u0662"
+        ).forEach(str -> assertEquals(-1, NumberHelper.parseInt(str, -1)));
+
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.parseInt("42", -1, 2, 0));
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.parseInt("42", 0, 3, 0));
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.parseInt("42", 2, 1, 0));
+    }
+
+    @Test
+    public void parseLongTest() {
+        assertEquals(Long.MAX_VALUE, NumberHelper.parseLong("9223372036854775807", 0));
+        assertEquals(Long.MIN_VALUE, NumberHelper.parseLong("-9223372036854775808", 0));
+        assertEquals(-1L, NumberHelper.parseLong("9223372036854775808", -1));
+        assertEquals(-1L, NumberHelper.parseLong("-9223372036854775809", -1));
+        assertEquals(-1L, NumberHelper.parseLong("92233720368547758070", -1));
+        assertEquals(2147483648L, NumberHelper.parseLong("x2147483648", 1, 11, 0));
+
+        Random random = new Random(42);
+
+        for (int i = 0; i < 10000; i++) {
+            long number = random.nextLong() >> random.nextInt(64);
+            String str = Long.toString(number);
+
+            assertEquals(number, NumberHelper.parseLong(str, 0));
+            assertEquals(number == (int) number ? (int) number : 7, NumberHelper.parseInt(str, 7));
+        }
+    }
+
+    @Test
+    public void parseBytesTest() {
+        byte[] bytes = "n=-9223372036854775808,2147483647,x".getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals(Long.MIN_VALUE, NumberHelper.parseLong(bytes, 2, 20, 0));
+        assertEquals(Integer.MAX_VALUE, NumberHelper.parseInt(bytes, 23, 10, 0));
+        assertEquals(-1, NumberHelper.parseInt(bytes, 2, 20, -1));
+        assertEquals(-1, NumberHelper.parseInt(bytes, 33, 1, -1));
+        assertEquals(-1, NumberHelper.parseInt(bytes, 0, 0, -1));
+        assertEquals(-1, NumberHelper.parseInt((byte[]) null, 0, 0, -1));
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 23, 10);
+
+        assertEquals(Integer.MAX_VALUE, NumberHelper.parseInt(buffer, 0));
+        assertEquals(Integer.MAX_VALUE, NumberHelper.parseLong(buffer.slice(), 0));
+        assertEquals(23, buffer.position());
+        assertEquals(-1L, NumberHelper.parseLong(ByteBuffer.allocate(0), -1));
+        assertEquals(-1L, NumberHelper.parseLong((ByteBuffer) null, -1));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(4).put("-123".getBytes(StandardCharsets.US_ASCII));
+
+        assertEquals(-123, NumberHelper.parseInt(direct.flip(), 0));
+
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.parseInt(bytes, -1, 2, 0));
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.parseInt(bytes, 30, 6, 0));
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.parseLong(bytes, 0, -1, 0));
+    }
+
+    @Test
+    public void formatTest() {
+        char[] chars = new char[32];
+
+        assertEquals(5, NumberHelper.format(-1234L, chars, 0));
+        assertEquals("-1234", new String(chars, 0, 5));
+
+        assertEquals(8, NumberHelper.format(0L, chars, 7));
+        assertEquals('0', chars[7]);
+
+        assertEquals(6, NumberHelper.format(-42L, 10, 5, chars, 0));
+        assertEquals("-00042", new String(chars, 0, 6));
+
+        assertEquals(4, NumberHelper.format(255L, 16, 4, chars, 0));
+        assertEquals("00ff", new String(chars, 0, 4));
+
+        assertEquals(5, NumberHelper.format(12345L, 10, 3, chars, 0));
+        assertEquals("12345", new String(chars, 0, 5));
+
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.format(1L, (char[]) null, 0));
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.format(123L, new char[2], 0));
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.format(1L, chars, 32));
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.format(1L, chars, -1));
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.format(1L, 37, 0, chars, 0));
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.format(1L, 10, -1, chars, 0));
+    }
+
+    @Test
+    public void formatEquivalenceTest() {
+        Random random = new Random(42);
+
+        char[] chars = new char[80];
+        byte[] bytes = new byte[80];
+
+        ByteBuffer heap = ByteBuffer.allocate(80);
+        ByteBuffer direct = ByteBuffer.allocateDirect(80);
+
+        List<Long> numbers = new ArrayList<>(Arrays.asList(0L, 1L, -1L, 9L, 10L, 99L, 100L, -100L, Long.MAX_VALUE,
+                Long.MIN_VALUE, (long) Integer.MAX_VALUE, Integer.MAX_VALUE + 1L, (long) Integer.MIN_VALUE));
+
+        for (int i = 0; i < 2000; i++) {
+            numbers.add(random.nextLong() >> random.nextInt(64));
+        }
+
+        for (long number : numbers) {
+            for (int radix = Character.MIN_RADIX; radix <= Character.MAX_RADIX; radix++) {
+                int width = random.nextInt(30);
+
+                String digits = Long.toString(number, radix).replace("-", "");
+                StringBuilder expected = new StringBuilder((number < 0) ? "-" : "");
+
+                for (int i = digits.length(); i < width; i++) {
+                    expected.append('0');
+                }
+
+                expected.append(digits);
+
+                int length = expected.length();
+
+                assertEquals(3 + length, NumberHelper.format(number, radix, width, chars, 3));
+                assertEquals(expected.toString(), new String(chars, 3, length));
+
+                assertEquals(3 + length, NumberHelper.format(number, radix, width, bytes, 3));
+                assertEquals(expected.toString(), new String(bytes, 3, length, StandardCharsets.US_ASCII));
+
+                StringBuilder builder = new StringBuilder("x=");
+
+                assertEquals(2 + length, NumberHelper.format(number, radix, width, builder));
+                assertEquals("x=" + expected, builder.toString());
+
+                for (ByteBuffer buffer : Arrays.asList(heap, direct)) {
+                    buffer.clear().position(1);
+
+                    assertEquals(1 + length, NumberHelper.format(number, radix, width, buffer));
+                    assertEquals(1 + length, buffer.position());
+
+                    byte[] written = new byte[length];
+
+                    buffer.flip().position(1);
+                    buffer.get(written);
+
+                    assertEquals(expected.toString(), new String(written, StandardCharsets.US_ASCII));
+                }
+            }
+
+            StringBuilder builder = new StringBuilder();
+
+            assertEquals(Long.toString(number).length(), NumberHelper.format(number, builder));
+            assertEquals(Long.toString(number), builder.toString());
+        }
+    }
+
+    @Test
+    public void formatBufferTest() {
+        ByteBuffer buffer = ByteBuffer.allocate(4);
+
+        assertEquals(3, NumberHelper.format(-12L, buffer));
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.format(10L, buffer));
+        assertEquals(3, buffer.position());
+
+        assertEquals(2, NumberHelper.format(7L, ByteBuffer.wrap(new byte[8], 1, 7).slice().position(1)));
+
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.format(1L, (ByteBuffer) null));
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.format(1L, (StringBuilder) null));
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.format(1L, (byte[]) null, 0));
+    }
+
+    @Test
+    public void getNullBitmapLengthTest() {
+        assertEquals(0, NumberHelper.getNullBitmapLength(0));
+        assertEquals(1, NumberHelper.getNullBitmapLength(1));
+        assertEquals(1, NumberHelper.getNullBitmapLength(64));
+        assertEquals(2, NumberHelper.getNullBitmapLength(65));
+        assertEquals(33554432, NumberHelper.getNullBitmapLength(Integer.MAX_VALUE));
+
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.getNullBitmapLength(-1));
+    }
+
+    @Test
+    public void getPrimitiveArrayTest() {
+        long[] nulls = new long[] {-1L};
+
+        assertArrayEquals(
+                new int[] {7, 0, 9}, NumberHelper.getPrimitiveArray(new Integer[] {7, null, 9}, nulls, false)
+        );
+        assertArrayEquals(new long[] {2L}, nulls);
+
+        assertArrayEquals(new int[0], NumberHelper.getPrimitiveArray(new Integer[0], new long[0], false));
+        assertArrayEquals(new Integer[] {7, null, 9}, NumberHelper.getBoxedArray(new int[] {7, 0, 9}, nulls, false));
+        assertArrayEquals(new Integer[] {7, 0, 9}, NumberHelper.getBoxedArray(new int[] {7, 0, 9}, null, false));
+
+        assertThrows(
+                IllegalArgumentException.class, () -> NumberHelper.getPrimitiveArray((Integer[]) null, nulls, false)
+        );
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.getPrimitiveArray(new Long[1], null, false));
+        assertThrows(
+                IllegalArgumentException.class, () -> NumberHelper.getPrimitiveArray(new Double[65], nulls, false)
+        );
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.getBoxedArray((double[]) null, null, false));
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.getBoxedArray(new long[65], nulls, false));
+    }
+
+    @Test
+    public void getPrimitiveArrayRoundTripTest() {
+        Random random = new Random(42);
+
+        for (int length : new int[] {1, 63, 64, 65, 1000, 100003}) {
+            Integer[] integers = new Integer[length];
+            Long[] longs = new Long[length];
+            Double[] doubles = new Double[length];
+
+            BitSet expected = new BitSet(length);
+
+            for (int i = 0; i < length; i++) {
+                if (random.nextInt(5) == 0) {
+                    expected.set(i);
+                } else {
+                    integers[i] = random.nextInt();
+                    longs[i] = random.nextLong();
+                    doubles[i] = random.nextDouble();
+                }
+            }
+
+            for (boolean parallel : new boolean[] {false, true}) {
+                long[] nulls = new long[NumberHelper.getNullBitmapLength(length)];
+
+                int[] intValues = NumberHelper.getPrimitiveArray(integers, nulls, parallel);
+
+                assertEquals(expected, BitSet.valueOf(nulls));
+                assertArrayEquals(integers, NumberHelper.getBoxedArray(intValues, nulls, parallel));
+
+                Arrays.fill(nulls, -1L);
+
+                long[] longValues = NumberHelper.getPrimitiveArray(longs, nulls, parallel);
+
+                assertEquals(expected, BitSet.valueOf(nulls));
+                assertArrayEquals(longs, NumberHelper.getBoxedArray(longValues, nulls, parallel));
+
+                double[] doubleValues = NumberHelper.getPrimitiveArray(doubles, nulls, parallel);
+
+                assertEquals(expected, BitSet.valueOf(nulls));
+                assertArrayEquals(doubles, NumberHelper.getBoxedArray(doubleValues, nulls, parallel));
+
+                for (int i = expected.nextSetBit(0); i >= 0; i = expected.nextSetBit(i + 1)) {
+                    assertEquals(0, intValues[i]);
+                    assertEquals(0L, longValues[i]);
+                    assertEquals(0.0, doubleValues[i], 0.0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void getStatisticsTest() {
+        Random random = new Random(42);
+
+        int[] integers = random.ints(100000, -1000, 1000).toArray();
+        long[] longs = Arrays.stream(integers).asLongStream().toArray();
+        double[] doubles = Arrays.stream(integers).asDoubleStream().toArray();
+
+        NumberStatistics expected = new NumberStatistics();
+
+        Arrays.stream(integers).forEach(expected);
+
+        for (boolean parallel : new boolean[] {false, true}) {
+            for (NumberStatistics statistics : Arrays.asList(
+                    NumberHelper.getStatistics(integers, parallel),
+                    NumberHelper.getStatistics(longs, parallel),
+                    NumberHelper.getStatistics(doubles, parallel),
+                    (parallel ? IntStream.of(integers).parallel() : IntStream.of(integers)).boxed().collect(
+                            NumberHelper.toStatistics(Integer::doubleValue)
+                    )
+            )) {
+                assertEquals(expected.getCount(), statistics.getCount());
+                assertEquals(expected.getMin(), statistics.getMin(), 0.0);
+                assertEquals(expected.getMax(), statistics.getMax(), 0.0);
+                assertEquals(expected.getMean(), statistics.getMean(), 1e-9);
+                assertEquals(expected.getVariance(), statistics.getVariance(), 1e-6);
+                assertEquals(expected.getQuantile(0.5), statistics.getQuantile(0.5), 0.0);
+                assertEquals(expected.getQuantile(0.99), statistics.getQuantile(0.99), 0.0);
+            }
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.getStatistics((double[]) null, false));
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.getStatistics((int[]) null, false));
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.getStatistics((long[]) null, true));
+        assertThrows(IllegalArgumentException.class, () -> NumberHelper.toStatistics(null));
+    }
+
     private final int lowerBound = 10;
     private final int upperBound = 81;
     private final int arraySize = 12;
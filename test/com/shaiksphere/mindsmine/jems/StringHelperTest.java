@@ -18,8 +18,15 @@ package com.shaiksphere.mindsmine.jems;
 
 import org.junit.Test;
 
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.BitSet;
+import java.util.Random;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 public class StringHelperTest {
@@ -84,6 +91,150 @@ public class StringHelperTest {
         assertTrue(StringHelper.areEqual("abc", "abc"));
     }
 
+    @Test
+    public void areEqualCharSequenceTest() {
+        assertTrue(StringHelper.areEqual(new StringBuilder(" ABC"), "abc "));
+        assertTrue(StringHelper.areEqual(new StringBuilder("   "), (CharSequence) null));
+        assertFalse(StringHelper.areEqual(new StringBuilder("ab c"), "abc"));
+
+        assertTrue(StringHelper.areEqual(new StringBuilder("abc"), "abc", false));
+        assertFalse(StringHelper.areEqual(new StringBuilder("ABC"), "abc", false));
+        assertFalse(StringHelper.areEqual((CharSequence) null, null, false));
+    }
+
+    @Test
+    public void areEqualCharSequenceEquivalenceTest() {
+        for (String string1 : EQUIVALENCE_STRINGS) {
+            for (String string2 : EQUIVALENCE_STRINGS) {
+                CharSequence chars1 = (string1 == null) ? null : new StringBuilder(string1);
+                CharSequence chars2 = (string2 == null) ? null : new StringBuilder(string2);
+
+                String message = "[" + string1 + "] vs [" + string2 + "]";
+
+                boolean lenient = areEqualReference(string1, string2, true);
+                boolean strict = areEqualReference(string1, string2, false);
+
+                assertEquals(message, lenient, StringHelper.areEqual(string1, string2, true));
+                assertEquals(message, lenient, StringHelper.areEqual(chars1, chars2, true));
+
+                assertEquals(message, strict, StringHelper.areEqual(chars1, chars2, false));
+            }
+        }
+    }
+
+    @Test
+    public void containsAnyTest() {
+        assertTrue(StringHelper.containsAny("ushers", Arrays.asList("she", "his"), false));
+        assertFalse(StringHelper.containsAny("USHERS", Arrays.asList("she", "his"), false));
+        assertTrue(StringHelper.containsAny("USHERS", Arrays.asList(" she ", "his"), true));
+        assertFalse(StringHelper.containsAny(null, Arrays.asList("she", "his"), true));
+        assertFalse(StringHelper.containsAny("ushers", Collections.emptyList(), false));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> StringHelper.containsAny(null, Arrays.asList("she", "his"), false));
+        assertThrows(IllegalArgumentException.class,
+                () -> StringHelper.containsAny("ushers", Arrays.asList("she", " "), true));
+    }
+
+    @Test
+    public void getEditDistanceTest() {
+        assertEquals(3, StringHelper.getEditDistance("kitten", "sitting", false));
+        assertEquals(1, StringHelper.getEditDistance(" ABC", "abd ", true));
+        assertEquals(4, StringHelper.getEditDistance(" ABC", "abd ", false));
+        assertEquals(3, StringHelper.getEditDistance(null, "abc", true));
+        assertEquals(0, StringHelper.getEditDistance(null, "  ", true));
+
+        assertThrows(IllegalArgumentException.class, () -> StringHelper.getEditDistance(null, "abc", false));
+    }
+
+    @Test
+    public void isWithinEditDistanceTest() {
+        assertTrue(StringHelper.isWithinEditDistance("Jonathan", "Johnathan", 1, true));
+        assertFalse(StringHelper.isWithinEditDistance("Jonathan", "Jon", 2, true));
+        assertTrue(StringHelper.isWithinEditDistance(null, "", 0, true));
+        assertFalse(StringHelper.isWithinEditDistance(null, "", 0, false));
+
+        assertThrows(IllegalArgumentException.class, () -> StringHelper.isWithinEditDistance("a", "b", -1, true));
+    }
+
+    @Test
+    public void getLenientHashCodeTest() {
+        assertEquals(0, StringHelper.getLenientHashCode(null));
+        assertEquals(0, StringHelper.getLenientHashCode(" \t"));
+        assertEquals(StringHelper.getLenientHashCode(" abc"),
+                StringHelper.getLenientHashCode(new StringBuilder("ABC ")));
+
+        assertTrue(StringHelper.areEqual("\uD801a\uDC28", " \uD801A\uDC28", true));
+        assertEquals(StringHelper.getLenientHashCode("\uD801a\uDC28"),
+                StringHelper.getLenientHashCode(" \uD801A\uDC28"));
+
+        assertTrue(StringHelper.areEqual("\uD801\uD801\uDC00", "\uD801\uD801\uDC28", true));
+        assertEquals(StringHelper.getLenientHashCode("\uD801\uD801\uDC00"),
+                StringHelper.getLenientHashCode("\uD801\uD801\uDC28"));
+
+        // A pair matched against a differently split pair is outside the guarantee
+        assertTrue(StringHelper.areEqual("\uD801\uD801\uDC28", "\uD801\uDC28\u0131", true));
+
+        for (String string1 : EQUIVALENCE_STRINGS) {
+            for (String string2 : EQUIVALENCE_STRINGS) {
+                if (StringHelper.areEqual(string1, string2, true)) {
+                    assertEquals(
+                            "[" + string1 + "] vs [" + string2 + "]",
+                            StringHelper.getLenientHashCode(string1),
+                            StringHelper.getLenientHashCode(string2)
+                    );
+                }
+            }
+        }
+    }
+
+    private static final String[] EQUIVALENCE_STRINGS = {
+            null,
+            "",
+            " ",
+            "\t\n ",
+            "\u2003",
+            "\u0000",
+            "\u0001",
+            " \u0000abc",
+            "abc",
+            " abc",
+            "ABC ",
+            "ab c",
+            "abcd",
+            "\u00DF",
+            "SS",
+            "\u0130",
+            "\u0131",
+            "i",
+            "I",
+            "\u03A3",
+            "\u03C3",
+            "\u03C2",
+            "\u10A0",
+            "\u2D00",
+            "\uD801\uDC00",
+            "\uD801\uDC28",
+            " \uD801\uDC28 ",
+            "\uD801",
+            "\uDC00",
+            "x\uD801\uDC00y",
+            "X\uD801\uDC28Y"
+    };
+
+    /*
+     * The original String based implementation, kept as the reference for the CharSequence based one.
+     */
+    private static boolean areEqualReference(String string1, String string2, boolean lenient) {
+        if (lenient) {
+            return  StringHelper.getNullSafe(string1).isBlank() && StringHelper.getNullSafe(string2).isBlank() ||
+                    !(StringHelper.getNullSafe(string1).isBlank() || StringHelper.getNullSafe(string2).isBlank()) &&
+                    string1.trim().equalsIgnoreCase(string2.trim());
+        }
+
+        return string1 != null && string1.equals(string2);
+    }
+
     @Test
     public void isOnlyDigitsTest() {
         assertFalse(StringHelper.isOnlyDigits(null));
@@ -95,6 +246,41 @@ public class StringHelperTest {
         assertTrue(StringHelper.isOnlyDigits("17650"));
     }
 
+    @Test
+    public void isOnlyDigitsCharSequenceTest() {
+        assertFalse(StringHelper.isOnlyDigits((CharSequence) null));
+        assertFalse(StringHelper.isOnlyDigits(new StringBuilder()));
+        assertFalse(StringHelper.isOnlyDigits(new StringBuilder(" 123")));
+        assertFalse(StringHelper.isOnlyDigits(new StringBuilder("12a")));
+        assertFalse(StringHelper.isOnlyDigits(new StringBuilder("/:")));
+        assertFalse(StringHelper.isOnlyDigits(new StringBuilder("\u0661\u0662")));
+
+        assertTrue(StringHelper.isOnlyDigits(new StringBuilder("0123456789")));
+
+        for (String string : new String[] {"", "0", "9", "/", ":", "1 2", "-1", "+1", "\u0660", "\uFF10", "007"}) {
+            assertEquals(string, string.matches("\\d+"), StringHelper.isOnlyDigits(string));
+        }
+    }
+
+    @Test
+    public void areOnlyDigitsTest() {
+        String[] strings = {"17650", null, "11.67", "42", "", " "};
+
+        BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(3);
+
+        assertEquals(expected, StringHelper.areOnlyDigits(strings));
+        assertEquals(expected, StringHelper.areOnlyDigits(Arrays.asList(strings)));
+        assertEquals(expected, StringHelper.areOnlyDigits(Arrays.<CharSequence>asList(
+                new StringBuilder("17650"), null, "11.67", new StringBuilder("42"), "", " "
+        )));
+
+        assertTrue(StringHelper.areOnlyDigits(new String[0]).isEmpty());
+
+        assertThrows(IllegalArgumentException.class, () -> StringHelper.areOnlyDigits((String[]) null));
+    }
+
     @Test
     public void isPalindromeLenientTest() {
         assertTrue(StringHelper.isPalindrome(null, true));
@@ -122,6 +308,51 @@ public class StringHelperTest {
         assertFalse(StringHelper.isPalindrome("Madam", false));
         assertFalse(StringHelper.isPalindrome("hello", false));
     }
+
+    @Test
+    public void isPalindromeCharSequenceTest() {
+        assertTrue(StringHelper.isPalindrome(new StringBuilder(" Madam ")));
+        assertFalse(StringHelper.isPalindrome(new StringBuilder("hello")));
+
+        assertTrue(StringHelper.isPalindrome(new StringBuilder("a\uD801\uDC00b\uD801\uDC28A"), true));
+        assertFalse(StringHelper.isPalindrome(new StringBuilder("a\uD801\uDC00b\uD801\uDC28A"), false));
+        assertTrue(StringHelper.isPalindrome(new StringBuilder("a\uD801\uDC00b\uD801\uDC00a"), false));
+
+        assertTrue(StringHelper.isPalindrome(CharBuffer.wrap("never odd or even".replace(" ", "")), false));
+        assertFalse(StringHelper.isPalindrome((CharSequence) null, false));
+    }
+
+    @Test
+    public void isPalindromeEquivalenceTest() {
+        final String[] alphabet = {
+                "a", "A", "b", "B", " ", "\u0000", "\u2003", "\u03C3", "\u03A3", "\u03C2",
+                "\uD801\uDC00", "\uD801\uDC28"
+        };
+
+        Random random = new Random(17);
+
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder builder = new StringBuilder();
+
+            for (int length = random.nextInt(7); length > 0; length--) {
+                builder.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+
+            if (random.nextBoolean()) {
+                String half = builder.toString();
+                builder.append(new StringBuilder(half).reverse());
+            }
+
+            String string = builder.toString();
+            String reverse = new StringBuilder(string).reverse().toString();
+
+            assertEquals(string, StringHelper.areEqual(string, reverse, true),
+                    StringHelper.isPalindrome(builder, true));
+            assertEquals(string, StringHelper.areEqual(string, reverse, false),
+                    StringHelper.isPalindrome(builder, false));
+        }
+    }
+
     @Test
     public void isPalindromeTest() {
         assertTrue(StringHelper.isPalindrome(null));
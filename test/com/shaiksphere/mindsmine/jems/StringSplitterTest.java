@@ -0,0 +1,114 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class StringSplitterTest {
+
+    @Test
+    public void splitTest() {
+        StringSplitter splitter = new StringSplitter(',');
+
+        assertEquals(',', splitter.getDelimiter());
+        assertFalse(splitter.next());
+
+        assertEquals(Arrays.asList("42", "abc", " 17", "", ""), getFields(splitter.reset("42,abc, 17,,")));
+        assertEquals(Arrays.asList(""), getFields(splitter.reset("")));
+        assertEquals(Arrays.asList("", ""), getFields(splitter.reset(",")));
+        assertEquals(Arrays.asList("a b"), getFields(splitter.reset(new StringBuilder("a b"))));
+
+        assertThrows(IllegalArgumentException.class, () -> splitter.reset(null));
+    }
+
+    @Test
+    public void fieldTest() {
+        StringSplitter splitter = new StringSplitter(';').reset("x;12345;ABC ");
+
+        assertThrows(IllegalStateException.class, splitter::getField);
+
+        assertTrue(splitter.next());
+
+        CharSequence field = splitter.getField();
+
+        assertTrue(splitter.next());
+
+        assertSame(field, splitter.getField());
+        assertEquals(1, splitter.getFieldIndex());
+        assertEquals(2, splitter.getFieldStart());
+        assertEquals(7, splitter.getFieldEnd());
+
+        assertEquals(5, field.length());
+        assertEquals('3', field.charAt(2));
+        assertEquals("234", field.subSequence(1, 4).toString());
+        assertEquals("12345", field.toString());
+        assertTrue(StringHelper.isOnlyDigits(field));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> field.charAt(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> field.charAt(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> field.subSequence(2, 6));
+
+        assertTrue(splitter.next());
+
+        assertTrue(StringHelper.areEqual(field, "abc", true));
+        assertFalse(StringHelper.areEqual(field, "ABC", false));
+
+        assertFalse(splitter.next());
+
+        assertThrows(IllegalStateException.class, splitter::getFieldIndex);
+    }
+
+    @Test
+    public void randomizedEquivalenceTest() {
+        Random random = new Random(5);
+
+        StringSplitter splitter = new StringSplitter('|');
+
+        for (int i = 0; i < 1000; i++) {
+            StringBuilder builder = new StringBuilder();
+
+            for (int length = random.nextInt(20); length > 0; length--) {
+                builder.append("ab|".charAt(random.nextInt(3)));
+            }
+
+            String string = builder.toString();
+
+            assertEquals(string, Arrays.asList(string.split("\\|", -1)), getFields(splitter.reset(string)));
+        }
+    }
+
+    private static List<String> getFields(StringSplitter splitter) {
+        List<String> fields = new ArrayList<>();
+
+        while (splitter.next()) {
+            fields.add(splitter.getField().toString());
+        }
+
+        return fields;
+    }
+}
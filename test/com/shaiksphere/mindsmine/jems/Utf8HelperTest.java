@@ -0,0 +1,148 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class Utf8HelperTest {
+
+    private static final byte[][] UNITS = {
+            {'a'}, {'A'}, {'0'}, {'9'}, {' '}, {'\t'}, {0},
+            {(byte) 0xC3, (byte) 0xA9},                             // U+00E9
+            {(byte) 0xC3, (byte) 0x89},                             // U+00C9
+            {(byte) 0xE2, (byte) 0x80, (byte) 0x83},                // U+2003, whitespace
+            {(byte) 0xCF, (byte) 0x83},                             // U+03C3
+            {(byte) 0xCE, (byte) 0xA3},                             // U+03A3
+            {(byte) 0xF0, (byte) 0x90, (byte) 0x90, (byte) 0x80},   // U+10400
+            {(byte) 0xF0, (byte) 0x90, (byte) 0x90, (byte) 0xA8},   // U+10428
+            {(byte) 0x80}, {(byte) 0xC0}, {(byte) 0xE0}, {(byte) 0xED}, {(byte) 0xF0}, {(byte) 0xF4}, {(byte) 0xFF},
+            {(byte) 0xA0}, {(byte) 0x90}, {(byte) 0xBF}
+    };
+
+    @Test
+    public void isBlankTest() {
+        assertTrue(Utf8Helper.isBlank((byte[]) null));
+        assertTrue(Utf8Helper.isBlank((ByteBuffer) null));
+        assertTrue(Utf8Helper.isBlank(new byte[0]));
+        assertTrue(Utf8Helper.isBlank(" \t".getBytes(UTF_8)));
+        assertTrue(Utf8Helper.isBlank(new byte[] {(byte) 0xE2, (byte) 0x80, (byte) 0x83}));
+        assertFalse(Utf8Helper.isBlank(" a ".getBytes(UTF_8)));
+        assertTrue(Utf8Helper.isBlank(" a ".getBytes(UTF_8), 2, 1));
+
+        assertThrows(IllegalArgumentException.class, () -> Utf8Helper.isBlank(null, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> Utf8Helper.isBlank(new byte[2], 1, 2));
+    }
+
+    @Test
+    public void isOnlyDigitsTest() {
+        assertTrue(Utf8Helper.isOnlyDigits("17650".getBytes(UTF_8)));
+        assertFalse(Utf8Helper.isOnlyDigits("11.67".getBytes(UTF_8)));
+        assertFalse(Utf8Helper.isOnlyDigits(new byte[0]));
+        assertFalse(Utf8Helper.isOnlyDigits((byte[]) null));
+        assertFalse(Utf8Helper.isOnlyDigits((ByteBuffer) null));
+        assertTrue(Utf8Helper.isOnlyDigits("a42b".getBytes(UTF_8), 1, 2));
+        assertFalse(Utf8Helper.isOnlyDigits("a42b".getBytes(UTF_8), 1, 0));
+
+        assertThrows(IllegalArgumentException.class, () -> Utf8Helper.isOnlyDigits(new byte[2], -1, 1));
+    }
+
+    @Test
+    public void areEqualTest() {
+        assertTrue(Utf8Helper.areEqual(" ABC".getBytes(UTF_8), "abc ".getBytes(UTF_8), true));
+        assertTrue(Utf8Helper.areEqual("   ".getBytes(UTF_8), null, true));
+        assertTrue(Utf8Helper.areEqual((byte[]) null, null, true));
+        assertFalse(Utf8Helper.areEqual((byte[]) null, null, false));
+        assertFalse(Utf8Helper.areEqual("ABC".getBytes(UTF_8), "abc".getBytes(UTF_8), false));
+
+        // Different malformed sequences decode to the same replacement character
+        assertTrue(Utf8Helper.areEqual(new byte[] {(byte) 0x80}, new byte[] {(byte) 0xFF}, false));
+    }
+
+    @Test
+    public void bufferTest() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(8);
+
+        buffer.put("x 123 yz".getBytes(UTF_8));
+        buffer.position(2).limit(5);
+
+        assertTrue(Utf8Helper.isOnlyDigits(buffer));
+        assertFalse(Utf8Helper.isBlank(buffer));
+        assertTrue(Utf8Helper.areEqual(buffer, ByteBuffer.wrap("123".getBytes(UTF_8)), false));
+
+        assertEquals(2, buffer.position());
+        assertEquals(5, buffer.limit());
+    }
+
+    @Test
+    public void randomizedEquivalenceTest() {
+        Random random = new Random(13);
+
+        for (int i = 0; i < 20000; i++) {
+            byte[] bytes1 = getRandomBytes(random);
+            byte[] bytes2 = (i % 4 == 0) ? bytes1.clone() : getRandomBytes(random);
+
+            String string1 = new String(bytes1, UTF_8);
+            String string2 = new String(bytes2, UTF_8);
+
+            assertEquals(string1, string1.isBlank(), Utf8Helper.isBlank(bytes1));
+            assertEquals(string1, string1.isBlank(), Utf8Helper.isBlank(toDirect(bytes1)));
+            assertEquals(string1, StringHelper.isOnlyDigits(string1), Utf8Helper.isOnlyDigits(bytes1));
+            assertEquals(string1, StringHelper.isOnlyDigits(string1), Utf8Helper.isOnlyDigits(toDirect(bytes1)));
+
+            for (boolean lenient : new boolean[] {true, false}) {
+                boolean expected = StringHelper.areEqual(string1, string2, lenient);
+
+                assertEquals(string1 + " vs " + string2, expected, Utf8Helper.areEqual(bytes1, bytes2, lenient));
+                assertEquals(expected, Utf8Helper.areEqual(toDirect(bytes1), toDirect(bytes2), lenient));
+            }
+        }
+    }
+
+    private static byte[] getRandomBytes(Random random) {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        for (int count = random.nextInt(12); count > 0; count--) {
+            byte[] unit = UNITS[random.nextInt((random.nextInt(4) == 0) ? UNITS.length : 14)];
+
+            buffer.put(unit);
+        }
+
+        byte[] bytes = new byte[buffer.position()];
+
+        buffer.flip().get(bytes);
+
+        return bytes;
+    }
+
+    private static ByteBuffer toDirect(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length + 2);
+
+        buffer.put((byte) 0xE2).put(bytes).put((byte) 'x');
+        buffer.position(1).limit(bytes.length + 1);
+
+        return buffer;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems.collections;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class IntHashSetTest {
+
+    @Test
+    public void addTest() {
+        IntHashSet set = new IntHashSet();
+
+        assertTrue(set.isEmpty());
+
+        assertTrue(set.add(42));
+        assertFalse(set.add(42));
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.add(-1));
+        assertTrue(set.add(Integer.MIN_VALUE));
+        assertTrue(set.add(Integer.MAX_VALUE));
+
+        assertEquals(5, set.size());
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(Integer.MIN_VALUE));
+        assertFalse(set.contains(1));
+
+        int[] values = set.toArray();
+
+        Arrays.sort(values);
+
+        assertArrayEquals(new int[] {Integer.MIN_VALUE, -1, 0, 42, Integer.MAX_VALUE}, values);
+    }
+
+    @Test
+    public void removeTest() {
+        IntHashSet set = new IntHashSet(0, 0.9f);
+
+        assertFalse(set.remove(0));
+
+        for (int i = 0; i < 1000; i++) {
+            set.add(i);
+        }
+
+        for (int i = 0; i < 1000; i += 2) {
+            assertTrue(set.remove(i));
+            assertFalse(set.remove(i));
+        }
+
+        assertEquals(500, set.size());
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 1, set.contains(i));
+        }
+
+        set.clear();
+
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(1));
+        assertEquals(0, set.toArray().length);
+    }
+
+    @Test
+    public void equivalenceTest() {
+        Random random = new Random(42);
+
+        IntHashSet set = new IntHashSet(4);
+        Set<Integer> expected = new HashSet<>();
+
+        for (int i = 0; i < 200000; i++) {
+            int value = random.nextInt(2000) - 1000;
+
+            switch (random.nextInt(3)) {
+                case 0:
+                    assertEquals(expected.add(value), set.add(value));
+                    break;
+                case 1:
+                    assertEquals(expected.remove(value), set.remove(value));
+                    break;
+                default:
+                    assertEquals(expected.contains(value), set.contains(value));
+            }
+
+            assertEquals(expected.size(), set.size());
+        }
+
+        Set<Integer> actual = new HashSet<>();
+
+        set.forEach(value -> assertTrue(actual.add(value)));
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void exceptionsTest() {
+        assertThrows(IllegalArgumentException.class, () -> new IntHashSet(-1));
+        assertThrows(IllegalArgumentException.class, () -> new IntHashSet(16, 0f));
+        assertThrows(IllegalArgumentException.class, () -> new IntHashSet(16, 1f));
+        assertThrows(IllegalArgumentException.class, () -> new IntHashSet(16, Float.NaN));
+    }
+}
@@ -0,0 +1,61 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems.collections;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class LenientStringKeyTest {
+
+    @Test
+    public void equalsTest() {
+        assertEquals(new LenientStringKey(null), new LenientStringKey("   "));
+        assertEquals(new LenientStringKey(" abc"), new LenientStringKey(new StringBuilder("ABC ")));
+
+        assertNotEquals(new LenientStringKey("ab c"), new LenientStringKey("abc"));
+        assertNotEquals(new LenientStringKey(""), new LenientStringKey("abc"));
+        assertNotEquals(new LenientStringKey("abc"), "abc");
+    }
+
+    @Test
+    public void hashMapTest() {
+        Map<LenientStringKey, Integer> counts = new HashMap<>();
+
+        for (String string : new String[] {" US", "us ", "Us", "UK", null, "", "  "}) {
+            counts.merge(new LenientStringKey(string), 1, Integer::sum);
+        }
+
+        assertEquals(3, counts.size());
+        assertEquals(Integer.valueOf(3), counts.get(new LenientStringKey("us")));
+        assertEquals(Integer.valueOf(1), counts.get(new LenientStringKey("uk")));
+        assertEquals(Integer.valueOf(3), counts.get(new LenientStringKey("\t")));
+    }
+
+    @Test
+    public void getCharsTest() {
+        StringBuilder builder = new StringBuilder(" abc ");
+
+        assertEquals(builder, new LenientStringKey(builder).getChars());
+        assertEquals(" abc ", new LenientStringKey(builder).toString());
+        assertEquals("null", new LenientStringKey(null).toString());
+    }
+}
@@ -0,0 +1,140 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems.collections;
+
+import com.shaiksphere.mindsmine.jems.StringHelper;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class LenientStringMapTest {
+
+    @Test
+    public void putTest() {
+        LenientStringMap<Integer> map = new LenientStringMap<>();
+
+        assertTrue(map.isEmpty());
+
+        assertNull(map.put(" US", 1));
+        assertEquals(Integer.valueOf(1), map.put("us ", 2));
+        assertNull(map.put(null, 3));
+        assertEquals(Integer.valueOf(3), map.put("  ", 4));
+
+        assertEquals(2, map.size());
+        assertEquals(Integer.valueOf(2), map.get("Us"));
+        assertEquals(Integer.valueOf(4), map.get(""));
+        assertEquals(" US", map.getKey("us"));
+        assertNull(map.getKey("\t"));
+        assertNull(map.get("UK"));
+
+        assertTrue(map.containsKey(new StringBuilder("uS")));
+        assertFalse(map.containsKey("u s"));
+    }
+
+    @Test
+    public void putIfAbsentTest() {
+        LenientStringMap<String> map = new LenientStringMap<>(0);
+
+        assertNull(map.putIfAbsent("Madam", "first"));
+        assertEquals("first", map.putIfAbsent(" MADAM ", "second"));
+
+        assertEquals(1, map.size());
+        assertEquals("first", map.get("madam"));
+    }
+
+    @Test
+    public void removeTest() {
+        LenientStringMap<Integer> map = new LenientStringMap<>(4, 0.9f);
+
+        for (int i = 0; i < 1000; i++) {
+            map.put("Key" + i, i);
+        }
+
+        for (int i = 0; i < 1000; i += 2) {
+            assertEquals(Integer.valueOf(i), map.remove(" key" + i));
+        }
+
+        assertNull(map.remove("key0"));
+        assertEquals(500, map.size());
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals((i % 2 == 0) ? null : Integer.valueOf(i), map.get("KEY" + i));
+        }
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertNull(map.get("key1"));
+    }
+
+    @Test
+    public void deduplicationTest() {
+        Random random = new Random(5);
+
+        List<String> strings = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder builder = new StringBuilder();
+
+            builder.append(random.nextBoolean() ? " " : "");
+
+            for (int length = random.nextInt(3); length > 0; length--) {
+                builder.append("aAbB".charAt(random.nextInt(4)));
+            }
+
+            strings.add(builder.append(random.nextBoolean() ? " " : "").toString());
+        }
+
+        LenientStringMap<Boolean> map = new LenientStringMap<>();
+
+        strings.forEach(string -> map.putIfAbsent(string, Boolean.TRUE));
+
+        List<String> distinct = new ArrayList<>();
+
+        for (String string : strings) {
+            if (distinct.stream().noneMatch(other -> StringHelper.areEqual(other, string, true))) {
+                distinct.add(string);
+            }
+        }
+
+        assertEquals(distinct.size(), map.size());
+
+        List<CharSequence> keys = new ArrayList<>();
+
+        map.forEach((key, value) -> keys.add(key));
+
+        assertEquals(distinct.size(), keys.size());
+        assertTrue(keys.containsAll(distinct));
+    }
+
+    @Test
+    public void constructorExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new LenientStringMap<>(-1));
+        assertThrows(IllegalArgumentException.class, () -> new LenientStringMap<>(16, 0f));
+        assertThrows(IllegalArgumentException.class, () -> new LenientStringMap<>(16, 1f));
+        assertThrows(IllegalArgumentException.class, () -> new LenientStringMap<>(16, Float.NaN));
+    }
+}
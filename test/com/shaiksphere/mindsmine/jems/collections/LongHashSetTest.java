@@ -0,0 +1,126 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems.collections;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class LongHashSetTest {
+
+    @Test
+    public void addTest() {
+        LongHashSet set = new LongHashSet();
+
+        assertTrue(set.isEmpty());
+
+        assertTrue(set.add(42L));
+        assertFalse(set.add(42L));
+        assertTrue(set.add(0L));
+        assertFalse(set.add(0L));
+        assertTrue(set.add(-1L));
+        assertTrue(set.add(Long.MIN_VALUE));
+        assertTrue(set.add(Long.MAX_VALUE));
+
+        assertEquals(5, set.size());
+        assertTrue(set.contains(0L));
+        assertTrue(set.contains(Long.MIN_VALUE));
+        assertFalse(set.contains(1L));
+
+        long[] values = set.toArray();
+
+        Arrays.sort(values);
+
+        assertArrayEquals(new long[] {Long.MIN_VALUE, -1L, 0L, 42L, Long.MAX_VALUE}, values);
+    }
+
+    @Test
+    public void removeTest() {
+        LongHashSet set = new LongHashSet(0, 0.9f);
+
+        assertFalse(set.remove(0L));
+
+        for (int i = 0; i < 1000; i++) {
+            set.add(i);
+        }
+
+        for (int i = 0; i < 1000; i += 2) {
+            assertTrue(set.remove(i));
+            assertFalse(set.remove(i));
+        }
+
+        assertEquals(500, set.size());
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 1, set.contains(i));
+        }
+
+        set.clear();
+
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(1L));
+        assertEquals(0, set.toArray().length);
+    }
+
+    @Test
+    public void equivalenceTest() {
+        Random random = new Random(42);
+
+        LongHashSet set = new LongHashSet(4);
+        Set<Long> expected = new HashSet<>();
+
+        for (int i = 0; i < 200000; i++) {
+            long value = (random.nextInt(2000) - 1000) * 0x100000001L;
+
+            switch (random.nextInt(3)) {
+                case 0:
+                    assertEquals(expected.add(value), set.add(value));
+                    break;
+                case 1:
+                    assertEquals(expected.remove(value), set.remove(value));
+                    break;
+                default:
+                    assertEquals(expected.contains(value), set.contains(value));
+            }
+
+            assertEquals(expected.size(), set.size());
+        }
+
+        Set<Long> actual = new HashSet<>();
+
+        set.forEach(value -> assertTrue(actual.add(value)));
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void exceptionsTest() {
+        assertThrows(IllegalArgumentException.class, () -> new LongHashSet(-1));
+        assertThrows(IllegalArgumentException.class, () -> new LongHashSet(16, 0f));
+        assertThrows(IllegalArgumentException.class, () -> new LongHashSet(16, 1f));
+        assertThrows(IllegalArgumentException.class, () -> new LongHashSet(16, Float.NaN));
+    }
+}
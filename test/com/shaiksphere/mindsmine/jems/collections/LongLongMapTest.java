@@ -0,0 +1,131 @@
+/*
+Copyright 2008-present Shaiksphere, Inc.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+ */
+
+package com.shaiksphere.mindsmine.jems.collections;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class LongLongMapTest {
+
+    @Test
+    public void putTest() {
+        LongLongMap map = new LongLongMap();
+
+        assertTrue(map.isEmpty());
+
+        assertTrue(map.put(7L, 1L));
+        assertFalse(map.put(7L, 2L));
+        assertTrue(map.put(0L, 3L));
+        assertFalse(map.put(0L, 4L));
+        assertTrue(map.put(Long.MIN_VALUE, Long.MAX_VALUE));
+
+        assertEquals(3, map.size());
+        assertEquals(2L, map.get(7L, -1L));
+        assertEquals(4L, map.get(0L, -1L));
+        assertEquals(Long.MAX_VALUE, map.get(Long.MIN_VALUE, -1L));
+        assertEquals(-1L, map.get(8L, -1L));
+
+        assertTrue(map.containsKey(0L));
+        assertFalse(map.containsKey(8L));
+
+        long[] keys = map.getKeys();
+
+        Arrays.sort(keys);
+
+        assertArrayEquals(new long[] {Long.MIN_VALUE, 0L, 7L}, keys);
+    }
+
+    @Test
+    public void removeTest() {
+        LongLongMap map = new LongLongMap(0, 0.9f);
+
+        assertFalse(map.remove(0L));
+
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, -i);
+        }
+
+        for (int i = 0; i < 1000; i += 2) {
+            assertTrue(map.remove(i));
+            assertFalse(map.remove(i));
+        }
+
+        assertEquals(500, map.size());
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals((i % 2 == 1) ? -i : 1, map.get(i, 1L));
+        }
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(1L));
+        assertEquals(0, map.getKeys().length);
+    }
+
+    @Test
+    public void equivalenceTest() {
+        Random random = new Random(42);
+
+        LongLongMap map = new LongLongMap(4);
+        Map<Long, Long> expected = new HashMap<>();
+
+        for (int i = 0; i < 200000; i++) {
+            long key = (random.nextInt(2000) - 1000) * 0x100000001L;
+
+            switch (random.nextInt(3)) {
+                case 0:
+                    long value = random.nextLong();
+
+                    assertEquals(expected.put(key, value) == null, map.put(key, value));
+                    break;
+                case 1:
+                    assertEquals(expected.remove(key) != null, map.remove(key));
+                    break;
+                default:
+                    assertEquals(expected.getOrDefault(key, 0L), (Long) map.get(key, 0L));
+            }
+
+            assertEquals(expected.size(), map.size());
+        }
+
+        Map<Long, Long> actual = new HashMap<>();
+
+        map.forEach((key, value) -> assertNull(actual.put(key, value)));
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void exceptionsTest() {
+        assertThrows(IllegalArgumentException.class, () -> new LongLongMap(-1));
+        assertThrows(IllegalArgumentException.class, () -> new LongLongMap(16, 0f));
+        assertThrows(IllegalArgumentException.class, () -> new LongLongMap(16, 1f));
+        assertThrows(IllegalArgumentException.class, () -> new LongLongMap(16, Float.NaN));
+    }
+}